@@ -46,8 +46,9 @@ const LoginForm = () => {
       }
       
       const token = loginData.token;
+      const refreshToken = loginData.refresh_token;
       
-      if (!token) {
+      if (!token || !refreshToken) {
         throw new Error("No token received");
       }
       
@@ -66,7 +67,7 @@ const LoginForm = () => {
         throw new Error(userData.message || "Failed to fetch user data");
       }
       
-      setAuth(userData, token);
+      setAuth(userData, token, refreshToken);
       
       toast.success("Login successful", { theme: "dark" });
       
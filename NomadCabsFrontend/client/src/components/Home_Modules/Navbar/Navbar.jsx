@@ -1,11 +1,11 @@
 import { Link } from "react-router-dom";
 import logo from "/logo-dark.png";
 import { useAuthStore } from "../../../store/authStore";
+import { logout } from "../../../services/authFetch";
 import { toast } from "react-toastify";
 
 const Navbar = () => {
   const user = useAuthStore((s) => s.user);
-  const clearUser = useAuthStore((s) => s.clearUser);
 
   return (
     <header className="w-full bg-[#0f0f0f] text-white fixed top-0 z-50 shadow-md">
@@ -42,7 +42,7 @@ const Navbar = () => {
 
               <button
                 onClick={() => {
-                  clearUser();
+                  logout();
                   toast.info("Logged out");
                 }}
                 className="primary-btn-nav"
@@ -12,7 +12,7 @@ import {
   IndianRupee,
   CreditCard,
 } from "lucide-react";
-import { useAuthStore } from "../../store/authStore";
+import { logout } from "../../services/authFetch";
 
 const Sidebar = ({ children, activeSection, setActiveSection, navItems }) => {
   const avatar = {
@@ -20,9 +20,8 @@ const Sidebar = ({ children, activeSection, setActiveSection, navItems }) => {
     name: "Kick Buttowski",
   };
   const navigate = useNavigate();
-  const clearUser = useAuthStore((s) => s.clearUser);
   const handleLogout = () => {
-    clearUser();
+    logout();
     toast.success("Logged out");
     navigate("/auth");
   };
@@ -0,0 +1,108 @@
+import { useAuthStore } from "../store/authStore";
+
+const BASE_URL = import.meta.env.VITE_BASE_URL || "http://localhost:8080/api/v1";
+
+// Renew this long before the access token expires, so requests in flight don't race it.
+const REFRESH_MARGIN_MS = 60 * 1000;
+
+let refreshInFlight = null;
+
+const expiresAt = (token) => {
+  try {
+    const payload = JSON.parse(atob(token.split(".")[1].replace(/-/g, "+").replace(/_/g, "/")));
+    return payload.exp ? payload.exp * 1000 : null;
+  } catch {
+    return null;
+  }
+};
+
+/**
+ * Gets a new access token with the stored refresh token. Concurrent callers share one
+ * request. When the session can't be renewed the user is signed out, which sends
+ * protected routes back to /auth.
+ */
+export const refreshAccessToken = () => {
+  if (!refreshInFlight) {
+    refreshInFlight = (async () => {
+      const { refreshToken, setToken, clearUser } = useAuthStore.getState();
+      if (!refreshToken) {
+        clearUser();
+        return null;
+      }
+      try {
+        const response = await fetch(`${BASE_URL}/auth/refresh`, {
+          method: "POST",
+          headers: { "Content-Type": "application/json" },
+          body: JSON.stringify({ refresh_token: refreshToken }),
+        });
+        if (response.status === 401) {
+          clearUser();
+          return null;
+        }
+        if (!response.ok) {
+          // Auth service unavailable: keep the session and let the caller fail this request.
+          return null;
+        }
+        const data = await response.json();
+        setToken(data.token);
+        return data.token;
+      } catch (error) {
+        console.error("Token refresh failed:", error);
+        return null;
+      }
+    })().finally(() => {
+      refreshInFlight = null;
+    });
+  }
+  return refreshInFlight;
+};
+
+const currentToken = async () => {
+  const token = useAuthStore.getState().token;
+  if (!token) return null;
+  const exp = expiresAt(token);
+  if (exp && exp - Date.now() < REFRESH_MARGIN_MS) {
+    return (await refreshAccessToken()) || token;
+  }
+  return token;
+};
+
+const send = (endpoint, options, token) =>
+  fetch(`${BASE_URL}${endpoint}`, {
+    ...options,
+    headers: {
+      "Content-Type": "application/json",
+      ...(token && { Authorization: `Bearer ${token}` }),
+      ...options.headers,
+    },
+  });
+
+/**
+ * fetch() against the API gateway with the access token attached. The token is renewed
+ * shortly before it expires, and a 401 is retried once with a renewed token.
+ */
+export const authFetch = async (endpoint, options = {}) => {
+  const token = await currentToken();
+  const response = await send(endpoint, options, token);
+  if (response.status !== 401 || !token) {
+    return response;
+  }
+  const renewed = await refreshAccessToken();
+  return renewed ? send(endpoint, options, renewed) : response;
+};
+
+/** Ends the session on the server as well, so the refresh token can't be used again. */
+export const logout = async () => {
+  const { refreshToken, clearUser } = useAuthStore.getState();
+  clearUser();
+  if (!refreshToken) return;
+  try {
+    await fetch(`${BASE_URL}/auth/logout`, {
+      method: "POST",
+      headers: { "Content-Type": "application/json" },
+      body: JSON.stringify({ refresh_token: refreshToken }),
+    });
+  } catch (error) {
+    console.error("Logout request failed:", error);
+  }
+};
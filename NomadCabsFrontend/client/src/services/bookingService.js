@@ -1,21 +1,8 @@
-import { useAuthStore } from "../store/authStore";
-
-const BASE_URL =
-  import.meta.env.VITE_BASE_URL || "http://localhost:8080/api/v1";
-
-const getToken = () => useAuthStore.getState().token;
+import { authFetch } from "./authFetch";
 
 const apiCall = async (endpoint, options = {}) => {
-  const token = getToken();
   try {
-    const response = await fetch(`${BASE_URL}${endpoint}`, {
-      ...options,
-      headers: {
-        "Content-Type": "application/json",
-        ...(token && { Authorization: `Bearer ${token}` }),
-        ...options.headers,
-      },
-    });
+    const response = await authFetch(endpoint, options);
 
     if (!response.ok) {
       const error = await response
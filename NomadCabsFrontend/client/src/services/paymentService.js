@@ -1,28 +1,10 @@
-import { useAuthStore } from "../store/authStore";
-
-const BASE_URL = import.meta.env.VITE_BASE_URL || "http://localhost:8080/api/v1";
-
-const getToken = () => useAuthStore.getState().token;
-
-const getAuthHeaders = () => {
-  const token = getToken();
-  return {
-    "Content-Type": "application/json",
-    ...(token && { Authorization: `Bearer ${token}` }),
-  };
-};
+import { authFetch } from "./authFetch";
 
 const apiCall = async (endpoint, options = {}) => {
   try {
     console.log(`📤 API Call: ${options.method || 'GET'} ${endpoint}`, options.body ? JSON.parse(options.body) : '');
     
-    const response = await fetch(`${BASE_URL}${endpoint}`, {
-      ...options,
-      headers: {
-        ...getAuthHeaders(),
-        ...options.headers,
-      },
-    });
+    const response = await authFetch(endpoint, options);
 
     console.log(`📥 Response status: ${response.status}`);
 
@@ -2,6 +2,7 @@ import { create } from "zustand";
 
 const STORAGE_KEY = "nomad_auth_user";
 const TOKEN_KEY = "nomad_auth_token";
+const REFRESH_TOKEN_KEY = "nomad_auth_refresh_token";
 
 const getStoredUser = () => {
   try {
@@ -20,14 +21,24 @@ const getStoredToken = () => {
   }
 };
 
+const getStoredRefreshToken = () => {
+  try {
+    return localStorage.getItem(REFRESH_TOKEN_KEY);
+  } catch {
+    return null;
+  }
+};
+
 export const useAuthStore = create((set, get) => ({
   user: getStoredUser(),
   token: getStoredToken(),
+  refreshToken: getStoredRefreshToken(),
 
-  setAuth: (user, token) => {
+  setAuth: (user, token, refreshToken) => {
     localStorage.setItem(STORAGE_KEY, JSON.stringify(user));
     localStorage.setItem(TOKEN_KEY, token);
-    set({ user, token });
+    localStorage.setItem(REFRESH_TOKEN_KEY, refreshToken);
+    set({ user, token, refreshToken });
   },
 
   setUser: (user) => {
@@ -43,12 +54,13 @@ export const useAuthStore = create((set, get) => ({
   clearUser: () => {
     localStorage.removeItem(STORAGE_KEY);
     localStorage.removeItem(TOKEN_KEY);
-    set({ user: null, token: null });
+    localStorage.removeItem(REFRESH_TOKEN_KEY);
+    set({ user: null, token: null, refreshToken: null });
   },
 
   isAuthenticated: () => {
     const state = get();
-    return !!(state.user && state.token);
+    return !!(state.user && state.token && state.refreshToken);
   },
 
   hasRole: (role) => {
@@ -1,10 +1,7 @@
 package com.cts.api_gateway.filter;
 
+import com.cts.api_gateway.security.JwtVerifier;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.http.HttpHeaders;
@@ -15,25 +12,19 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.nio.charset.StandardCharsets;
-import java.security.Key;
 import java.util.Date;
 
 @Component
 public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAuthenticationFilter.Config> {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    /** Exchange attribute holding the authenticated user id, read by the access log. */
+    public static final String USER_ID_ATTRIBUTE = "com.cts.api_gateway.userId";
 
-    private Key signingKey;
+    private final JwtVerifier jwtVerifier;
 
-    public JwtAuthenticationFilter() {
+    public JwtAuthenticationFilter(JwtVerifier jwtVerifier) {
         super(Config.class);
-    }
-
-    @PostConstruct
-    public void init() {
-        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.jwtVerifier = jwtVerifier;
     }
 
     @Override
@@ -54,11 +45,7 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
             String token = authHeader.substring(7);
 
             try {
-                Claims claims = Jwts.parserBuilder()
-                        .setSigningKey(this.signingKey)
-                        .build()
-                        .parseClaimsJws(token)
-                        .getBody();
+                Claims claims = jwtVerifier.parseClaims(token);
 
                 String userId = claims.getSubject();
                 String role = claims.get("role", String.class);
@@ -70,6 +57,8 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
                     return onError(exchange, "Token expired", HttpStatus.UNAUTHORIZED);
                 }
 
+                exchange.getAttributes().put(USER_ID_ATTRIBUTE, userId);
+
                 ServerHttpRequest modifiedRequest = request.mutate()
                         .header("X-User-Id", userId)
                         .header("X-User-Role", role)
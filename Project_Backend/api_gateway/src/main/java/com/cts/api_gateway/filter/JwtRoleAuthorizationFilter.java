@@ -0,0 +1,117 @@
+package com.cts.api_gateway.filter;
+
+import com.cts.api_gateway.security.JwtVerifier;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * JwtAuthenticationFilter + RoleAuthorizationFilter in one pass.
+ * The token is verified once by {@link JwtVerifier}, the role claim is mapped to a
+ * {@link UserRole} bit and checked against the route's mask compiled when the route is built.
+ */
+@Component
+public class JwtRoleAuthorizationFilter extends AbstractGatewayFilterFactory<JwtRoleAuthorizationFilter.Config> {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtVerifier jwtVerifier;
+
+    public JwtRoleAuthorizationFilter(JwtVerifier jwtVerifier) {
+        super(Config.class);
+        this.jwtVerifier = jwtVerifier;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        final int allowedMask = UserRole.maskOf(config.getAllowedRoles());
+        final String deniedMessage = "Access denied. Required roles: " + config.getAllowedRoles();
+
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (request.getMethod() == HttpMethod.OPTIONS) {
+                exchange.getResponse().setStatusCode(HttpStatus.OK);
+                return Mono.empty();
+            }
+
+            String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+            if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+                return unauthorized(exchange, "Missing Authorization header");
+            }
+
+            Claims claims;
+            try {
+                claims = jwtVerifier.parseClaims(authHeader.substring(BEARER_PREFIX.length()));
+            } catch (ExpiredJwtException e) {
+                return unauthorized(exchange, "Token expired");
+            } catch (MalformedJwtException e) {
+                return unauthorized(exchange, "Invalid token format");
+            } catch (SignatureException e) {
+                return unauthorized(exchange, "Invalid token signature");
+            } catch (Exception e) {
+                return unauthorized(exchange, "Invalid token");
+            }
+
+            String role = claims.get("role", String.class);
+            UserRole userRole = UserRole.fromClaim(role);
+            if (userRole == null) {
+                return forbidden(exchange, "Role not found in token");
+            }
+            if ((allowedMask & userRole.mask()) == 0) {
+                return forbidden(exchange, deniedMessage);
+            }
+
+            String userId = claims.getSubject();
+            exchange.getAttributes().put(JwtAuthenticationFilter.USER_ID_ATTRIBUTE, userId);
+
+            ServerHttpRequest modifiedRequest = request.mutate()
+                    .header("X-User-Id", userId)
+                    .header("X-User-Role", role)
+                    .build();
+
+            return chain.filter(exchange.mutate().request(modifiedRequest).build());
+        };
+    }
+
+    private Mono<Void> unauthorized(ServerWebExchange exchange, String error) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        response.getHeaders().add("Access-Control-Allow-Origin", "*");
+        response.getHeaders().add("Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, OPTIONS");
+        response.getHeaders().add("Access-Control-Allow-Headers", "Authorization, Content-Type, X-User-Id");
+        response.getHeaders().add("X-Error-Reason", error);
+        return response.setComplete();
+    }
+
+    private Mono<Void> forbidden(ServerWebExchange exchange, String error) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.FORBIDDEN);
+        response.getHeaders().add("X-Error-Message", error);
+        return response.setComplete();
+    }
+
+    public static class Config {
+        private List<String> allowedRoles;
+
+        public List<String> getAllowedRoles() {
+            return allowedRoles;
+        }
+
+        public void setAllowedRoles(List<String> allowedRoles) {
+            this.allowedRoles = allowedRoles;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.cts.api_gateway.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single-flight coalescing for identical concurrent GET requests.
+ * The first request for a key (route + path + query + Accept + auth scope) goes downstream;
+ * requests arriving while it is in flight wait for it and receive a copy of its JSON response.
+ * If the leader fails, the waiters fail with the same error instead of each retrying downstream.
+ * Nothing is cached once the leader completes.
+ *
+ * Must be listed after the JWT filter so the X-User-Id / X-User-Role headers are present.
+ */
+@Slf4j
+@Component
+public class RequestCoalescingFilter extends AbstractGatewayFilterFactory<RequestCoalescingFilter.Config> {
+
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    private final Map<String, Sinks.One<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter leaderRequests;
+    private final Counter sharedRequests;
+    private final Counter fallbackRequests;
+    private final AtomicLong leaderCount = new AtomicLong();
+    private final AtomicLong sharedCount = new AtomicLong();
+
+    public RequestCoalescingFilter(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.leaderRequests = Counter.builder("gateway.coalescing.requests")
+                .tag("outcome", "leader")
+                .description("GET requests forwarded downstream by the coalescing filter")
+                .register(meterRegistry);
+        this.sharedRequests = Counter.builder("gateway.coalescing.requests")
+                .tag("outcome", "shared")
+                .description("GET requests answered from an identical in-flight request")
+                .register(meterRegistry);
+        this.fallbackRequests = Counter.builder("gateway.coalescing.requests")
+                .tag("outcome", "fallback")
+                .description("Waiting requests that had to go downstream because the leader response was not shareable")
+                .register(meterRegistry);
+        Gauge.builder("gateway.coalescing.collapse.ratio", this, RequestCoalescingFilter::collapseRatio)
+                .description("Share of coalesced GET requests that were served from an in-flight response")
+                .register(meterRegistry);
+        Gauge.builder("gateway.coalescing.inflight", inFlight, Map::size)
+                .description("Distinct coalescing keys currently in flight")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+
+            if (request.getMethod() != HttpMethod.GET || request.getHeaders().containsKey(HttpHeaders.RANGE)) {
+                return chain.filter(exchange);
+            }
+
+            String key = coalescingKey(exchange, config);
+            Sinks.One<SharedResponse> sink = Sinks.one();
+            Sinks.One<SharedResponse> existing = inFlight.putIfAbsent(key, sink);
+
+            if (existing != null) {
+                return existing.asMono()
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .flatMap(shared -> {
+                            if (shared.isPresent()) {
+                                sharedRequests.increment();
+                                sharedCount.incrementAndGet();
+                                return writeShared(exchange, shared.get());
+                            }
+                            fallbackRequests.increment();
+                            return chain.filter(exchange);
+                        });
+            }
+
+            leaderRequests.increment();
+            leaderCount.incrementAndGet();
+
+            ServerHttpResponseDecorator capturingResponse = new ServerHttpResponseDecorator(exchange.getResponse()) {
+                @Override
+                public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                    if (!isShareable(getHeaders().getContentType())) {
+                        release(key, sink);
+                        return super.writeWith(body);
+                    }
+
+                    return DataBufferUtils.join(Flux.from(body))
+                            .map(RequestCoalescingFilter::toBytes)
+                            .defaultIfEmpty(EMPTY_BODY)
+                            .flatMap(bytes -> {
+                                HttpHeaders headers = new HttpHeaders();
+                                headers.addAll(getHeaders());
+                                publish(key, sink, new SharedResponse(getStatusCode(), headers, bytes));
+                                return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                            });
+                }
+
+                @Override
+                public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+                    return writeWith(Flux.from(body).flatMapSequential(p -> p));
+                }
+            };
+
+            return chain.filter(exchange.mutate().response(capturingResponse).build())
+                    .doOnError(error -> fail(key, sink, error))
+                    .doFinally(signal -> release(key, sink));
+        };
+    }
+
+    private String coalescingKey(ServerWebExchange exchange, Config config) {
+        ServerHttpRequest request = exchange.getRequest();
+        HttpHeaders headers = request.getHeaders();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+
+        String scope = config.getScope() == Scope.ROLE
+                ? headers.getFirst("X-User-Role")
+                : headers.getFirst("X-User-Id");
+        if (scope == null) {
+            scope = headers.getFirst(HttpHeaders.AUTHORIZATION);
+        }
+
+        StringBuilder key = new StringBuilder(128)
+                .append(route != null ? route.getId() : "")
+                .append('|').append(scope)
+                .append('|').append(request.getPath().value());
+        String query = request.getURI().getRawQuery();
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        String accept = headers.getFirst(HttpHeaders.ACCEPT);
+        if (accept != null) {
+            key.append('|').append(accept);
+        }
+        return key.toString();
+    }
+
+    private void publish(String key, Sinks.One<SharedResponse> sink, SharedResponse response) {
+        inFlight.remove(key, sink);
+        sink.tryEmitValue(response);
+    }
+
+    private void fail(String key, Sinks.One<SharedResponse> sink, Throwable error) {
+        inFlight.remove(key, sink);
+        sink.tryEmitError(error);
+    }
+
+    private void release(String key, Sinks.One<SharedResponse> sink) {
+        inFlight.remove(key, sink);
+        sink.tryEmitEmpty();
+    }
+
+    private Mono<Void> writeShared(ServerWebExchange exchange, SharedResponse shared) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(shared.status());
+        shared.headers().forEach((name, values) -> {
+            if (isCopyable(name) && !response.getHeaders().containsKey(name)) {
+                response.getHeaders().addAll(name, values);
+            }
+        });
+        response.getHeaders().setContentLength(shared.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(shared.body())));
+    }
+
+    // Only JSON bodies are buffered and fanned out; documents and streams pass straight through.
+    private static boolean isShareable(MediaType contentType) {
+        return contentType != null && (MediaType.APPLICATION_JSON.isCompatibleWith(contentType)
+                || contentType.getSubtype().endsWith("+json"));
+    }
+
+    // CORS headers are computed per exchange; framing headers are recomputed for the copy.
+    private static boolean isCopyable(String headerName) {
+        return !headerName.regionMatches(true, 0, "Access-Control-", 0, 15)
+                && !HttpHeaders.TRANSFER_ENCODING.equalsIgnoreCase(headerName)
+                && !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(headerName)
+                && !HttpHeaders.CONNECTION.equalsIgnoreCase(headerName);
+    }
+
+    private static byte[] toBytes(DataBuffer buffer) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    private double collapseRatio() {
+        long shared = sharedCount.get();
+        long total = shared + leaderCount.get();
+        return total == 0 ? 0.0 : (double) shared / total;
+    }
+
+    private record SharedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+    }
+
+    public enum Scope {
+        /** Responses are shared only between requests from the same user. */
+        USER,
+        /** Responses are shared between all callers with the same role (admin reports). */
+        ROLE
+    }
+
+    @Data
+    public static class Config {
+        private Scope scope = Scope.USER;
+    }
+}
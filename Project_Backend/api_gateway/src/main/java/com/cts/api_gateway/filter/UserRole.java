@@ -0,0 +1,46 @@
+package com.cts.api_gateway.filter;
+
+/**
+ * Roles issued by AUTH-SERVICE, each mapped to one bit so a route's allowed roles
+ * can be precompiled into a mask and checked with a single AND.
+ */
+public enum UserRole {
+    RIDER,
+    DRIVER,
+    ADMIN;
+
+    private static final UserRole[] VALUES = values();
+
+    private final int mask = 1 << ordinal();
+
+    public int mask() {
+        return mask;
+    }
+
+    /**
+     * Case-insensitive lookup without allocating; returns null for unknown roles.
+     */
+    public static UserRole fromClaim(String role) {
+        if (role == null) {
+            return null;
+        }
+        for (UserRole candidate : VALUES) {
+            if (candidate.name().equalsIgnoreCase(role)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    public static int maskOf(Iterable<String> roles) {
+        int mask = 0;
+        for (String role : roles) {
+            UserRole userRole = fromClaim(role);
+            if (userRole == null) {
+                throw new IllegalArgumentException("Unknown role in route configuration: " + role);
+            }
+            mask |= userRole.mask();
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,18 @@
+package com.cts.api_gateway.logging;
+
+/**
+ * One gateway request as written to the access log.
+ * upstreamMillis is time until response headers were committed; durationMillis includes the body.
+ */
+public record AccessLogEntry(
+        long timestampMillis,
+        String method,
+        String path,
+        String routeId,
+        String userId,
+        String clientAddress,
+        int status,
+        long upstreamMillis,
+        long durationMillis,
+        long bytes) {
+}
@@ -0,0 +1,137 @@
+package com.cts.api_gateway.logging;
+
+import com.cts.api_gateway.filter.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Structured access log for every routed request: route, user, status, upstream latency and bytes.
+ * Sampled (errors are always kept by default) and handed to {@link AccessLogWriter} asynchronously.
+ */
+@Component
+public class AccessLogFilter implements GlobalFilter, Ordered {
+
+    // Client went away before a status was written.
+    private static final int CLIENT_CLOSED_REQUEST = 499;
+    private static final int INTERNAL_SERVER_ERROR = 500;
+
+    private final AccessLogWriter writer;
+    private final boolean enabled;
+    private final double sampleRate;
+    private final boolean alwaysLogErrors;
+    private final Counter sampledOut;
+
+    public AccessLogFilter(AccessLogWriter writer,
+                           MeterRegistry meterRegistry,
+                           @Value("${gateway.access-log.enabled:true}") boolean enabled,
+                           @Value("${gateway.access-log.sample-rate:1.0}") double sampleRate,
+                           @Value("${gateway.access-log.always-log-errors:true}") boolean alwaysLogErrors) {
+        this.writer = writer;
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.alwaysLogErrors = alwaysLogErrors;
+        this.sampledOut = Counter.builder("gateway.access.log.entries")
+                .tag("outcome", "sampled_out")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!enabled) {
+            return chain.filter(exchange);
+        }
+
+        long start = System.nanoTime();
+        AtomicLong committedAt = new AtomicLong();
+        AtomicLong bytes = new AtomicLong();
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.beforeCommit(() -> {
+            committedAt.compareAndSet(0, System.nanoTime());
+            return Mono.empty();
+        });
+
+        ServerHttpResponseDecorator countingResponse = new ServerHttpResponseDecorator(response) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                return super.writeWith(Flux.from(body)
+                        .doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount())));
+            }
+
+            @Override
+            public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+                return super.writeAndFlushWith(Flux.from(body)
+                        .map(part -> Flux.from(part)
+                                .doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount()))));
+            }
+        };
+
+        return chain.filter(exchange.mutate().response(countingResponse).build())
+                .doFinally(signal -> record(exchange, signal, start, committedAt.get(), bytes.get()));
+    }
+
+    private void record(ServerWebExchange exchange, SignalType signal, long start, long committedAt, long bytes) {
+        int status = status(exchange.getResponse().getStatusCode(), signal);
+        boolean error = status >= 400;
+        if (!(alwaysLogErrors && error) && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            sampledOut.increment();
+            return;
+        }
+
+        long end = System.nanoTime();
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        InetSocketAddress remote = request.getRemoteAddress();
+
+        writer.submit(new AccessLogEntry(
+                System.currentTimeMillis(),
+                request.getMethod().name(),
+                request.getPath().value(),
+                route != null ? route.getId() : null,
+                exchange.getAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE),
+                remote != null && remote.getAddress() != null ? remote.getAddress().getHostAddress() : null,
+                status,
+                TimeUnit.NANOSECONDS.toMillis((committedAt != 0 ? committedAt : end) - start),
+                TimeUnit.NANOSECONDS.toMillis(end - start),
+                bytes));
+    }
+
+    // On error the exception handler writes the real status after this filter has finished,
+    // so anything that is not already an error status is recorded as a 500.
+    private static int status(HttpStatusCode statusCode, SignalType signal) {
+        if (signal == SignalType.ON_ERROR) {
+            return statusCode != null && statusCode.isError() ? statusCode.value() : INTERNAL_SERVER_ERROR;
+        }
+        if (statusCode != null) {
+            return statusCode.value();
+        }
+        return signal == SignalType.CANCEL ? CLIENT_CLOSED_REQUEST : 200;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
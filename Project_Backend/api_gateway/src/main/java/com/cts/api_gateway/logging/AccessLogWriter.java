@@ -0,0 +1,153 @@
+package com.cts.api_gateway.logging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes access log entries off the Netty event loop. Producers only offer into a
+ * bounded ring buffer; when it is full the entry is dropped and counted instead of blocking.
+ */
+@Slf4j
+@Component
+public class AccessLogWriter {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("com.cts.api_gateway.access");
+    private static final int DRAIN_BATCH = 256;
+
+    private final BlockingQueue<AccessLogEntry> buffer;
+    private final Counter written;
+    private final Counter dropped;
+    private Thread worker;
+    private volatile boolean running = true;
+
+    public AccessLogWriter(@Value("${gateway.access-log.buffer-size:8192}") int bufferSize,
+                           MeterRegistry meterRegistry) {
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.written = Counter.builder("gateway.access.log.entries")
+                .tag("outcome", "written")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("gateway.access.log.entries")
+                .tag("outcome", "dropped")
+                .description("Access log entries dropped because the buffer was full")
+                .register(meterRegistry);
+        Gauge.builder("gateway.access.log.buffer.size", buffer, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = new Thread(this::drainLoop, "access-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(2));
+        flush(new ArrayList<>());
+    }
+
+    /**
+     * Never blocks the caller.
+     */
+    public void submit(AccessLogEntry entry) {
+        if (!buffer.offer(entry)) {
+            dropped.increment();
+        }
+    }
+
+    private void drainLoop() {
+        List<AccessLogEntry> batch = new ArrayList<>(DRAIN_BATCH);
+        while (running) {
+            try {
+                AccessLogEntry first = buffer.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, DRAIN_BATCH - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("Failed to write access log batch: {}", e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<AccessLogEntry> batch) {
+        buffer.drainTo(batch);
+        write(batch);
+    }
+
+    private void write(List<AccessLogEntry> batch) {
+        StringBuilder line = new StringBuilder(256);
+        for (AccessLogEntry entry : batch) {
+            line.setLength(0);
+            appendJson(line, entry);
+            ACCESS_LOG.info(line.toString());
+            written.increment();
+        }
+    }
+
+    private static void appendJson(StringBuilder out, AccessLogEntry entry) {
+        out.append("{\"ts\":\"").append(Instant.ofEpochMilli(entry.timestampMillis())).append('"');
+        appendField(out, "method", entry.method());
+        appendField(out, "path", entry.path());
+        appendField(out, "route", entry.routeId());
+        appendField(out, "user", entry.userId());
+        appendField(out, "client", entry.clientAddress());
+        out.append(",\"status\":").append(entry.status());
+        out.append(",\"upstream_ms\":").append(entry.upstreamMillis());
+        out.append(",\"duration_ms\":").append(entry.durationMillis());
+        out.append(",\"bytes\":").append(entry.bytes());
+        out.append('}');
+    }
+
+    private static void appendField(StringBuilder out, String name, String value) {
+        out.append(",\"").append(name).append("\":");
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+}
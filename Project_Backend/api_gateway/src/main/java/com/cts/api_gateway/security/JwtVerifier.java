@@ -0,0 +1,73 @@
+package com.cts.api_gateway.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Verifies access tokens with keys derived once at startup.
+ * The key is picked by the token's {@code kid} header, so during a rotation tokens signed with
+ * the previous key stay valid until they expire. Tokens without a kid use the current key.
+ */
+@Component
+public class JwtVerifier {
+
+    private final Key currentKey;
+    private final Map<String, Key> keysById;
+    private final JwtParser parser;
+
+    public JwtVerifier(@Value("${jwt.secret}") String secret,
+                       @Value("${jwt.key-id:default}") String keyId,
+                       @Value("${jwt.previous-key-id:}") String previousKeyId,
+                       @Value("${jwt.previous-secret:}") String previousSecret) {
+        this.currentKey = hmacKey(secret);
+
+        Map<String, Key> keys = new HashMap<>();
+        keys.put(keyId, currentKey);
+        if (StringUtils.hasText(previousKeyId) && StringUtils.hasText(previousSecret)) {
+            keys.put(previousKeyId, hmacKey(previousSecret));
+        }
+        this.keysById = Map.copyOf(keys);
+
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveKey(header.getKeyId());
+                    }
+                })
+                .build();
+    }
+
+    /** Parses and verifies the token; throws the usual JJWT exceptions when it is not valid. */
+    public Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    private Key resolveKey(String keyId) {
+        if (keyId == null) {
+            return currentKey;
+        }
+        Key key = keysById.get(keyId);
+        if (key == null) {
+            throw new SignatureException("Unknown signing key id: " + keyId);
+        }
+        return key;
+    }
+
+    private static Key hmacKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+}
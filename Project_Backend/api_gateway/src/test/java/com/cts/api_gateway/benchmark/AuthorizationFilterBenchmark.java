@@ -0,0 +1,97 @@
+package com.cts.api_gateway.benchmark;
+
+import com.cts.api_gateway.filter.JwtAuthenticationFilter;
+import com.cts.api_gateway.filter.JwtRoleAuthorizationFilter;
+import com.cts.api_gateway.filter.RoleAuthorizationFilter;
+import com.cts.api_gateway.security.JwtVerifier;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the JwtAuthenticationFilter + RoleAuthorizationFilter chain with the single-pass
+ * JwtRoleAuthorizationFilter on an authorized request.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=com.cts.api_gateway.benchmark.AuthorizationFilterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthorizationFilterBenchmark {
+
+    private static final String SECRET = "mySecretKey12345sadsadkjksajdkjsalkdlksalkdmySecretKey12345";
+    private static final GatewayFilterChain TERMINAL = exchange -> Mono.empty();
+
+    private GatewayFilter jwtFilter;
+    private GatewayFilter roleFilter;
+    private GatewayFilter combinedFilter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtVerifier jwtVerifier = new JwtVerifier(SECRET, "k1", "", "");
+        jwtFilter = new JwtAuthenticationFilter(jwtVerifier).apply(new JwtAuthenticationFilter.Config());
+
+        RoleAuthorizationFilter.Config roleConfig = new RoleAuthorizationFilter.Config();
+        roleConfig.setAllowedRoles(List.of("RIDER", "DRIVER"));
+        roleFilter = new RoleAuthorizationFilter().apply(roleConfig);
+
+        JwtRoleAuthorizationFilter.Config combinedConfig = new JwtRoleAuthorizationFilter.Config();
+        combinedConfig.setAllowedRoles(List.of("RIDER", "DRIVER"));
+        combinedFilter = new JwtRoleAuthorizationFilter(jwtVerifier).apply(combinedConfig);
+
+        String token = Jwts.builder()
+                .setSubject("user-123")
+                .claim("role", "DRIVER")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+        authorization = "Bearer " + token;
+    }
+
+    @Benchmark
+    public void twoFilterChain(Blackhole blackhole) {
+        MockServerWebExchange exchange = exchange();
+        jwtFilter.filter(exchange, authenticated -> roleFilter.filter(authenticated, TERMINAL)).block();
+        blackhole.consume(exchange.getResponse().getStatusCode());
+    }
+
+    @Benchmark
+    public void singlePassFilter(Blackhole blackhole) {
+        MockServerWebExchange exchange = exchange();
+        combinedFilter.filter(exchange, TERMINAL).block();
+        blackhole.consume(exchange.getResponse().getStatusCode());
+    }
+
+    private MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/driver/bookings/available")
+                .header(HttpHeaders.AUTHORIZATION, authorization));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AuthorizationFilterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
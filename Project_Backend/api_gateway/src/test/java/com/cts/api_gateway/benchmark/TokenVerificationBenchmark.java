@@ -0,0 +1,85 @@
+package com.cts.api_gateway.benchmark;
+
+import com.cts.api_gateway.security.JwtVerifier;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token verification: a parser built per request (the gateway's previous behaviour) against
+ * JwtVerifier, for tokens signed with the current and with the previous (rotated-out) key.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=com.cts.api_gateway.benchmark.TokenVerificationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenVerificationBenchmark {
+
+    private static final String SECRET = "mySecretKey12345sadsadkjksajdkjsalkdlksalkdmySecretKey12345";
+    private static final String PREVIOUS_SECRET = "previousSecretKeyForJwtTokenGenerationThatIsLongEnough12";
+
+    private Key signingKey;
+    private JwtVerifier verifier;
+    private String currentToken;
+    private String previousToken;
+
+    @Setup
+    public void setUp() {
+        signingKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        verifier = new JwtVerifier(SECRET, "k2", "k1", PREVIOUS_SECRET);
+        currentToken = token(signingKey, "k2");
+        previousToken = token(Keys.hmacShaKeyFor(PREVIOUS_SECRET.getBytes(StandardCharsets.UTF_8)), "k1");
+    }
+
+    @Benchmark
+    public Claims parserPerRequest() {
+        return Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build()
+                .parseClaimsJws(currentToken)
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims verifierCurrentKey() {
+        return verifier.parseClaims(currentToken);
+    }
+
+    @Benchmark
+    public Claims verifierPreviousKey() {
+        return verifier.parseClaims(previousToken);
+    }
+
+    private static String token(Key key, String keyId) {
+        return Jwts.builder()
+                .setHeaderParam("kid", keyId)
+                .setSubject("user-123")
+                .claim("role", "RIDER")
+                .claim("userId", "user-123")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TokenVerificationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
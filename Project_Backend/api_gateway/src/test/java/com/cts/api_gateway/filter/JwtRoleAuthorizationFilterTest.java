@@ -0,0 +1,116 @@
+package com.cts.api_gateway.filter;
+
+import com.cts.api_gateway.security.JwtVerifier;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtRoleAuthorizationFilterTest {
+
+    private static final String SECRET = "testSecretKeyForJwtTokenGenerationThatIsLongEnough123456";
+
+    private GatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        JwtRoleAuthorizationFilter.Config config = new JwtRoleAuthorizationFilter.Config();
+        config.setAllowedRoles(List.of("RIDER", "DRIVER"));
+        filter = new JwtRoleAuthorizationFilter(new JwtVerifier(SECRET, "k1", "", "")).apply(config);
+    }
+
+    @Test
+    void filter_AllowedRole_ForwardsWithUserHeaders() {
+        // Arrange
+        MockServerWebExchange exchange = exchange("Bearer " + token("user123", "driver", SECRET));
+        AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+
+        // Act
+        filter.filter(exchange, ex -> {
+            forwarded.set(ex);
+            return Mono.empty();
+        }).block();
+
+        // Assert
+        assertNotNull(forwarded.get());
+        assertEquals("user123", forwarded.get().getRequest().getHeaders().getFirst("X-User-Id"));
+        assertEquals("driver", forwarded.get().getRequest().getHeaders().getFirst("X-User-Role"));
+    }
+
+    @Test
+    void filter_RoleNotAllowed_ReturnsForbidden() {
+        // Arrange
+        MockServerWebExchange exchange = exchange("Bearer " + token("admin1", "ADMIN", SECRET));
+
+        // Act
+        filter.filter(exchange, ex -> Mono.error(new AssertionError("should not be forwarded"))).block();
+
+        // Assert
+        assertEquals(HttpStatus.FORBIDDEN, exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    void filter_WrongSignature_ReturnsUnauthorized() {
+        // Arrange
+        String otherSecret = "anotherSecretKeyThatIsAlsoLongEnoughForHmacSha256Signing";
+        MockServerWebExchange exchange = exchange("Bearer " + token("user123", "RIDER", otherSecret));
+
+        // Act
+        filter.filter(exchange, ex -> Mono.error(new AssertionError("should not be forwarded"))).block();
+
+        // Assert
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    void filter_MissingHeader_ReturnsUnauthorized() {
+        // Arrange
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/bookings/me"));
+
+        // Act
+        filter.filter(exchange, ex -> Mono.error(new AssertionError("should not be forwarded"))).block();
+
+        // Assert
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    void apply_UnknownConfiguredRole_Throws() {
+        // Arrange
+        JwtRoleAuthorizationFilter.Config config = new JwtRoleAuthorizationFilter.Config();
+        config.setAllowedRoles(List.of("SUPERUSER"));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new JwtRoleAuthorizationFilter(new JwtVerifier(SECRET, "k1", "", "")).apply(config));
+    }
+
+    private static MockServerWebExchange exchange(String authorization) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/bookings/me")
+                .header(HttpHeaders.AUTHORIZATION, authorization));
+    }
+
+    private static String token(String userId, String role, String secret) {
+        return Jwts.builder()
+                .setSubject(userId)
+                .claim("role", role)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
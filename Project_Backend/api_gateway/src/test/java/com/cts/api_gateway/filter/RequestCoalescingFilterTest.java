@@ -0,0 +1,144 @@
+package com.cts.api_gateway.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCoalescingFilterTest {
+
+    private static final String BODY = "{\"id\":\"booking-1\"}";
+
+    private GatewayFilter filter;
+    private Sinks.Empty<Void> upstream;
+    private AtomicInteger upstreamCalls;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RequestCoalescingFilter(new SimpleMeterRegistry()).apply(new RequestCoalescingFilter.Config());
+        upstream = Sinks.empty();
+        upstreamCalls = new AtomicInteger();
+    }
+
+    @Test
+    void filter_IdenticalConcurrentGets_ShareOneUpstreamCall() {
+        // Arrange
+        MockServerWebExchange leader = exchange("user-1", "Bearer a");
+        MockServerWebExchange follower = exchange("user-1", "Bearer a");
+
+        // Act
+        Disposable first = filter.filter(leader, heldChain()).subscribe();
+        Disposable second = filter.filter(follower, heldChain()).subscribe();
+        upstream.tryEmitEmpty();
+
+        // Assert
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(HttpStatus.OK, follower.getResponse().getStatusCode());
+        assertEquals(BODY, follower.getResponse().getBodyAsString().block(Duration.ofSeconds(1)));
+        assertEquals(BODY, leader.getResponse().getBodyAsString().block(Duration.ofSeconds(1)));
+        assertTrue(first.isDisposed() && second.isDisposed());
+    }
+
+    @Test
+    void filter_DifferentUsers_AreNotShared() {
+        // Arrange
+        MockServerWebExchange first = exchange("user-1", "Bearer a");
+        MockServerWebExchange second = exchange("user-2", "Bearer a");
+
+        // Act
+        filter.filter(first, heldChain()).subscribe();
+        filter.filter(second, heldChain()).subscribe();
+        upstream.tryEmitEmpty();
+
+        // Assert
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void filter_DifferentAuthorizationWithoutUserId_AreNotShared() {
+        // Arrange
+        MockServerWebExchange first = exchange(null, "Bearer a");
+        MockServerWebExchange second = exchange(null, "Bearer b");
+
+        // Act
+        filter.filter(first, heldChain()).subscribe();
+        filter.filter(second, heldChain()).subscribe();
+        upstream.tryEmitEmpty();
+
+        // Assert
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void filter_UpstreamError_ReachesEveryWaiter() {
+        // Arrange
+        MockServerWebExchange leader = exchange("user-1", "Bearer a");
+        MockServerWebExchange follower = exchange("user-1", "Bearer a");
+        AtomicReference<Throwable> leaderError = new AtomicReference<>();
+        AtomicReference<Throwable> followerError = new AtomicReference<>();
+        IllegalStateException failure = new IllegalStateException("connection refused");
+
+        // Act
+        filter.filter(leader, heldChain()).subscribe(null, leaderError::set);
+        filter.filter(follower, heldChain()).subscribe(null, followerError::set);
+        upstream.tryEmitError(failure);
+
+        // Assert
+        assertEquals(1, upstreamCalls.get());
+        assertSame(failure, leaderError.get());
+        assertSame(failure, followerError.get());
+    }
+
+    @Test
+    void filter_AfterLeaderCompletes_NextRequestGoesUpstream() {
+        // Arrange
+        upstream.tryEmitEmpty();
+
+        // Act
+        filter.filter(exchange("user-1", "Bearer a"), heldChain()).block(Duration.ofSeconds(1));
+        filter.filter(exchange("user-1", "Bearer a"), heldChain()).block(Duration.ofSeconds(1));
+
+        // Assert
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    // Writes a JSON body once the test releases (or fails) the upstream sink.
+    private GatewayFilterChain heldChain() {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            return upstream.asMono().then(Mono.defer(() -> {
+                ServerHttpResponse response = exchange.getResponse();
+                response.setStatusCode(HttpStatus.OK);
+                response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                return response.writeWith(Mono.just(response.bufferFactory()
+                        .wrap(BODY.getBytes(StandardCharsets.UTF_8))));
+            }));
+        };
+    }
+
+    private static MockServerWebExchange exchange(String userId, String authorization) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/v1/bookings/me")
+                .header(HttpHeaders.AUTHORIZATION, authorization);
+        if (userId != null) {
+            request.header("X-User-Id", userId);
+        }
+        return MockServerWebExchange.from(request);
+    }
+}
@@ -0,0 +1,182 @@
+package com.cts.api_gateway.loadbalancer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Discrete-event simulation: one request per millisecond against five USER-SERVICE
+ * instances, one of which is deliberately slow. Compares round-robin with power-of-two-choices.
+ * Ejection is also checked with two instances, the usual replica count.
+ */
+class PowerOfTwoChoicesLoadBalancerTest {
+
+    private static final String SERVICE_ID = "USER-SERVICE";
+    private static final int REQUESTS = 20_000;
+    private static final long ARRIVAL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private List<ServiceInstance> instances;
+    private ServiceInstance slowInstance;
+    private InstanceLatencyTracker latencyTracker;
+    private PowerOfTwoChoicesLoadBalancer loadBalancer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        instances = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            instances.add(new DefaultServiceInstance("user-" + i, SERVICE_ID, "10.0.0." + i, 8081, false));
+        }
+        slowInstance = instances.get(2);
+
+        ServiceInstanceListSupplier supplier = new ServiceInstanceListSupplier() {
+            @Override
+            public String getServiceId() {
+                return SERVICE_ID;
+            }
+
+            @Override
+            public Flux<List<ServiceInstance>> get() {
+                return Flux.just(instances);
+            }
+        };
+        ObjectProvider<ServiceInstanceListSupplier> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable(any())).thenReturn(supplier);
+
+        latencyTracker = new InstanceLatencyTracker(0.3, 1000, 5, 3.0, 50, 30_000, 50);
+        loadBalancer = new PowerOfTwoChoicesLoadBalancer(provider, SERVICE_ID, latencyTracker);
+    }
+
+    @Test
+    void powerOfTwoChoices_ImprovesP99WithSlowInstance() {
+        // Arrange
+        Random roundRobinRandom = new Random(42);
+        Random p2cRandom = new Random(42);
+        int[] roundRobinIndex = {0};
+
+        // Act
+        SimulationResult roundRobin = simulate(roundRobinRandom,
+                () -> instances.get(roundRobinIndex[0]++ % instances.size()), false);
+        SimulationResult p2c = simulate(p2cRandom,
+                () -> loadBalancer.choose(new DefaultRequest<>()).block().getServer(), true);
+
+        // Assert
+        assertTrue(p2c.p99Millis() * 4 < roundRobin.p99Millis(),
+                "p99 round-robin=" + roundRobin.p99Millis() + "ms, p2c=" + p2c.p99Millis() + "ms");
+        assertTrue(p2c.share(slowInstance) < 0.01,
+                "slow instance share with p2c=" + p2c.share(slowInstance));
+        assertTrue(roundRobin.share(slowInstance) > 0.19);
+    }
+
+    @Test
+    void choose_EjectsInstanceAfterConsecutiveFailures() {
+        // Arrange
+        ServiceInstance failing = instances.get(0);
+        for (ServiceInstance instance : instances) {
+            latencyTracker.recordStart(instance);
+            latencyTracker.recordCompletion(instance, TimeUnit.MILLISECONDS.toNanos(10), true);
+        }
+        for (int i = 0; i < 5; i++) {
+            latencyTracker.recordStart(failing);
+            latencyTracker.recordCompletion(failing, TimeUnit.MILLISECONDS.toNanos(10), false);
+        }
+
+        // Act & Assert
+        for (int i = 0; i < 500; i++) {
+            ServiceInstance chosen = loadBalancer.choose(new DefaultRequest<>()).block().getServer();
+            assertNotEquals(failing, chosen);
+        }
+    }
+
+    @Test
+    void choose_EjectsSlowInstanceOfTwo() {
+        // Arrange
+        instances = new ArrayList<>(instances.subList(0, 2));
+        ServiceInstance fast = instances.get(0);
+        ServiceInstance slow = instances.get(1);
+        for (int i = 0; i < 5; i++) {
+            latencyTracker.recordStart(fast);
+            latencyTracker.recordCompletion(fast, TimeUnit.MILLISECONDS.toNanos(20), true);
+            latencyTracker.recordStart(slow);
+            latencyTracker.recordCompletion(slow, TimeUnit.MILLISECONDS.toNanos(300), true);
+        }
+
+        // Act & Assert
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(20), latencyTracker.medianLatency(instances), 1.0);
+        for (int i = 0; i < 500; i++) {
+            ServiceInstance chosen = loadBalancer.choose(new DefaultRequest<>()).block().getServer();
+            assertEquals(fast, chosen);
+        }
+    }
+
+    private SimulationResult simulate(Random random, InstanceChooser chooser, boolean trackLatency) {
+        PriorityQueue<Completion> pending = new PriorityQueue<>();
+        long[] latencies = new long[REQUESTS];
+        Map<ServiceInstance, Integer> counts = new HashMap<>();
+
+        for (int i = 0; i < REQUESTS; i++) {
+            long now = i * ARRIVAL_INTERVAL_NANOS;
+            while (!pending.isEmpty() && pending.peek().finishNanos() <= now) {
+                Completion done = pending.poll();
+                if (trackLatency) {
+                    latencyTracker.recordCompletion(done.instance(), done.latencyNanos(), true);
+                }
+            }
+
+            ServiceInstance instance = chooser.choose();
+            if (trackLatency) {
+                latencyTracker.recordStart(instance);
+            }
+            long latency = serviceTime(instance, random);
+            latencies[i] = latency;
+            counts.merge(instance, 1, Integer::sum);
+            pending.add(new Completion(now + latency, instance, latency));
+        }
+
+        Arrays.sort(latencies);
+        return new SimulationResult(TimeUnit.NANOSECONDS.toMillis(latencies[(int) (REQUESTS * 0.99)]), counts);
+    }
+
+    private long serviceTime(ServiceInstance instance, Random random) {
+        long millis = instance.equals(slowInstance) ? 250 + random.nextInt(50) : 15 + random.nextInt(10);
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    @FunctionalInterface
+    private interface InstanceChooser {
+        ServiceInstance choose();
+    }
+
+    private record Completion(long finishNanos, ServiceInstance instance, long latencyNanos)
+            implements Comparable<Completion> {
+        @Override
+        public int compareTo(Completion other) {
+            return Long.compare(finishNanos, other.finishNanos);
+        }
+    }
+
+    private record SimulationResult(long p99Millis, Map<ServiceInstance, Integer> counts) {
+        double share(ServiceInstance instance) {
+            return counts.getOrDefault(instance, 0) / (double) REQUESTS;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.cts.api_gateway.logging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class AccessLogFilterTest {
+
+    private AccessLogWriter writer;
+    private AccessLogFilter filter;
+    private MockServerWebExchange exchange;
+
+    @BeforeEach
+    void setUp() {
+        writer = mock(AccessLogWriter.class);
+        filter = new AccessLogFilter(writer, new SimpleMeterRegistry(), true, 1.0, true);
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/bookings/me"));
+    }
+
+    @Test
+    void filter_Completed_RecordsResponseStatus() {
+        // Act
+        filter.filter(exchange, ex -> {
+            ex.getResponse().setStatusCode(HttpStatus.CREATED);
+            return Mono.empty();
+        }).block();
+
+        // Assert
+        assertEquals(201, recorded().status());
+    }
+
+    @Test
+    void filter_CompletedWithoutStatus_RecordsOk() {
+        // Act
+        filter.filter(exchange, ex -> Mono.empty()).block();
+
+        // Assert
+        assertEquals(200, recorded().status());
+    }
+
+    @Test
+    void filter_ErrorWithoutStatus_RecordsServerError() {
+        // Act
+        assertThrows(IllegalStateException.class, () ->
+                filter.filter(exchange, ex -> Mono.error(new IllegalStateException("upstream down"))).block());
+
+        // Assert
+        assertEquals(500, recorded().status());
+    }
+
+    @Test
+    void filter_ErrorAfterSuccessStatus_RecordsServerError() {
+        // Act
+        assertThrows(IllegalStateException.class, () -> filter.filter(exchange, ex -> {
+            ex.getResponse().setStatusCode(HttpStatus.OK);
+            return Mono.error(new IllegalStateException("body failed"));
+        }).block());
+
+        // Assert
+        assertEquals(500, recorded().status());
+    }
+
+    @Test
+    void filter_ErrorWithErrorStatus_KeepsThatStatus() {
+        // Act
+        assertThrows(IllegalStateException.class, () -> filter.filter(exchange, ex -> {
+            ex.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            return Mono.error(new IllegalStateException("unavailable"));
+        }).block());
+
+        // Assert
+        assertEquals(503, recorded().status());
+    }
+
+    @Test
+    void filter_Cancelled_RecordsClientClosedRequest() {
+        // Act
+        Disposable subscription = filter.filter(exchange, ex -> Mono.never()).subscribe();
+        subscription.dispose();
+
+        // Assert
+        assertEquals(499, recorded().status());
+    }
+
+    private AccessLogEntry recorded() {
+        ArgumentCaptor<AccessLogEntry> entry = ArgumentCaptor.forClass(AccessLogEntry.class);
+        verify(writer).submit(entry.capture());
+        return entry.getValue();
+    }
+}
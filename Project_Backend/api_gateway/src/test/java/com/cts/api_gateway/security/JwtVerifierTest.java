@@ -0,0 +1,102 @@
+package com.cts.api_gateway.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtVerifierTest {
+
+    private static final String CURRENT_SECRET = "currentSecretKeyForJwtTokenGenerationThatIsLongEnough123";
+    private static final String PREVIOUS_SECRET = "previousSecretKeyForJwtTokenGenerationThatIsLongEnough12";
+
+    private JwtVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        verifier = new JwtVerifier(CURRENT_SECRET, "k2", "k1", PREVIOUS_SECRET);
+    }
+
+    @Test
+    void parseClaims_CurrentKeyId_Verifies() {
+        // Arrange
+        String token = token(CURRENT_SECRET).setHeaderParam("kid", "k2").compact();
+
+        // Act
+        Claims claims = verifier.parseClaims(token);
+
+        // Assert
+        assertEquals("user123", claims.getSubject());
+        assertEquals("RIDER", claims.get("role"));
+    }
+
+    @Test
+    void parseClaims_PreviousKeyId_VerifiesDuringRotation() {
+        // Arrange
+        String token = token(PREVIOUS_SECRET).setHeaderParam("kid", "k1").compact();
+
+        // Act
+        Claims claims = verifier.parseClaims(token);
+
+        // Assert
+        assertEquals("user123", claims.getSubject());
+    }
+
+    @Test
+    void parseClaims_NoKeyId_UsesCurrentKey() {
+        // Arrange
+        String token = token(CURRENT_SECRET).compact();
+
+        // Act
+        Claims claims = verifier.parseClaims(token);
+
+        // Assert
+        assertEquals("user123", claims.getSubject());
+    }
+
+    @Test
+    void parseClaims_UnknownKeyId_Throws() {
+        // Arrange
+        String token = token(CURRENT_SECRET).setHeaderParam("kid", "k9").compact();
+
+        // Act & Assert
+        assertThrows(SignatureException.class, () -> verifier.parseClaims(token));
+    }
+
+    @Test
+    void parseClaims_KeyIdSignedWithWrongSecret_Throws() {
+        // Arrange
+        String token = token(PREVIOUS_SECRET).setHeaderParam("kid", "k2").compact();
+
+        // Act & Assert
+        assertThrows(SignatureException.class, () -> verifier.parseClaims(token));
+    }
+
+    @Test
+    void parseClaims_PreviousKeyNotConfigured_RejectsOldKeyId() {
+        // Arrange
+        JwtVerifier currentOnly = new JwtVerifier(CURRENT_SECRET, "k2", "", "");
+        String token = token(PREVIOUS_SECRET).setHeaderParam("kid", "k1").compact();
+
+        // Act & Assert
+        assertThrows(SignatureException.class, () -> currentOnly.parseClaims(token));
+    }
+
+    private static JwtBuilder token(String secret) {
+        return Jwts.builder()
+                .setSubject("user123")
+                .claim("role", "RIDER")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256);
+    }
+}
@@ -4,11 +4,15 @@ package com.cts.auth_service.client;
 import com.cts.auth_service.config.FeignConfig;
 import com.cts.auth_service.dto.LoginRequest;
 import com.cts.auth_service.dto.SignupRequest;
+import com.cts.auth_service.dto.UserEventBatch;
 import com.cts.auth_service.dto.UserValidationResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @FeignClient(name="USER-SERVICE", configuration = FeignConfig.class)
 public interface UserServiceClient {
@@ -18,4 +22,10 @@ public interface UserServiceClient {
 
     @PostMapping("/api/v1/internal/register")
     ResponseEntity<String> registerUser(@RequestBody SignupRequest request);
+
+    @GetMapping("/api/v1/internal/users/{userId}/validation")
+    ResponseEntity<UserValidationResponse> validateUser(@PathVariable("userId") String userId);
+
+    @GetMapping("/api/v1/internal/events/users")
+    UserEventBatch getUserEvents(@RequestParam("after") long after, @RequestParam("limit") int limit);
 }
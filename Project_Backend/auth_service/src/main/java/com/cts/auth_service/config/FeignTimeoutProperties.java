@@ -0,0 +1,19 @@
+package com.cts.auth_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-endpoint read timeouts, keyed by Feign client name and then interface method name.
+ * Methods not listed use the client's readTimeout from spring.cloud.openfeign.client.config.
+ */
+@Data
+@ConfigurationProperties(prefix = "feign-timeouts")
+public class FeignTimeoutProperties {
+
+    private Map<String, Map<String, Duration>> readTimeouts = new HashMap<>();
+}
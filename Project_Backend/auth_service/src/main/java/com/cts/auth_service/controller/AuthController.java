@@ -2,13 +2,17 @@ package com.cts.auth_service.controller;
 
 import com.cts.auth_service.dto.AuthResponse;
 import com.cts.auth_service.dto.LoginRequest;
+import com.cts.auth_service.dto.RefreshRequest;
 import com.cts.auth_service.dto.SignupRequest;
 import com.cts.auth_service.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 @RestController
 @RequestMapping("/api/v1/auth")
@@ -19,6 +23,7 @@ public class AuthController {
 
     @PostMapping("/login")
     public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
+        request.setClientIp(resolveClientIp());
         return ResponseEntity.ok(authService.login(request));
     }
 
@@ -26,4 +31,29 @@ public class AuthController {
     public ResponseEntity<String> signup(@Valid @RequestBody SignupRequest request) {
         return ResponseEntity.status(HttpStatus.CREATED).body(authService.signup(request));
     }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshRequest request) {
+        return ResponseEntity.ok(authService.refresh(request));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshRequest request) {
+        authService.logout(request);
+        return ResponseEntity.noContent().build();
+    }
+
+    // The gateway appends the caller's address to X-Forwarded-For, so the last entry is the one
+    // we can trust; earlier entries are whatever the client sent.
+    private static String resolveClientIp() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+        HttpServletRequest servletRequest = attributes.getRequest();
+        String forwardedFor = servletRequest.getHeader("X-Forwarded-For");
+        if (forwardedFor != null && !forwardedFor.isBlank()) {
+            return forwardedFor.substring(forwardedFor.lastIndexOf(',') + 1).trim();
+        }
+        return servletRequest.getRemoteAddr();
+    }
 }
\ No newline at end of file
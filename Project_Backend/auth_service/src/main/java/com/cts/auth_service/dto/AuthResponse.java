@@ -9,4 +9,9 @@ public class AuthResponse {
     private String token;
     private String userId;  
     private String role;    
-}
\ No newline at end of file
+    private String refreshToken;
+
+    public AuthResponse(String token, String userId, String role) {
+        this(token, userId, role, null);
+    }
+}
@@ -1,5 +1,6 @@
 package com.cts.auth_service.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
@@ -12,4 +13,8 @@ public class LoginRequest {
     
     @NotBlank(message = "Password is required")
     private String password;
+
+    // Set by AuthController for throttling; never serialized or forwarded to user_service.
+    @JsonIgnore
+    private String clientIp;
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.cts.auth_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A user change from USER-SERVICE's event feed. Only the fields auth acts on are mapped.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangeEvent {
+    private long offset;
+    private long eventId;
+    private String userId;
+    private String type;
+    private String status;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,32 @@
+package com.cts.auth_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A refresh-token session ended by logout. Rows are numbered from the event_sequences counter
+ * so every instance can read new revocations in commit order, and deleted once the session
+ * would have expired anyway.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "revoked_sessions", indexes = {
+        @Index(name = "idx_revoked_sessions_sequence", columnList = "sequence"),
+        @Index(name = "idx_revoked_sessions_expiry", columnList = "expiresAtMillis")
+})
+public class RevokedSession {
+
+    @Id
+    @Column(length = 36)
+    private String sessionId;
+
+    @Column(nullable = false)
+    private Long sequence;
+
+    @Column(nullable = false)
+    private long expiresAtMillis;
+}
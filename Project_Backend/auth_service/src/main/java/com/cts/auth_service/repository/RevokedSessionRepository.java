@@ -0,0 +1,28 @@
+package com.cts.auth_service.repository;
+
+import com.cts.auth_service.entity.RevokedSession;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RevokedSessionRepository extends JpaRepository<RevokedSession, String> {
+
+    /**
+     * Revocations after the given sequence, oldest first
+     */
+    List<RevokedSession> findBySequenceGreaterThanOrderBySequenceAsc(long after, Pageable pageable);
+
+    @Query("SELECT MAX(r.sequence) FROM RevokedSession r")
+    Long findLastSequence();
+
+    // Keeps the newest row so readers can tell a pruned table from a recreated one.
+    @Modifying
+    @Query("DELETE FROM RevokedSession r WHERE r.expiresAtMillis <= :now AND r.sequence < :lastSequence")
+    int deleteExpired(@Param("now") long now, @Param("lastSequence") long lastSequence);
+}
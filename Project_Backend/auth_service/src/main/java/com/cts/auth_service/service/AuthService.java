@@ -3,8 +3,11 @@ package com.cts.auth_service.service;
 import com.cts.auth_service.client.UserServiceClient;
 import com.cts.auth_service.dto.AuthResponse;
 import com.cts.auth_service.dto.LoginRequest;
+import com.cts.auth_service.dto.RefreshRequest;
 import com.cts.auth_service.dto.SignupRequest;
 import com.cts.auth_service.dto.UserValidationResponse;
+import com.cts.auth_service.exception.InvalidRefreshTokenException;
+import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,23 +19,61 @@ public class AuthService {
 
     private final UserServiceClient userServiceClient;
     private final JwtService jwtService;
+    private final SessionStore sessionStore;
+    private final UserStatusView userStatusView;
+    private final LoginThrottle loginThrottle;
 
     public AuthResponse login(LoginRequest request) {
         log.info("Login attempt for email: {}", request.getEmail());
-        
+
+        loginThrottle.checkAllowed(request.getEmail(), request.getClientIp());
+
         // Let Feign client handle errors
-        UserValidationResponse validation = userServiceClient
-            .validateCredentials(request)
-            .getBody();
+        UserValidationResponse validation;
+        try {
+            validation = userServiceClient
+                .validateCredentials(request)
+                .getBody();
+        } catch (FeignException e) {
+            if (e.status() == 401 || e.status() == 404) {
+                loginThrottle.recordFailure(request.getEmail(), request.getClientIp());
+            }
+            throw e;
+        }
+        loginThrottle.recordSuccess(request.getEmail());
         
         String token = jwtService.generateToken(
             validation.getUserId(), 
             validation.getRole()
         );
         
+        String refreshToken = sessionStore.create(validation.getUserId(), validation.getRole());
+
         log.info("Login successful for user: {}", validation.getUserId());
         
-        return new AuthResponse(token, validation.getUserId(), validation.getRole());
+        return new AuthResponse(token, validation.getUserId(), validation.getRole(), refreshToken);
+    }
+
+    /**
+     * Issues a new access token. Nothing is written and USER-SERVICE is not called: the refresh
+     * token is verified locally and the account checked against {@link UserStatusView}. The
+     * refresh token is returned unchanged and stays valid until the expiry set at login or logout.
+     */
+    public AuthResponse refresh(RefreshRequest request) {
+        SessionStore.Session session = sessionStore.find(request.getRefreshToken());
+        if (session == null) {
+            throw new InvalidRefreshTokenException("Refresh token is invalid or expired");
+        }
+        if (!userStatusView.isActive(session)) {
+            throw new InvalidRefreshTokenException("Account is no longer active");
+        }
+
+        String token = jwtService.generateToken(session.userId(), session.role());
+        return new AuthResponse(token, session.userId(), session.role(), request.getRefreshToken());
+    }
+
+    public void logout(RefreshRequest request) {
+        sessionStore.revoke(request.getRefreshToken());
     }
 
     public String signup(SignupRequest request) {
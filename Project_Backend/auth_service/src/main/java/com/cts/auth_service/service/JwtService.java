@@ -1,21 +1,42 @@
 package com.cts.auth_service.service;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
 
+/**
+ * Mints access tokens. The HMAC key is derived once at startup and every token carries the
+ * key id ({@code kid}) it was signed with, so the gateway can keep accepting tokens signed
+ * with the previous key while a rotation rolls out.
+ *
+ * Refresh tokens are signed with a second key derived from the same secret, so the gateway
+ * never accepts one as an access token. They are checked here with the current or, during a
+ * rotation, the previous key.
+ */
 @Service
 public class JwtService {
 
+    private static final String REFRESH_AUDIENCE = "refresh";
 
     @Value("${jwt.secret}")
     private String secretKey;
@@ -23,21 +44,85 @@ public class JwtService {
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
+    @Value("${jwt.key-id:default}")
+    private String keyId;
+
+    @Value("${jwt.previous-key-id:}")
+    private String previousKeyId;
+
+    @Value("${jwt.previous-secret:}")
+    private String previousSecret;
+
+    private Key signingKey;
+    private Key refreshKey;
+    private JwtParser refreshParser;
+
+    @PostConstruct
+    public void init() {
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.refreshKey = refreshKey(secretKey);
+
+        Map<String, Key> refreshKeys = new HashMap<>();
+        refreshKeys.put(keyId, refreshKey);
+        if (StringUtils.hasText(previousKeyId) && StringUtils.hasText(previousSecret)) {
+            refreshKeys.put(previousKeyId, refreshKey(previousSecret));
+        }
+        Map<String, Key> refreshKeysById = Map.copyOf(refreshKeys);
+        this.refreshParser = Jwts.parserBuilder()
+                .requireAudience(REFRESH_AUDIENCE)
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        Key key = refreshKeysById.get(header.getKeyId());
+                        if (key == null) {
+                            throw new SignatureException("Unknown signing key id: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+    }
+
     public String generateToken(String userId, String role) {
-        Map<String, Object> claims = new HashMap<>();
-        claims.put("role", role);
-        claims.put("userId", userId);
+        long now = System.currentTimeMillis();
 
         return Jwts.builder()
-                .setClaims(claims)
+                .setHeaderParam(JwsHeader.KEY_ID, keyId)
                 .setSubject(userId)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .signWith(getSignKey(), SignatureAlgorithm.HS256)
+                .claim("role", role)
+                .claim("userId", userId)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + jwtExpiration))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    private Key getSignKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes());
+    public String generateRefreshToken(String sessionId, String userId, String role,
+                                       long issuedAtMillis, long expiresAtMillis) {
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyId)
+                .setId(sessionId)
+                .setSubject(userId)
+                .setAudience(REFRESH_AUDIENCE)
+                .claim("role", role)
+                .setIssuedAt(new Date(issuedAtMillis))
+                .setExpiration(new Date(expiresAtMillis))
+                .signWith(refreshKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    /** Verifies a refresh token; throws the usual JJWT exceptions when it is not valid or expired. */
+    public Claims parseRefreshToken(String token) {
+        return refreshParser.parseClaimsJws(token).getBody();
+    }
+
+    private static Key refreshKey(String secret) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return Keys.hmacShaKeyFor(mac.doFinal("refresh-token".getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,132 @@
+package com.cts.auth_service.service;
+
+import com.cts.auth_service.exception.LoginThrottledException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory login throttle. Failed logins are counted per email and per client IP with
+ * sliding-window counters: the previous fixed window, weighted by how much of it still
+ * overlaps the sliding window, plus the current window.
+ * Over-limit attempts are rejected before any call to user_service, so they never reach BCrypt.
+ */
+@Component
+public class LoginThrottle {
+
+    private final Map<String, SlidingWindow> failuresByEmail = new ConcurrentHashMap<>();
+    private final Map<String, SlidingWindow> failuresByIp = new ConcurrentHashMap<>();
+
+    private final long windowMillis;
+    private final int maxFailuresPerEmail;
+    private final int maxFailuresPerIp;
+    private final Counter throttledByEmail;
+    private final Counter throttledByIp;
+
+    public LoginThrottle(MeterRegistry meterRegistry,
+                         @Value("${login-throttle.window-ms:900000}") long windowMillis,
+                         @Value("${login-throttle.max-failures-per-email:5}") int maxFailuresPerEmail,
+                         @Value("${login-throttle.max-failures-per-ip:50}") int maxFailuresPerIp) {
+        this.windowMillis = windowMillis;
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+        this.throttledByEmail = Counter.builder("auth.login.throttled")
+                .tag("scope", "email")
+                .description("Login attempts rejected because of recent failures for the email")
+                .register(meterRegistry);
+        this.throttledByIp = Counter.builder("auth.login.throttled")
+                .tag("scope", "ip")
+                .description("Login attempts rejected because of recent failures from the client IP")
+                .register(meterRegistry);
+    }
+
+    /** Throws {@link LoginThrottledException} if the email or IP is over its failure limit. */
+    public void checkAllowed(String email, String clientIp) {
+        long now = System.currentTimeMillis();
+
+        SlidingWindow emailWindow = email != null ? failuresByEmail.get(normalize(email)) : null;
+        if (emailWindow != null && emailWindow.estimate(now, windowMillis) >= maxFailuresPerEmail) {
+            throttledByEmail.increment();
+            throw new LoginThrottledException("Too many failed login attempts. Please try again later.",
+                    emailWindow.retryAfterSeconds(now, windowMillis));
+        }
+
+        SlidingWindow ipWindow = clientIp != null ? failuresByIp.get(clientIp) : null;
+        if (ipWindow != null && ipWindow.estimate(now, windowMillis) >= maxFailuresPerIp) {
+            throttledByIp.increment();
+            throw new LoginThrottledException("Too many failed login attempts. Please try again later.",
+                    ipWindow.retryAfterSeconds(now, windowMillis));
+        }
+    }
+
+    public void recordFailure(String email, String clientIp) {
+        long now = System.currentTimeMillis();
+        if (email != null) {
+            failuresByEmail.computeIfAbsent(normalize(email), k -> new SlidingWindow()).increment(now, windowMillis);
+        }
+        if (clientIp != null) {
+            failuresByIp.computeIfAbsent(clientIp, k -> new SlidingWindow()).increment(now, windowMillis);
+        }
+    }
+
+    /** A successful login clears the email's failures; the IP keeps its count (shared NATs, stuffing lists). */
+    public void recordSuccess(String email) {
+        if (email != null) {
+            failuresByEmail.remove(normalize(email));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${login-throttle.purge-interval-ms:60000}")
+    public void purgeIdle() {
+        long now = System.currentTimeMillis();
+        failuresByEmail.values().removeIf(window -> window.isIdle(now, windowMillis));
+        failuresByIp.values().removeIf(window -> window.isIdle(now, windowMillis));
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    static final class SlidingWindow {
+        private long windowStart;
+        private int current;
+        private int previous;
+
+        synchronized void increment(long now, long windowMillis) {
+            roll(now, windowMillis);
+            current++;
+        }
+
+        synchronized double estimate(long now, long windowMillis) {
+            roll(now, windowMillis);
+            double previousWeight = 1.0 - (double) (now - windowStart) / windowMillis;
+            return previous * previousWeight + current;
+        }
+
+        synchronized long retryAfterSeconds(long now, long windowMillis) {
+            roll(now, windowMillis);
+            return Math.max(1, (windowStart + windowMillis - now + 999) / 1000);
+        }
+
+        synchronized boolean isIdle(long now, long windowMillis) {
+            roll(now, windowMillis);
+            return current == 0 && previous == 0;
+        }
+
+        private void roll(long now, long windowMillis) {
+            long start = now - Math.floorMod(now, windowMillis);
+            if (start == windowStart) {
+                return;
+            }
+            previous = start - windowStart == windowMillis ? current : 0;
+            current = 0;
+            windowStart = start;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.cts.auth_service.service;
+
+import com.cts.auth_service.entity.EventSequence;
+import com.cts.auth_service.entity.RevokedSession;
+import com.cts.auth_service.repository.EventSequenceRepository;
+import com.cts.auth_service.repository.RevokedSessionRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Refresh-token sessions. A refresh token is a signed token naming its session, user, role and
+ * the absolute expiry set at login, so any AUTH-SERVICE instance checks it without a database
+ * read and refreshing never extends a session past session.refresh-ttl-ms.
+ *
+ * Logout records the session in revoked_sessions, numbered by advancing the event_sequences
+ * counter row in the same transaction, so numbers become visible in commit order. Every
+ * instance polls the table and keeps the revoked session ids in memory until they expire.
+ * While that copy is older than session.max-staleness-ms (right after startup, or while the
+ * database is unreachable) {@link #find} reads revoked_sessions directly instead.
+ */
+@Slf4j
+@Component
+public class SessionStore {
+
+    static final String SEQUENCE = "revoked_sessions";
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_BATCHES_PER_POLL = 20;
+
+    private final JwtService jwtService;
+    private final RevokedSessionRepository revokedRepository;
+    private final EventSequenceRepository sequenceRepository;
+    private final long refreshTtlMillis;
+    private final long maxStalenessMillis;
+
+    // Revoked session id -> when the session would have expired
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile long offset;
+    private volatile long syncedAtMillis;
+
+    public SessionStore(JwtService jwtService,
+                        RevokedSessionRepository revokedRepository,
+                        EventSequenceRepository sequenceRepository,
+                        @Value("${session.refresh-ttl-ms:604800000}") long refreshTtlMillis,
+                        @Value("${session.max-staleness-ms:30000}") long maxStalenessMillis) {
+        this.jwtService = jwtService;
+        this.revokedRepository = revokedRepository;
+        this.sequenceRepository = sequenceRepository;
+        this.refreshTtlMillis = refreshTtlMillis;
+        this.maxStalenessMillis = maxStalenessMillis;
+    }
+
+    // Another instance may create the row at the same time; either insert is fine.
+    @PostConstruct
+    public void init() {
+        if (sequenceRepository.existsById(SEQUENCE)) {
+            return;
+        }
+        try {
+            Long last = revokedRepository.findLastSequence();
+            sequenceRepository.saveAndFlush(new EventSequence(SEQUENCE, last != null ? last : 0));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Event sequence {} created by another instance", SEQUENCE);
+        }
+    }
+
+    /** Starts a session for a new login and returns the refresh token to hand to the client. */
+    public String create(String userId, String role) {
+        long now = System.currentTimeMillis();
+        return jwtService.generateRefreshToken(UUID.randomUUID().toString(), userId, role, now, now + refreshTtlMillis);
+    }
+
+    /** The session for the token, or null if it is invalid, expired or revoked. */
+    public Session find(String refreshToken) {
+        Session session = parse(refreshToken);
+        if (session == null || isRevoked(session.sessionId())) {
+            return null;
+        }
+        return session;
+    }
+
+    // Advancing the counter first serialises revocations, so a second logout of the same
+    // session sees the first one's row instead of clashing on the key.
+    @Transactional
+    public void revoke(String refreshToken) {
+        Session session = parse(refreshToken);
+        if (session == null) {
+            return;
+        }
+        sequenceRepository.advance(SEQUENCE, 1);
+        if (!revokedRepository.existsById(session.sessionId())) {
+            long sequence = sequenceRepository.current(SEQUENCE);
+            revokedRepository.save(new RevokedSession(session.sessionId(), sequence, session.expiresAtMillis()));
+        }
+        revoked.put(session.sessionId(), session.expiresAtMillis());
+    }
+
+    @Scheduled(fixedDelayString = "${session.revocation-poll-interval-ms:1000}")
+    public void poll() {
+        try {
+            Long last = revokedRepository.findLastSequence();
+            if (offset > (last != null ? last : 0)) {
+                log.info("Revoked sessions end at {}, before offset {}; reading them again", last, offset);
+                revoked.clear();
+                offset = 0;
+            }
+            for (int i = 0; i < MAX_BATCHES_PER_POLL; i++) {
+                List<RevokedSession> batch = revokedRepository.findBySequenceGreaterThanOrderBySequenceAsc(
+                        offset, PageRequest.of(0, BATCH_SIZE));
+                batch.forEach(session -> revoked.put(session.getSessionId(), session.getExpiresAtMillis()));
+                if (!batch.isEmpty()) {
+                    offset = batch.get(batch.size() - 1).getSequence();
+                }
+                if (batch.size() < BATCH_SIZE) {
+                    syncedAtMillis = System.currentTimeMillis();
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Could not poll revoked sessions after offset {}: {}", offset, e.getMessage());
+        }
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${session.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAtMillis -> expiresAtMillis <= now);
+        Long last = revokedRepository.findLastSequence();
+        if (last == null) {
+            return;
+        }
+        int purged = revokedRepository.deleteExpired(now, last);
+        if (purged > 0) {
+            log.debug("Purged {} expired revoked sessions", purged);
+        }
+    }
+
+    private boolean isRevoked(String sessionId) {
+        if (revoked.containsKey(sessionId)) {
+            return true;
+        }
+        return System.currentTimeMillis() - syncedAtMillis > maxStalenessMillis
+                && revokedRepository.existsById(sessionId);
+    }
+
+    private Session parse(String refreshToken) {
+        try {
+            Claims claims = jwtService.parseRefreshToken(refreshToken);
+            return new Session(claims.getId(), claims.getSubject(), claims.get("role", String.class),
+                    claims.getIssuedAt().getTime(), claims.getExpiration().getTime());
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public record Session(String sessionId, String userId, String role, long issuedAtMillis, long expiresAtMillis) {
+    }
+}
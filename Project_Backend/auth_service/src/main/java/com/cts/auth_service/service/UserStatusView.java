@@ -0,0 +1,139 @@
+package com.cts.auth_service.service;
+
+import com.cts.auth_service.client.UserServiceClient;
+import com.cts.auth_service.dto.UserChangeEvent;
+import com.cts.auth_service.dto.UserEventBatch;
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local view of deactivated accounts, so a refresh does not call USER-SERVICE.
+ *
+ * Follows USER-SERVICE's user event feed from the start on every startup and remembers when
+ * each user was last suspended, sent back to verification or deleted. A session issued before
+ * that moment can no longer be refreshed, even if the account has been reactivated since.
+ * Entries are dropped after session.refresh-ttl-ms, when every session they could apply to has
+ * expired; the feed keeps events for user-events.retention-days in user_service, which must not
+ * be shorter than the refresh TTL.
+ *
+ * Until the feed has been read to the end, or when the view has not caught up for
+ * user-status.max-staleness-ms, {@link #isActive} asks USER-SERVICE instead.
+ */
+@Slf4j
+@Component
+public class UserStatusView {
+
+    private static final int MAX_BATCHES_PER_POLL = 20;
+
+    private final UserServiceClient userServiceClient;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long refreshTtlMillis;
+    private final long maxStalenessMillis;
+
+    // User id -> when the account was last deactivated
+    private final Map<String, Long> deactivatedAt = new ConcurrentHashMap<>();
+    private volatile long offset;
+    private volatile long syncedAtMillis;
+
+    public UserStatusView(UserServiceClient userServiceClient,
+                          @Value("${user-status.enabled:true}") boolean enabled,
+                          @Value("${user-status.batch-size:500}") int batchSize,
+                          @Value("${session.refresh-ttl-ms:604800000}") long refreshTtlMillis,
+                          @Value("${user-status.max-staleness-ms:30000}") long maxStalenessMillis) {
+        this.userServiceClient = userServiceClient;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.refreshTtlMillis = refreshTtlMillis;
+        this.maxStalenessMillis = maxStalenessMillis;
+    }
+
+    /** Whether the session's account was still active when, and since, the session was issued. */
+    public boolean isActive(SessionStore.Session session) {
+        if (System.currentTimeMillis() - syncedAtMillis > maxStalenessMillis) {
+            return remoteActive(session.userId());
+        }
+        Long deactivated = deactivatedAt.get(session.userId());
+        return deactivated == null || deactivated < session.issuedAtMillis();
+    }
+
+    @Scheduled(fixedDelayString = "${user-status.poll-interval-ms:1000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_POLL; i++) {
+                UserEventBatch batch = userServiceClient.getUserEvents(offset, batchSize);
+                if (offset > batch.getLastOffset()) {
+                    log.info("User event feed ends at {}, before offset {}; reading it again", batch.getLastOffset(), offset);
+                    deactivatedAt.clear();
+                    offset = 0;
+                    continue;
+                }
+                if (offset < batch.getOldestOffset() - 1) {
+                    // Expected on startup: pruned events are older than any live session.
+                    if (offset > 0) {
+                        log.warn("User events {}..{} were pruned before they were read",
+                                offset + 1, batch.getOldestOffset() - 1);
+                    }
+                    offset = batch.getOldestOffset() - 1;
+                    continue;
+                }
+                if (batch.getEvents() != null) {
+                    apply(batch);
+                }
+                if (offset >= batch.getLastOffset()) {
+                    syncedAtMillis = System.currentTimeMillis();
+                    break;
+                }
+            }
+            long forgetBefore = System.currentTimeMillis() - refreshTtlMillis;
+            deactivatedAt.values().removeIf(at -> at < forgetBefore);
+        } catch (Exception e) {
+            log.warn("Could not poll user events after offset {}: {}", offset, e.getMessage());
+        }
+    }
+
+    private void apply(UserEventBatch batch) {
+        long applyOffset = offset;
+        for (UserChangeEvent event : batch.getEvents()) {
+            if (event.getOffset() <= applyOffset) {
+                continue;
+            }
+            if (deactivates(event)) {
+                // occurredAt is user_service's local time; both services run in the same zone.
+                long at = event.getOccurredAt() != null
+                        ? event.getOccurredAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                        : System.currentTimeMillis();
+                deactivatedAt.merge(event.getUserId(), at, Math::max);
+            }
+            applyOffset = event.getOffset();
+        }
+        offset = applyOffset;
+    }
+
+    private static boolean deactivates(UserChangeEvent event) {
+        return "DELETED".equals(event.getType())
+                || ("STATUS_CHANGED".equals(event.getType()) && !"ACTIVE".equals(event.getStatus()));
+    }
+
+    private boolean remoteActive(String userId) {
+        try {
+            userServiceClient.validateUser(userId);
+            return true;
+        } catch (FeignException e) {
+            if (e.status() == 403 || e.status() == 404) {
+                return false;
+            }
+            throw e;
+        }
+    }
+}
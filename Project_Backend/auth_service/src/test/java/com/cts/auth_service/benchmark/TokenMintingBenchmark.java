@@ -0,0 +1,72 @@
+package com.cts.auth_service.benchmark;
+
+import com.cts.auth_service.service.JwtService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token minting: the previous implementation (key re-derived from the secret and claims built
+ * in a HashMap on every call) against JwtService with its startup key.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=com.cts.auth_service.benchmark.TokenMintingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenMintingBenchmark {
+
+    private static final String SECRET = "mySecretKey12345sadsadkjksajdkjsalkdlksalkdmySecretKey12345";
+    private static final long EXPIRATION = TimeUnit.MINUTES.toMillis(15);
+
+    private JwtService jwtService;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", EXPIRATION);
+        ReflectionTestUtils.setField(jwtService, "keyId", "k1");
+        jwtService.init();
+    }
+
+    @Benchmark
+    public String rederivedKey() {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("role", "RIDER");
+        claims.put("userId", "user-123");
+
+        return Jwts.builder()
+                .setClaims(claims)
+                .setSubject("user-123")
+                .setIssuedAt(new Date(System.currentTimeMillis()))
+                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public String cachedKey() {
+        return jwtService.generateToken("user-123", "RIDER");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TokenMintingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -3,8 +3,11 @@ package com.cts.auth_service.service;
 import com.cts.auth_service.client.UserServiceClient;
 import com.cts.auth_service.dto.AuthResponse;
 import com.cts.auth_service.dto.LoginRequest;
+import com.cts.auth_service.dto.RefreshRequest;
 import com.cts.auth_service.dto.SignupRequest;
 import com.cts.auth_service.dto.UserValidationResponse;
+import com.cts.auth_service.exception.InvalidRefreshTokenException;
+import com.cts.auth_service.exception.LoginThrottledException;
 import feign.FeignException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +31,15 @@ class AuthServiceTest {
     @Mock
     private JwtService jwtService;
 
+    @Mock
+    private SessionStore sessionStore;
+
+    @Mock
+    private LoginThrottle loginThrottle;
+
+    @Mock
+    private UserStatusView userStatusView;
+
     @InjectMocks
     private AuthService authService;
 
@@ -177,4 +189,114 @@ class AuthServiceTest {
         assertNull(response);
         verify(userServiceClient, times(1)).registerUser(signupRequest);
     }
+
+    @Test
+    void login_IssuesRefreshToken() {
+        // Arrange
+        when(userServiceClient.validateCredentials(any(LoginRequest.class)))
+                .thenReturn(ResponseEntity.ok(validationResponse));
+        when(jwtService.generateToken(anyString(), anyString()))
+                .thenReturn("mock-jwt-token");
+        when(sessionStore.create("user123", "CUSTOMER")).thenReturn("refresh-1");
+
+        // Act
+        AuthResponse response = authService.login(loginRequest);
+
+        // Assert
+        assertEquals("refresh-1", response.getRefreshToken());
+    }
+
+    @Test
+    void refresh_ValidToken_IssuesAccessTokenWithoutCallingUserService() {
+        // Arrange
+        SessionStore.Session session = new SessionStore.Session("session-1", "user123", "CUSTOMER", 1L, Long.MAX_VALUE);
+        when(sessionStore.find("refresh-1")).thenReturn(session);
+        when(userStatusView.isActive(session)).thenReturn(true);
+        when(jwtService.generateToken("user123", "CUSTOMER")).thenReturn("new-jwt-token");
+
+        // Act
+        AuthResponse response = authService.refresh(new RefreshRequest("refresh-1"));
+
+        // Assert
+        assertEquals("new-jwt-token", response.getToken());
+        assertEquals("refresh-1", response.getRefreshToken());
+        assertEquals("user123", response.getUserId());
+        assertEquals("CUSTOMER", response.getRole());
+        verifyNoInteractions(userServiceClient);
+        verify(sessionStore, never()).create(anyString(), anyString());
+    }
+
+    @Test
+    void refresh_DeactivatedUser_ThrowsInvalidRefreshTokenException() {
+        // Arrange
+        SessionStore.Session session = new SessionStore.Session("session-1", "user123", "CUSTOMER", 1L, Long.MAX_VALUE);
+        when(sessionStore.find("refresh-1")).thenReturn(session);
+        when(userStatusView.isActive(session)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(InvalidRefreshTokenException.class, () -> authService.refresh(new RefreshRequest("refresh-1")));
+        verify(jwtService, never()).generateToken(anyString(), anyString());
+    }
+
+    @Test
+    void refresh_UnknownToken_ThrowsInvalidRefreshTokenException() {
+        // Arrange
+        when(sessionStore.find("stale")).thenReturn(null);
+
+        // Act & Assert
+        assertThrows(InvalidRefreshTokenException.class, () -> authService.refresh(new RefreshRequest("stale")));
+        verify(jwtService, never()).generateToken(anyString(), anyString());
+        verifyNoInteractions(userStatusView);
+    }
+
+    @Test
+    void logout_RevokesRefreshToken() {
+        // Act
+        authService.logout(new RefreshRequest("refresh-1"));
+
+        // Assert
+        verify(sessionStore, times(1)).revoke("refresh-1");
+    }
+
+    @Test
+    void login_Throttled_SkipsUserService() {
+        // Arrange
+        doThrow(new LoginThrottledException("Too many failed login attempts", 60))
+                .when(loginThrottle).checkAllowed("test@example.com", null);
+
+        // Act & Assert
+        assertThrows(LoginThrottledException.class, () -> authService.login(loginRequest));
+        verifyNoInteractions(userServiceClient);
+        verify(jwtService, never()).generateToken(anyString(), anyString());
+    }
+
+    @Test
+    void login_InvalidCredentials_RecordsFailure() {
+        // Arrange
+        FeignException unauthorized = mock(FeignException.class);
+        when(unauthorized.status()).thenReturn(401);
+        when(userServiceClient.validateCredentials(any(LoginRequest.class))).thenThrow(unauthorized);
+        loginRequest.setClientIp("10.0.0.1");
+
+        // Act & Assert
+        assertThrows(FeignException.class, () -> authService.login(loginRequest));
+        verify(loginThrottle, times(1)).recordFailure("test@example.com", "10.0.0.1");
+        verify(loginThrottle, never()).recordSuccess(anyString());
+    }
+
+    @Test
+    void login_Success_ClearsEmailFailures() {
+        // Arrange
+        when(userServiceClient.validateCredentials(any(LoginRequest.class)))
+                .thenReturn(ResponseEntity.ok(validationResponse));
+        when(jwtService.generateToken(anyString(), anyString()))
+                .thenReturn("mock-jwt-token");
+
+        // Act
+        authService.login(loginRequest);
+
+        // Assert
+        verify(loginThrottle, times(1)).recordSuccess("test@example.com");
+        verify(loginThrottle, never()).recordFailure(anyString(), any());
+    }
 }
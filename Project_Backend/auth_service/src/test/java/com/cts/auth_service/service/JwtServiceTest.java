@@ -1,14 +1,20 @@
 package com.cts.auth_service.service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -23,6 +29,8 @@ class JwtServiceTest {
         jwtService = new JwtService();
         ReflectionTestUtils.setField(jwtService, "secretKey", secretKey);
         ReflectionTestUtils.setField(jwtService, "jwtExpiration", jwtExpiration);
+        ReflectionTestUtils.setField(jwtService, "keyId", "k1");
+        jwtService.init();
     }
 
     @Test
@@ -161,4 +169,106 @@ class JwtServiceTest {
 
         assertTrue(claims.getIssuedAt().before(claims.getExpiration()));
     }
+
+    @Test
+    void generateToken_CarriesKeyIdHeader() {
+        // Arrange
+        String userId = "user123";
+
+        // Act
+        String token = jwtService.generateToken(userId, "CUSTOMER");
+
+        // Assert
+        Key key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        JwsHeader<?> header = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getHeader();
+
+        assertEquals("k1", header.getKeyId());
+    }
+
+    @Test
+    void generateToken_AfterKeyRotation_OldKeyIdTokensStillVerify() {
+        // Arrange
+        String rotatedSecret = "rotatedSecretKeyForJWTTokenGenerationThatIsLongEnough12345";
+        String oldToken = jwtService.generateToken("user1", "CUSTOMER");
+
+        JwtService rotated = new JwtService();
+        ReflectionTestUtils.setField(rotated, "secretKey", rotatedSecret);
+        ReflectionTestUtils.setField(rotated, "jwtExpiration", jwtExpiration);
+        ReflectionTestUtils.setField(rotated, "keyId", "k2");
+        rotated.init();
+
+        // Act
+        String newToken = rotated.generateToken("user2", "DRIVER");
+
+        // Assert: a verifier holding the current and previous key picks the key by kid
+        Map<String, Key> keys = Map.of(
+                "k1", Keys.hmacShaKeyFor(secretKey.getBytes()),
+                "k2", Keys.hmacShaKeyFor(rotatedSecret.getBytes()));
+        JwtParser parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return keys.get(header.getKeyId());
+                    }
+                })
+                .build();
+
+        assertEquals("user1", parser.parseClaimsJws(oldToken).getBody().getSubject());
+        assertEquals("user2", parser.parseClaimsJws(newToken).getBody().getSubject());
+        assertThrows(SignatureException.class, () -> Jwts.parserBuilder()
+                .setSigningKey(keys.get("k2"))
+                .build()
+                .parseClaimsJws(oldToken));
+    }
+
+    @Test
+    void generateRefreshToken_NotAcceptedAsAccessToken() {
+        // Arrange
+        String token = jwtService.generateRefreshToken("session-1", "user123", "CUSTOMER",
+                System.currentTimeMillis(), System.currentTimeMillis() + 60_000);
+
+        // Act
+        Claims claims = jwtService.parseRefreshToken(token);
+
+        // Assert
+        assertEquals("session-1", claims.getId());
+        assertEquals("user123", claims.getSubject());
+        assertEquals("CUSTOMER", claims.get("role"));
+        Key accessKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        assertThrows(SignatureException.class, () -> Jwts.parserBuilder()
+                .setSigningKey(accessKey)
+                .build()
+                .parseClaimsJws(token));
+    }
+
+    @Test
+    void parseRefreshToken_AccessToken_Rejected() {
+        // Arrange
+        String accessToken = jwtService.generateToken("user123", "CUSTOMER");
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> jwtService.parseRefreshToken(accessToken));
+    }
+
+    @Test
+    void parseRefreshToken_AfterKeyRotation_PreviousKeyStillVerifies() {
+        // Arrange
+        String oldToken = jwtService.generateRefreshToken("session-1", "user1", "CUSTOMER",
+                System.currentTimeMillis(), System.currentTimeMillis() + 60_000);
+
+        JwtService rotated = new JwtService();
+        ReflectionTestUtils.setField(rotated, "secretKey", "rotatedSecretKeyForJWTTokenGenerationThatIsLongEnough12345");
+        ReflectionTestUtils.setField(rotated, "jwtExpiration", jwtExpiration);
+        ReflectionTestUtils.setField(rotated, "keyId", "k2");
+        ReflectionTestUtils.setField(rotated, "previousKeyId", "k1");
+        ReflectionTestUtils.setField(rotated, "previousSecret", secretKey);
+        rotated.init();
+
+        // Act & Assert
+        assertEquals("user1", rotated.parseRefreshToken(oldToken).getSubject());
+    }
 }
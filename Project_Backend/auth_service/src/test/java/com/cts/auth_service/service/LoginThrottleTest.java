@@ -0,0 +1,90 @@
+package com.cts.auth_service.service;
+
+import com.cts.auth_service.exception.LoginThrottledException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginThrottleTest {
+
+    private static final long WINDOW = 60_000;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginThrottle loginThrottle;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loginThrottle = new LoginThrottle(meterRegistry, WINDOW, 3, 5);
+    }
+
+    @Test
+    void checkAllowed_UnderEmailLimit_Passes() {
+        // Arrange
+        loginThrottle.recordFailure("test@example.com", "10.0.0.1");
+        loginThrottle.recordFailure("test@example.com", "10.0.0.1");
+
+        // Act & Assert
+        assertDoesNotThrow(() -> loginThrottle.checkAllowed("test@example.com", "10.0.0.1"));
+    }
+
+    @Test
+    void checkAllowed_EmailLimitReached_ThrowsWithRetryAfter() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.recordFailure("test@example.com", "10.0.0." + i);
+        }
+
+        // Act
+        LoginThrottledException ex = assertThrows(LoginThrottledException.class,
+                () -> loginThrottle.checkAllowed("TEST@example.com ", "10.0.0.99"));
+
+        // Assert
+        assertTrue(ex.getRetryAfterSeconds() >= 1);
+        assertEquals(1.0, meterRegistry.get("auth.login.throttled").tag("scope", "email").counter().count());
+    }
+
+    @Test
+    void checkAllowed_IpLimitReachedAcrossEmails_Throws() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            loginThrottle.recordFailure("user" + i + "@example.com", "10.0.0.1");
+        }
+
+        // Act & Assert
+        assertThrows(LoginThrottledException.class,
+                () -> loginThrottle.checkAllowed("fresh@example.com", "10.0.0.1"));
+        assertDoesNotThrow(() -> loginThrottle.checkAllowed("fresh@example.com", "10.0.0.2"));
+    }
+
+    @Test
+    void recordSuccess_ClearsEmailFailures() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.recordFailure("test@example.com", null);
+        }
+
+        // Act
+        loginThrottle.recordSuccess("test@example.com");
+
+        // Assert
+        assertDoesNotThrow(() -> loginThrottle.checkAllowed("test@example.com", null));
+    }
+
+    @Test
+    void slidingWindow_PreviousWindowDecaysLinearly() {
+        // Arrange
+        LoginThrottle.SlidingWindow window = new LoginThrottle.SlidingWindow();
+        for (int i = 0; i < 4; i++) {
+            window.increment(0, WINDOW);
+        }
+
+        // Act & Assert
+        assertEquals(4.0, window.estimate(WINDOW - 1, WINDOW), 0.01);
+        assertEquals(3.0, window.estimate(WINDOW + WINDOW / 4, WINDOW), 0.01);
+        assertEquals(1.0, window.estimate(2 * WINDOW - WINDOW / 4, WINDOW), 0.01);
+        assertTrue(window.isIdle(3 * WINDOW, WINDOW));
+    }
+}
@@ -0,0 +1,146 @@
+package com.cts.auth_service.service;
+
+import com.cts.auth_service.entity.RevokedSession;
+import com.cts.auth_service.repository.EventSequenceRepository;
+import com.cts.auth_service.repository.RevokedSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SessionStoreTest {
+
+    @Mock
+    private RevokedSessionRepository revokedRepository;
+
+    @Mock
+    private EventSequenceRepository sequenceRepository;
+
+    private SessionStore store;
+
+    @BeforeEach
+    void setUp() {
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", "mySecretKeyForJWTTokenGenerationThatIsLongEnough1234567890");
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 900_000L);
+        ReflectionTestUtils.setField(jwtService, "keyId", "k1");
+        jwtService.init();
+        store = new SessionStore(jwtService, revokedRepository, sequenceRepository, 60_000, 30_000);
+    }
+
+    @Test
+    void find_NewSession_VerifiedWithoutDatabase() {
+        // Arrange
+        syncRevocations();
+        String token = store.create("user123", "DRIVER");
+
+        // Act
+        SessionStore.Session session = store.find(token);
+
+        // Assert
+        assertNotNull(session);
+        assertEquals("user123", session.userId());
+        assertEquals("DRIVER", session.role());
+        assertTrue(session.expiresAtMillis() - session.issuedAtMillis() <= 60_000);
+        verify(revokedRepository, never()).existsById(anyString());
+    }
+
+    @Test
+    void find_TamperedToken_ReturnsNull() {
+        // Arrange
+        String token = store.create("user123", "RIDER");
+
+        // Act & Assert
+        assertNull(store.find(token.substring(0, token.length() - 2) + "xx"));
+        assertNull(store.find("not-a-token"));
+    }
+
+    @Test
+    void find_ExpiredToken_ReturnsNull() {
+        // Arrange
+        SessionStore expiring = new SessionStore(
+                (JwtService) ReflectionTestUtils.getField(store, "jwtService"), revokedRepository, sequenceRepository, -1_000, 30_000);
+        String token = expiring.create("user123", "RIDER");
+
+        // Act & Assert
+        assertNull(expiring.find(token));
+    }
+
+    @Test
+    void revoke_RecordsSessionInCommitOrderAndRejectsIt() {
+        // Arrange
+        syncRevocations();
+        String token = store.create("user123", "RIDER");
+        String sessionId = store.find(token).sessionId();
+        when(sequenceRepository.current(SessionStore.SEQUENCE)).thenReturn(8L);
+
+        // Act
+        store.revoke(token);
+
+        // Assert
+        verify(sequenceRepository).advance(SessionStore.SEQUENCE, 1);
+        ArgumentCaptor<RevokedSession> saved = ArgumentCaptor.forClass(RevokedSession.class);
+        verify(revokedRepository).save(saved.capture());
+        assertEquals(sessionId, saved.getValue().getSessionId());
+        assertEquals(8L, saved.getValue().getSequence());
+        assertNull(store.find(token));
+    }
+
+    @Test
+    void find_SessionRevokedOnAnotherInstance_RejectedAfterPoll() {
+        // Arrange
+        String token = store.create("user123", "RIDER");
+        String sessionId = store.find(token).sessionId();
+        when(revokedRepository.findLastSequence()).thenReturn(3L);
+        when(revokedRepository.findBySequenceGreaterThanOrderBySequenceAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(new RevokedSession(sessionId, 3L, Long.MAX_VALUE)));
+
+        // Act
+        store.poll();
+
+        // Assert
+        assertNull(store.find(token));
+    }
+
+    @Test
+    void find_RevocationsNotSynced_ReadsTable() {
+        // Arrange
+        String token = store.create("user123", "RIDER");
+        when(revokedRepository.existsById(anyString())).thenReturn(true);
+
+        // Act & Assert
+        assertNull(store.find(token));
+    }
+
+    @Test
+    void purgeExpired_DeletesSessionsPastExpiryButKeepsNewest() {
+        // Arrange
+        when(revokedRepository.findLastSequence()).thenReturn(40L);
+
+        // Act
+        store.purgeExpired();
+
+        // Assert
+        verify(revokedRepository).deleteExpired(anyLong(), eq(40L));
+    }
+
+    private void syncRevocations() {
+        when(revokedRepository.findBySequenceGreaterThanOrderBySequenceAsc(anyLong(), any(Pageable.class)))
+                .thenReturn(List.of());
+        store.poll();
+    }
+}
@@ -0,0 +1,115 @@
+package com.cts.auth_service.service;
+
+import com.cts.auth_service.client.UserServiceClient;
+import com.cts.auth_service.dto.UserChangeEvent;
+import com.cts.auth_service.dto.UserEventBatch;
+import com.cts.auth_service.dto.UserValidationResponse;
+import feign.FeignException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserStatusViewTest {
+
+    private static final LocalDateTime SUSPENDED_AT = LocalDateTime.now().minusHours(1);
+
+    @Mock
+    private UserServiceClient userServiceClient;
+
+    private UserStatusView view;
+
+    @BeforeEach
+    void setUp() {
+        view = new UserStatusView(userServiceClient, true, 500, 604_800_000L, 30_000);
+    }
+
+    @Test
+    void isActive_SessionIssuedBeforeSuspension_Rejected() {
+        // Arrange
+        when(userServiceClient.getUserEvents(0, 500)).thenReturn(new UserEventBatch(2, 1, List.of(
+                new UserChangeEvent(1, 11, "user123", "STATUS_CHANGED", "SUSPENDED", SUSPENDED_AT),
+                new UserChangeEvent(2, 12, "user123", "STATUS_CHANGED", "ACTIVE", SUSPENDED_AT.plusMinutes(5)))));
+
+        // Act
+        view.poll();
+
+        // Assert
+        assertFalse(view.isActive(session("user123", SUSPENDED_AT.minusMinutes(1))));
+        assertTrue(view.isActive(session("user123", SUSPENDED_AT.plusMinutes(10))));
+        assertTrue(view.isActive(session("user456", SUSPENDED_AT.minusMinutes(1))));
+        verify(userServiceClient, never()).validateUser(anyString());
+    }
+
+    @Test
+    void isActive_DeletedUser_Rejected() {
+        // Arrange
+        when(userServiceClient.getUserEvents(0, 500)).thenReturn(new UserEventBatch(1, 1, List.of(
+                new UserChangeEvent(1, 11, "user123", "DELETED", "DELETED", SUSPENDED_AT))));
+
+        // Act
+        view.poll();
+
+        // Assert
+        assertFalse(view.isActive(session("user123", SUSPENDED_AT.minusMinutes(1))));
+    }
+
+    @Test
+    void poll_PrunedEventsOnStartup_SkipsToOldest() {
+        // Arrange
+        when(userServiceClient.getUserEvents(0, 500)).thenReturn(new UserEventBatch(60, 50, List.of()));
+        when(userServiceClient.getUserEvents(49, 500)).thenReturn(new UserEventBatch(60, 50, List.of(
+                new UserChangeEvent(60, 70, "user123", "STATUS_CHANGED", "SUSPENDED", SUSPENDED_AT))));
+
+        // Act
+        view.poll();
+
+        // Assert
+        assertFalse(view.isActive(session("user123", SUSPENDED_AT.minusMinutes(1))));
+    }
+
+    @Test
+    void isActive_NotSynced_AsksUserService() {
+        // Arrange
+        FeignException forbidden = mock(FeignException.class);
+        when(forbidden.status()).thenReturn(403);
+        when(userServiceClient.validateUser("user123")).thenThrow(forbidden);
+        when(userServiceClient.validateUser("user456"))
+                .thenReturn(ResponseEntity.ok(new UserValidationResponse("user456", "RIDER")));
+
+        // Act & Assert
+        assertFalse(view.isActive(session("user123", SUSPENDED_AT)));
+        assertTrue(view.isActive(session("user456", SUSPENDED_AT)));
+    }
+
+    @Test
+    void isActive_NotSyncedAndUserServiceDown_Throws() {
+        // Arrange
+        FeignException unavailable = mock(FeignException.class);
+        when(unavailable.status()).thenReturn(503);
+        when(userServiceClient.getUserEvents(0, 500)).thenThrow(unavailable);
+        when(userServiceClient.validateUser("user123")).thenThrow(unavailable);
+
+        // Act
+        view.poll();
+
+        // Assert
+        assertThrows(FeignException.class, () -> view.isActive(session("user123", SUSPENDED_AT)));
+    }
+
+    private static SessionStore.Session session(String userId, LocalDateTime issuedAt) {
+        long issuedAtMillis = issuedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new SessionStore.Session("session-1", userId, "RIDER", issuedAtMillis, issuedAtMillis + 604_800_000L);
+    }
+}
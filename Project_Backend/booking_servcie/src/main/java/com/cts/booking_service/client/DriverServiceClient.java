@@ -0,0 +1,27 @@
+package com.cts.booking_service.client;
+
+import com.cts.booking_service.dto.DriverEligibility;
+import com.cts.booking_service.dto.EligibilityBatch;
+import com.cts.booking_service.dto.EligibilitySnapshot;
+import com.cts.booking_service.dto.VehicleResponse;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@FeignClient(name = "DRIVER-SERVICE")
+public interface DriverServiceClient {
+
+    @GetMapping("/api/v1/internal/vehicles/{vehicleId}")
+    VehicleResponse getVehicleById(@PathVariable("vehicleId") String vehicleId);
+
+    @GetMapping("/api/v1/internal/eligibility/changes")
+    EligibilityBatch getEligibilityChanges(@RequestParam("after") long after, @RequestParam("limit") int limit);
+
+    @GetMapping("/api/v1/internal/eligibility/snapshot")
+    EligibilitySnapshot getEligibilitySnapshot(@RequestParam(value = "afterUserId", required = false) String afterUserId,
+                                               @RequestParam("limit") int limit);
+
+    @GetMapping("/api/v1/internal/eligibility/drivers/{userId}")
+    DriverEligibility getDriverEligibility(@PathVariable("userId") String userId);
+}
@@ -4,14 +4,20 @@ package com.cts.booking_service.client;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
-import com.cts.booking_service.dto.UserResponse;
+import org.springframework.web.bind.annotation.RequestParam;
+import com.cts.booking_service.dto.UserEventBatch;
+import com.cts.booking_service.dto.UserSummaryResponse;
 
 
 
 @FeignClient(name = "USER-SERVICE")
 public interface UserServiceClient {
 
-    @GetMapping("/api/v1/internal/users/{userId}")
-    UserResponse getUserById(@PathVariable("userId") String userId);
-}
+    // Binary summary (see UserSummaryMessageConverter); JSON is accepted too, e.g. for error bodies.
+    @GetMapping(value = "/api/v1/internal/users/{userId}/summary",
+            headers = "Accept=application/x-user-summary, application/json;q=0.5")
+    UserSummaryResponse getUserSummary(@PathVariable("userId") String userId);
 
+    @GetMapping("/api/v1/internal/events/users")
+    UserEventBatch getUserEvents(@RequestParam("after") long after, @RequestParam("limit") int limit);
+}
@@ -0,0 +1,35 @@
+package com.cts.booking_service.config;
+
+import feign.Capability;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Feign runs on the pooled Apache HttpClient 5 transport (feign-hc5, configured under
+ * spring.cloud.openfeign.httpclient). This exposes the pool as metrics and adds per-endpoint
+ * read timeouts.
+ */
+@Configuration
+@EnableConfigurationProperties(FeignTimeoutProperties.class)
+public class FeignTransportConfig {
+
+    @Bean
+    public MeterBinder feignConnectionPoolMetrics(ObjectProvider<HttpClientConnectionManager> connectionManager) {
+        return registry -> {
+            if (connectionManager.getIfAvailable() instanceof PoolingHttpClientConnectionManager pool) {
+                new PoolingHttpClientConnectionManagerMetricsBinder(pool, "feign").bindTo(registry);
+            }
+        };
+    }
+
+    @Bean
+    public Capability perEndpointTimeoutCapability(FeignTimeoutProperties properties) {
+        return new PerEndpointTimeoutCapability(properties);
+    }
+}
@@ -0,0 +1,353 @@
+package com.cts.booking_service.config;
+
+import com.cts.booking_service.loadbalancer.InstanceLatencyTracker;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hedged requests for idempotent internal GETs (hedging.endpoints, as CLIENT#method).
+ *
+ * The first attempt runs as usual. If it has not answered within the endpoint's recent p95
+ * latency, a second attempt is sent, tagged so the load balancer picks a different instance,
+ * and whichever answers first wins. Hedges are paid for from a token bucket refilled by a
+ * fraction of all requests (hedging.budget-ratio), so hedging can never double the load.
+ *
+ * Latency is published per endpoint as hedging.lookup.latency with kind=attempt (a single
+ * call, i.e. what callers saw before hedging) and kind=effective (what callers see now).
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 300)
+public class HedgingCapability implements Capability {
+
+    private final boolean enabled;
+    private final Map<String, EndpointStats> endpoints = new HashMap<>();
+    private final double percentile;
+    private final int minSamples;
+    private final long minDelayNanos;
+    private final double budgetRatio;
+    private final double budgetBurst;
+    private final ThreadPoolExecutor executor;
+
+    private final Counter hedgesIssued;
+    private final Counter hedgesWon;
+    private final Counter budgetExhausted;
+
+    private double budgetTokens;
+
+    public HedgingCapability(MeterRegistry meterRegistry,
+                             @Value("${hedging.enabled:false}") boolean enabled,
+                             @Value("${hedging.endpoints:USER-SERVICE#getUserSummary,DRIVER-SERVICE#getVehicleById}") List<String> endpointNames,
+                             @Value("${hedging.percentile:0.95}") double percentile,
+                             @Value("${hedging.min-samples:100}") int minSamples,
+                             @Value("${hedging.min-delay-ms:5}") long minDelayMillis,
+                             @Value("${hedging.budget-ratio:0.1}") double budgetRatio,
+                             @Value("${hedging.budget-burst:10}") int budgetBurst,
+                             @Value("${hedging.max-threads:64}") int maxThreads) {
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minSamples = minSamples;
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(minDelayMillis);
+        this.budgetRatio = budgetRatio;
+        this.budgetBurst = budgetBurst;
+        this.budgetTokens = budgetBurst;
+
+        for (String endpointName : endpointNames) {
+            String name = endpointName.trim();
+            if (!name.isEmpty()) {
+                endpoints.put(name.toLowerCase(Locale.ROOT), new EndpointStats(name, meterRegistry));
+            }
+        }
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                0, maxThreads,
+                60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "hedging-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.hedgesIssued = Counter.builder("hedging.requests")
+                .tag("outcome", "issued")
+                .description("Hedge attempts sent after the first attempt exceeded the hedge delay")
+                .register(meterRegistry);
+        this.hedgesWon = Counter.builder("hedging.requests")
+                .tag("outcome", "won")
+                .description("Hedged requests answered by the hedge rather than the first attempt")
+                .register(meterRegistry);
+        this.budgetExhausted = Counter.builder("hedging.requests")
+                .tag("outcome", "budget_exhausted")
+                .description("Hedges skipped because the hedging budget was spent")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        if (!enabled || endpoints.isEmpty()) {
+            return client;
+        }
+        return (request, options) -> {
+            EndpointStats endpoint = endpointFor(request);
+            return endpoint == null ? client.execute(request, options) : execute(client, request, options, endpoint);
+        };
+    }
+
+    private Response execute(Client client, Request request, Request.Options options, EndpointStats endpoint)
+            throws IOException {
+        long start = System.nanoTime();
+        addBudget();
+
+        long delay = endpoint.hedgeDelayNanos();
+        if (delay < 0) {
+            try {
+                return client.execute(request, options);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                endpoint.recordAttempt(elapsed);
+                endpoint.effective.record(elapsed, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        String hedgeId = UUID.randomUUID().toString();
+        CompletableFuture<Response> primary = submit(client, tagged(request, hedgeId, "1"), options, endpoint);
+        if (primary == null) {
+            return executeInline(client, request, options, endpoint, start);
+        }
+
+        try {
+            return finish(endpoint, start, primary.get(delay, TimeUnit.NANOSECONDS));
+        } catch (TimeoutException e) {
+            // First attempt is slower than the hedge delay: hedge below.
+        } catch (ExecutionException e) {
+            endpoint.effective.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            primary.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for " + request.url(), e);
+        }
+
+        CompletableFuture<Response> hedge = tryAcquireBudget()
+                ? submit(client, tagged(request, hedgeId, "2"), options, endpoint)
+                : null;
+        if (hedge == null) {
+            budgetExhausted.increment();
+            return finish(endpoint, start, await(primary));
+        }
+        hedgesIssued.increment();
+
+        CompletableFuture<Response> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((response, error) -> race(winner, failures, response, error, false));
+        hedge.whenComplete((response, error) -> race(winner, failures, response, error, true));
+
+        return finish(endpoint, start, await(winner));
+    }
+
+    private void race(CompletableFuture<Response> winner, AtomicInteger failures,
+                      Response response, Throwable error, boolean isHedge) {
+        if (error != null) {
+            if (failures.incrementAndGet() == 2) {
+                winner.completeExceptionally(error);
+            }
+            return;
+        }
+        if (winner.complete(response)) {
+            if (isHedge) {
+                hedgesWon.increment();
+            }
+        } else {
+            response.close();
+        }
+    }
+
+    private Response executeInline(Client client, Request request, Request.Options options,
+                                   EndpointStats endpoint, long start) throws IOException {
+        try {
+            return client.execute(request, options);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            endpoint.recordAttempt(elapsed);
+            endpoint.effective.record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private CompletableFuture<Response> submit(Client client, Request request, Request.Options options,
+                                               EndpointStats endpoint) {
+        long start = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return client.execute(request, options);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                } finally {
+                    endpoint.recordAttempt(System.nanoTime() - start);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    private static Response finish(EndpointStats endpoint, long start, Response response) {
+        endpoint.effective.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return response;
+    }
+
+    private static Response await(CompletableFuture<Response> future) throws IOException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for response", e);
+        }
+    }
+
+    private static IOException unwrap(Throwable cause) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof IOException ioException) {
+            return ioException;
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IOException(cause);
+    }
+
+    private static Request tagged(Request request, String hedgeId, String attempt) {
+        Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+        headers.put(InstanceLatencyTracker.HEDGE_ID_HEADER, List.of(hedgeId));
+        headers.put(InstanceLatencyTracker.HEDGE_ATTEMPT_HEADER, List.of(attempt));
+        return Request.create(request.httpMethod(), request.url(), headers, request.body(),
+                request.charset(), request.requestTemplate());
+    }
+
+    private EndpointStats endpointFor(Request request) {
+        if (request.httpMethod() != Request.HttpMethod.GET) {
+            return null;
+        }
+        RequestTemplate template = request.requestTemplate();
+        if (template == null || template.methodMetadata() == null || template.feignTarget() == null) {
+            return null;
+        }
+        String key = template.feignTarget().name() + "#" + template.methodMetadata().method().getName();
+        return endpoints.get(key.toLowerCase(Locale.ROOT));
+    }
+
+    private synchronized void addBudget() {
+        budgetTokens = Math.min(budgetBurst, budgetTokens + budgetRatio);
+    }
+
+    private synchronized boolean tryAcquireBudget() {
+        if (budgetTokens < 1.0) {
+            return false;
+        }
+        budgetTokens -= 1.0;
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /** Recent attempt latencies for one endpoint; the hedge delay is their configured percentile. */
+    private final class EndpointStats {
+
+        private static final int WINDOW = 1024;
+        private static final int RECOMPUTE_EVERY = 64;
+
+        private final long[] samples = new long[WINDOW];
+        private final Timer attempt;
+        private final Timer effective;
+        private int next;
+        private int count;
+        private int sinceRecompute;
+        private long delayNanos = -1;
+
+        EndpointStats(String name, MeterRegistry meterRegistry) {
+            this.attempt = Timer.builder("hedging.lookup.latency")
+                    .tag("endpoint", name)
+                    .tag("kind", "attempt")
+                    .description("Latency of a single attempt (what an unhedged call sees)")
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry);
+            this.effective = Timer.builder("hedging.lookup.latency")
+                    .tag("endpoint", name)
+                    .tag("kind", "effective")
+                    .description("Latency seen by the caller, with hedging")
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry);
+        }
+
+        void recordAttempt(long nanos) {
+            attempt.record(nanos, TimeUnit.NANOSECONDS);
+            synchronized (this) {
+                samples[next] = nanos;
+                next = (next + 1) % WINDOW;
+                if (count < WINDOW) {
+                    count++;
+                }
+                if (++sinceRecompute >= RECOMPUTE_EVERY || delayNanos < 0 && count >= minSamples) {
+                    sinceRecompute = 0;
+                    delayNanos = percentileOfSamples();
+                }
+            }
+        }
+
+        synchronized long hedgeDelayNanos() {
+            if (count < minSamples || delayNanos < 0) {
+                return -1;
+            }
+            return Math.max(minDelayNanos, delayNanos);
+        }
+
+        private long percentileOfSamples() {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile * count) - 1;
+            return sorted[Math.max(0, Math.min(count - 1, index))];
+        }
+    }
+}
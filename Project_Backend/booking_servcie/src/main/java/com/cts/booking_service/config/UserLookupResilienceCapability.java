@@ -0,0 +1,220 @@
+package com.cts.booking_service.config;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker, bulkhead and stale fallback for GET user lookups on the USER-SERVICE Feign client.
+ *
+ * Calls are rejected without touching the network when the breaker is open or the concurrent
+ * call limit is reached. Failed and rejected lookups are answered with the last successful
+ * response for the same URL if one is cached; otherwise the failure propagates as before.
+ * Callers keep using UserServiceClient unchanged.
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 200)
+public class UserLookupResilienceCapability implements Capability {
+
+    static final String CLIENT_NAME = "USER-SERVICE";
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Map<String, CachedResponse> lastKnown;
+    private final Counter staleServed;
+    private final Counter unavailable;
+
+    public UserLookupResilienceCapability(
+            MeterRegistry meterRegistry,
+            @Value("${user-lookup.resilience.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${user-lookup.resilience.slow-call-duration-ms:800}") long slowCallDurationMillis,
+            @Value("${user-lookup.resilience.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${user-lookup.resilience.minimum-calls:10}") int minimumCalls,
+            @Value("${user-lookup.resilience.open-state-ms:10000}") long openStateMillis,
+            @Value("${user-lookup.resilience.half-open-calls:3}") int halfOpenCalls,
+            @Value("${user-lookup.resilience.max-concurrent-calls:20}") int maxConcurrentCalls,
+            @Value("${user-lookup.resilience.stale-cache-size:10000}") int staleCacheSize) {
+
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallDurationMillis))
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .waitDurationInOpenState(Duration.ofMillis(openStateMillis))
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                .build());
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker("user-service");
+        this.bulkhead = bulkheadRegistry.bulkhead("user-service");
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            CircuitBreaker.StateTransition transition = event.getStateTransition();
+            log.warn("USER-SERVICE circuit breaker {} -> {}", transition.getFromState(), transition.getToState());
+            Counter.builder("user.lookup.circuit.transitions")
+                    .tag("from", transition.getFromState().name())
+                    .tag("to", transition.getToState().name())
+                    .register(meterRegistry)
+                    .increment();
+        });
+
+        this.lastKnown = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > staleCacheSize;
+            }
+        };
+        this.staleServed = Counter.builder("user.lookup.fallback")
+                .tag("outcome", "stale")
+                .description("User lookups answered with the last known response")
+                .register(meterRegistry);
+        this.unavailable = Counter.builder("user.lookup.fallback")
+                .tag("outcome", "unavailable")
+                .description("User lookups that failed with nothing cached to fall back on")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> isUserLookup(request)
+                ? execute(client, request, options)
+                : client.execute(request, options);
+    }
+
+    private Response execute(Client client, Request request, Request.Options options) throws IOException {
+        String key = request.url();
+
+        if (!bulkhead.tryAcquirePermission()) {
+            return fallback(request, key, new IOException("USER-SERVICE bulkhead full"));
+        }
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return fallback(request, key, new IOException("USER-SERVICE circuit breaker is open"));
+            }
+            return call(client, request, options, key);
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    private Response call(Client client, Request request, Request.Options options, String key) throws IOException {
+        long start = System.nanoTime();
+        Response response;
+        byte[] body = null;
+        try {
+            response = client.execute(request, options);
+            if (response.status() == 200 && response.body() != null) {
+                body = Util.toByteArray(response.body().asInputStream());
+                response.close();
+            }
+        } catch (IOException | RuntimeException e) {
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            return fallback(request, key, e);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (response.status() >= 500) {
+            circuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS, new IOException("HTTP " + response.status()));
+            CachedResponse cached = cached(key);
+            if (cached == null) {
+                return response;
+            }
+            response.close();
+            staleServed.increment();
+            return cached.toResponse(request);
+        }
+
+        circuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+        if (body == null) {
+            return response;
+        }
+        synchronized (lastKnown) {
+            lastKnown.put(key, new CachedResponse(response.headers(), body));
+        }
+        return response.toBuilder().body(body).build();
+    }
+
+    private Response fallback(Request request, String key, Exception cause) throws IOException {
+        CachedResponse cached = cached(key);
+        if (cached != null) {
+            staleServed.increment();
+            log.debug("Serving stale user details for {}: {}", key, cause.getMessage());
+            return cached.toResponse(request);
+        }
+        unavailable.increment();
+        if (cause instanceof IOException ioException) {
+            throw ioException;
+        }
+        throw new IOException(cause.getMessage(), cause);
+    }
+
+    private CachedResponse cached(String key) {
+        synchronized (lastKnown) {
+            return lastKnown.get(key);
+        }
+    }
+
+    private static boolean isUserLookup(Request request) {
+        return request.httpMethod() == Request.HttpMethod.GET
+                && UserLookupCacheCapability.userIdOf(request.url()) != null
+                && request.requestTemplate() != null
+                && request.requestTemplate().feignTarget() != null
+                && CLIENT_NAME.equalsIgnoreCase(request.requestTemplate().feignTarget().name());
+    }
+
+    /** Forgets the last known responses for a user whose details changed. */
+    public void evict(String userId) {
+        synchronized (lastKnown) {
+            lastKnown.keySet().removeIf(url -> userId.equals(UserLookupCacheCapability.userIdOf(url)));
+        }
+    }
+
+    CircuitBreaker.State circuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private record CachedResponse(Map<String, Collection<String>> headers, byte[] body) {
+        Response toResponse(Request request) {
+            return Response.builder()
+                    .status(200)
+                    .reason("OK")
+                    .request(request)
+                    .headers(headers)
+                    .body(body)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.cts.booking_service.config;
+
+import com.cts.booking_service.dto.UserSummaryResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Reads the compact binary user summary USER-SERVICE returns for
+ * {@code Accept: application/x-user-summary}. Used by the Feign decoder.
+ *
+ * Layout: version byte, null-mask byte (bit i set = field i present), then each present
+ * field as a length-prefixed modified UTF-8 string, in the order id, firstName, lastName,
+ * phoneNumber. Mirrors the converter in user_service; change both together.
+ */
+@Component
+public class UserSummaryMessageConverter extends AbstractHttpMessageConverter<UserSummaryResponse> {
+
+    public static final String MEDIA_TYPE_VALUE = "application/x-user-summary";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    private static final byte VERSION = 1;
+
+    public UserSummaryMessageConverter() {
+        super(MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return UserSummaryResponse.class == clazz;
+    }
+
+    @Override
+    protected UserSummaryResponse readInternal(Class<? extends UserSummaryResponse> clazz, HttpInputMessage inputMessage)
+            throws IOException {
+        DataInputStream in = new DataInputStream(inputMessage.getBody());
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new HttpMessageNotReadableException("Unsupported user summary version: " + version, inputMessage);
+        }
+        int present = in.readUnsignedByte();
+        return new UserSummaryResponse(
+                readField(in, present, 0),
+                readField(in, present, 1),
+                readField(in, present, 2),
+                readField(in, present, 3));
+    }
+
+    @Override
+    protected void writeInternal(UserSummaryResponse summary, HttpOutputMessage outputMessage) throws IOException {
+        String[] fields = {summary.getId(), summary.getFirstName(), summary.getLastName(), summary.getPhoneNumber()};
+        int present = 0;
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null) {
+                present |= 1 << i;
+            }
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(buffer);
+        out.writeByte(VERSION);
+        out.writeByte(present);
+        for (String field : fields) {
+            if (field != null) {
+                out.writeUTF(field);
+            }
+        }
+        outputMessage.getHeaders().setContentLength(buffer.size());
+        buffer.writeTo(outputMessage.getBody());
+    }
+
+    private static String readField(DataInputStream in, int present, int index) throws IOException {
+        return (present & (1 << index)) != 0 ? in.readUTF() : null;
+    }
+}
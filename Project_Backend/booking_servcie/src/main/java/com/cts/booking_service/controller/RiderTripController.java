@@ -0,0 +1,41 @@
+package com.cts.booking_service.controller;
+
+import com.cts.booking_service.dto.rider.RiderTripResponse;
+import com.cts.booking_service.exception.MissingHeaderException;
+import com.cts.booking_service.service.RiderTripService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/bookings")
+@RequiredArgsConstructor
+public class RiderTripController {
+
+    private final RiderTripService riderTripService;
+
+    /**
+     * Booking, driver, payment and vehicle details for the rider trip screen in one call.
+     * Runs asynchronously so the request thread is released while the lookups are in flight.
+     */
+    @GetMapping("/{bookingId}/trip")
+    public CompletableFuture<ResponseEntity<RiderTripResponse>> getTripDetails(
+            HttpServletRequest httpRequest,
+            @PathVariable String bookingId) {
+
+        String riderId = httpRequest.getHeader("X-User-Id");
+
+        if (riderId == null || riderId.isBlank()) {
+            log.error("Missing X-User-Id header");
+            throw new MissingHeaderException("X-User-Id");
+        }
+
+        log.info("Rider {} fetching trip {}", riderId, bookingId);
+        return riderTripService.getTripDetails(bookingId, riderId).thenApply(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,21 @@
+package com.cts.booking_service.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The vehicles a driver (by user ID) may accept bookings with, from DRIVER-SERVICE's
+ * eligibility feed. That service serializes camelCase, hence the aliases.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DriverEligibility {
+    @JsonAlias("userId")
+    private String userId;
+    private List<EligibleVehicle> vehicles;
+}
@@ -0,0 +1,20 @@
+package com.cts.booking_service.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EligibilityBatch {
+    private long offset;
+    @JsonAlias("lastOffset")
+    private long lastOffset;
+    @JsonAlias("oldestOffset")
+    private long oldestOffset;
+    private List<DriverEligibility> drivers;
+}
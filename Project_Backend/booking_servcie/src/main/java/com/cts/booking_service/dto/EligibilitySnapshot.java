@@ -0,0 +1,18 @@
+package com.cts.booking_service.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EligibilitySnapshot {
+    private long offset;
+    @JsonAlias("nextUserId")
+    private String nextUserId;
+    private List<DriverEligibility> drivers;
+}
@@ -0,0 +1,16 @@
+package com.cts.booking_service.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EligibleVehicle {
+    @JsonAlias("vehicleId")
+    private String vehicleId;
+    @JsonAlias("vehicleType")
+    private String vehicleType;
+}
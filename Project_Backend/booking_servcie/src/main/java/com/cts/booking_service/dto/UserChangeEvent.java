@@ -0,0 +1,18 @@
+package com.cts.booking_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A user change from USER-SERVICE's event feed. Only the fields booking acts on are mapped.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangeEvent {
+    private long offset;
+    private long eventId;
+    private String userId;
+    private String type;
+}
@@ -0,0 +1,16 @@
+package com.cts.booking_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserEventBatch {
+    private long lastOffset;
+    private long oldestOffset;
+    private List<UserChangeEvent> events;
+}
@@ -0,0 +1,18 @@
+package com.cts.booking_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Name and phone of a rider or driver, from USER-SERVICE's internal summary endpoint.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummaryResponse {
+    private String id;
+    private String firstName;
+    private String lastName;
+    private String phoneNumber;
+}
@@ -0,0 +1,26 @@
+package com.cts.booking_service.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Vehicle details from DRIVER-SERVICE. That service serializes camelCase,
+ * so the aliases let it bind while responses from here stay snake_case.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VehicleResponse {
+    private String id;
+    @JsonAlias("driverId")
+    private String driverId;
+    @JsonAlias("registrationNumber")
+    private String registrationNumber;
+    @JsonAlias("vehicleType")
+    private String vehicleType;
+    private String manufacturer;
+    private String model;
+    private String color;
+}
@@ -0,0 +1,22 @@
+package com.cts.booking_service.dto.rider;
+
+import com.cts.booking_service.dto.VehicleResponse;
+import com.cts.booking_service.dto.payment.PaymentDetailsResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Everything the rider trip screen needs in one response.
+ * Payment and vehicle are omitted when their lookups fail.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RiderTripResponse {
+    private RiderBookingResponse booking;
+    private PaymentDetailsResponse payment;
+    private VehicleResponse vehicle;
+}
@@ -1,9 +1,11 @@
 package com.cts.booking_service.repository;
 
 import com.cts.booking_service.entity.Booking;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,6 +15,12 @@ import java.util.Optional;
 
 @Repository
 public interface DriverBookingRepository extends JpaRepository<Booking, String> {
+
+    // SELECT ... FOR UPDATE: concurrent accepts of the same booking queue on the row lock.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b WHERE b.id = :id")
+    Optional<Booking> findByIdForUpdate(@Param("id") String id);
+
     Page<Booking> findByDriverIdOrderByCreatedAtDesc(
             @Param("driverId") String driverId,
             Pageable pageable
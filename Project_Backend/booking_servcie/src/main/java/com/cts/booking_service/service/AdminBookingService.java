@@ -1,7 +1,7 @@
 package com.cts.booking_service.service;
 
 import com.cts.booking_service.client.UserServiceClient;
-import com.cts.booking_service.dto.UserResponse;
+import com.cts.booking_service.dto.UserSummaryResponse;
 import com.cts.booking_service.dto.common.PageResponse;
 import com.cts.booking_service.dto.rider.RiderBookingResponse;
 import com.cts.booking_service.entity.Booking;
@@ -64,7 +64,7 @@ public class AdminBookingService {
         // Fetch rider details (admin needs to see rider info)
         if (booking.getRiderId() != null) {
             try {
-                UserResponse rider = userServiceClient.getUserById(booking.getRiderId());
+                UserSummaryResponse rider = userServiceClient.getUserSummary(booking.getRiderId());
                 response.setRiderName(rider.getFirstName() + " " + rider.getLastName());
                 response.setRiderPhone(rider.getPhoneNumber());
                 log.debug("✅ Fetched rider details for riderId: {}", booking.getRiderId());
@@ -76,7 +76,7 @@ public class AdminBookingService {
         // Fetch driver details
         if (booking.getDriverId() != null) {
             try {
-                UserResponse driver = userServiceClient.getUserById(booking.getDriverId());
+                UserSummaryResponse driver = userServiceClient.getUserSummary(booking.getDriverId());
                 response.setDriverName(driver.getFirstName() + " " + driver.getLastName());
                 response.setDriverPhone(driver.getPhoneNumber());
                 log.debug("✅ Fetched driver details for driverId: {}", booking.getDriverId());
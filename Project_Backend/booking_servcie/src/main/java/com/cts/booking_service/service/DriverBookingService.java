@@ -1,7 +1,7 @@
 package com.cts.booking_service.service;
 
 import com.cts.booking_service.client.UserServiceClient;
-import com.cts.booking_service.dto.UserResponse;
+import com.cts.booking_service.dto.UserSummaryResponse;
 import com.cts.booking_service.dto.common.PageResponse;
 import com.cts.booking_service.dto.driver.*;
 import com.cts.booking_service.entity.Booking;
@@ -13,6 +13,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -26,6 +27,8 @@ public class DriverBookingService {
 
     private final DriverBookingRepository repository;
     private final UserServiceClient userServiceClient;
+    private final DriverEligibilityCache driverEligibilityCache;
+    private final TransactionTemplate transactionTemplate;
 
    
     @Transactional(readOnly = true)
@@ -70,32 +73,33 @@ public class DriverBookingService {
             .orElse(null);
     }
 
-    @Transactional
+    /**
+     * The vehicle is checked before any transaction starts: the check may call DRIVER-SERVICE,
+     * and no connection is held across that call. The booking is then re-read under a row lock
+     * and assigned in a short transaction, so of two concurrent accepts only the first succeeds;
+     * the rider's details are fetched after it has committed.
+     */
     public DriverBookingResponse acceptBooking(String bookingId, String driverId, AcceptBookingRequest request) {
         log.info("Driver {} accepting booking {}", driverId, bookingId);
 
-        // Validation
-        if (repository.hasActiveBooking(driverId)) {
-            throw new InvalidBookingStatusException("You already have an active booking");
-        }
-
-        Booking booking = findBooking(bookingId);
-
-        if (booking.getBookingStatus() != Booking.BookingStatus.PENDING) {
-            throw new InvalidBookingStatusException("This booking is no longer available");
-        }
+        Booking pending = findBooking(bookingId);
+        validateAcceptable(pending, driverId);
+        driverEligibilityCache.validate(driverId, request.getVehicleId(), pending.getVehicleType());
 
-        if (booking.getDriverId() != null) {
-            throw new InvalidBookingStatusException("This booking is already assigned");
-        }
+        Booking accepted = transactionTemplate.execute(status -> {
+            // Another driver may have taken the booking while the vehicle was checked
+            Booking booking = repository.findByIdForUpdate(bookingId)
+                .orElseThrow(() -> new BookingNotFoundException(bookingId, true));
+            validateAcceptable(booking, driverId);
 
-        // Update booking
-        booking.setDriverId(driverId);
-        booking.setVehicleId(request.getVehicleId());
-        booking.setBookingStatus(Booking.BookingStatus.ACCEPTED);
-        booking.setUpdatedAt(OffsetDateTime.now());
+            booking.setDriverId(driverId);
+            booking.setVehicleId(request.getVehicleId());
+            booking.setBookingStatus(Booking.BookingStatus.ACCEPTED);
+            booking.setUpdatedAt(OffsetDateTime.now());
+            return repository.save(booking);
+        });
 
-        return toResponseWithRider(repository.save(booking));
+        return toResponseWithRider(accepted);
     }
 
     @Transactional
@@ -172,6 +176,20 @@ public class DriverBookingService {
             .orElseThrow(() -> new BookingNotFoundException(bookingId, true));
     }
 
+    private void validateAcceptable(Booking booking, String driverId) {
+        if (repository.hasActiveBooking(driverId)) {
+            throw new InvalidBookingStatusException("You already have an active booking");
+        }
+
+        if (booking.getBookingStatus() != Booking.BookingStatus.PENDING) {
+            throw new InvalidBookingStatusException("This booking is no longer available");
+        }
+
+        if (booking.getDriverId() != null) {
+            throw new InvalidBookingStatusException("This booking is already assigned");
+        }
+    }
+
     private void validateOwnership(Booking booking, String driverId) {
         if (!driverId.equals(booking.getDriverId())) {
             throw new UnauthorizedAccessException(driverId, booking.getId());
@@ -202,7 +220,7 @@ public class DriverBookingService {
         // Fetch rider details
         if (booking.getRiderId() != null) {
             try {
-                UserResponse rider = userServiceClient.getUserById(booking.getRiderId());
+                UserSummaryResponse rider = userServiceClient.getUserSummary(booking.getRiderId());
                 response.setRiderName(rider.getFirstName() + " " + rider.getLastName());
                 response.setRiderPhone(rider.getPhoneNumber());
             } catch (Exception e) {
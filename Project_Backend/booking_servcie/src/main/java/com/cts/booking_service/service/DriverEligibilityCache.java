@@ -0,0 +1,209 @@
+package com.cts.booking_service.service;
+
+import com.cts.booking_service.client.DriverServiceClient;
+import com.cts.booking_service.dto.DriverEligibility;
+import com.cts.booking_service.dto.EligibilityBatch;
+import com.cts.booking_service.dto.EligibilitySnapshot;
+import com.cts.booking_service.dto.EligibleVehicle;
+import com.cts.booking_service.entity.Booking;
+import com.cts.booking_service.exception.InvalidRequestException;
+import com.cts.booking_service.exception.InvalidVehicleTypeException;
+import com.cts.booking_service.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local replica of DRIVER-SERVICE's driver -> eligible vehicles view, so booking acceptance is
+ * validated in-process.
+ *
+ * The replica is loaded from the snapshot endpoint, then kept current by polling the change
+ * feed from the snapshot's offset. Every driver-eligibility.resync-interval-ms, or when the
+ * feed reports that our offset was pruned, it is reloaded. A vehicle found in the replica is
+ * accepted without a remote call. A miss (a driver approved in the last few seconds), or a
+ * replica that has not synced within max-staleness-ms, is checked against DRIVER-SERVICE, so
+ * the replica never rejects an eligible vehicle. Those lookups are not written into the
+ * replica: only the feed updates it, so a slow lookup cannot overwrite a newer change.
+ */
+@Slf4j
+@Component
+public class DriverEligibilityCache {
+
+    private static final int MAX_BATCHES_PER_POLL = 20;
+
+    private final DriverServiceClient driverServiceClient;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long resyncIntervalMillis;
+    private final long maxStalenessMillis;
+
+    // userId -> vehicleId -> type; only drivers with at least one eligible vehicle
+    private volatile Map<String, Map<String, Booking.VehicleType>> drivers = new ConcurrentHashMap<>();
+    private volatile long offset;
+    private volatile long lastOffset;
+    private volatile long loadedAtMillis;
+    private volatile long lastSyncedMillis;
+    private volatile boolean loaded;
+
+    private final Counter cacheChecks;
+    private final Counter remoteChecks;
+
+    public DriverEligibilityCache(DriverServiceClient driverServiceClient,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${driver-eligibility.enabled:true}") boolean enabled,
+                                  @Value("${driver-eligibility.batch-size:500}") int batchSize,
+                                  @Value("${driver-eligibility.resync-interval-ms:900000}") long resyncIntervalMillis,
+                                  @Value("${driver-eligibility.max-staleness-ms:30000}") long maxStalenessMillis) {
+        this.driverServiceClient = driverServiceClient;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.resyncIntervalMillis = resyncIntervalMillis;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.cacheChecks = Counter.builder("booking.driver-eligibility.checks")
+                .tag("source", "cache")
+                .description("Booking accepts validated from the local eligibility replica")
+                .register(meterRegistry);
+        this.remoteChecks = Counter.builder("booking.driver-eligibility.checks")
+                .tag("source", "remote")
+                .description("Booking accepts validated with a call to DRIVER-SERVICE")
+                .register(meterRegistry);
+        Gauge.builder("booking.driver-eligibility.drivers", this, cache -> cache.drivers.size())
+                .description("Drivers with eligible vehicles in the local replica")
+                .register(meterRegistry);
+        Gauge.builder("booking.driver-eligibility.lag", this, cache -> Math.max(0, cache.lastOffset - cache.offset))
+                .description("Eligibility changes not yet applied here")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${driver-eligibility.poll-interval-ms:1000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (!loaded || System.currentTimeMillis() - loadedAtMillis > resyncIntervalMillis) {
+                reload();
+            }
+            for (int i = 0; i < MAX_BATCHES_PER_POLL; i++) {
+                EligibilityBatch batch = driverServiceClient.getEligibilityChanges(offset, batchSize);
+                if (offset < batch.getOldestOffset() - 1 || offset > batch.getLastOffset()) {
+                    log.info("Eligibility feed moved past offset {} (oldest {}, last {}); reloading",
+                            offset, batch.getOldestOffset(), batch.getLastOffset());
+                    reload();
+                    continue;
+                }
+                lastOffset = batch.getLastOffset();
+                if (batch.getDrivers() != null) {
+                    batch.getDrivers().forEach(this::apply);
+                }
+                offset = batch.getOffset();
+                if (offset >= lastOffset) {
+                    break;
+                }
+            }
+            lastSyncedMillis = System.currentTimeMillis();
+        } catch (Exception e) {
+            log.warn("Could not sync driver eligibility after offset {}: {}", offset, e.getMessage());
+        }
+    }
+
+    /**
+     * Checks that the vehicle belongs to the driver, is approved and active, and matches the
+     * booking's vehicle type.
+     */
+    public void validate(String userId, String vehicleId, Booking.VehicleType bookingType) {
+        Map<String, Booking.VehicleType> vehicles = fresh() ? drivers.get(userId) : null;
+        if (vehicles != null && vehicles.containsKey(vehicleId)) {
+            cacheChecks.increment();
+        } else {
+            remoteChecks.increment();
+            vehicles = fetch(userId);
+        }
+
+        Booking.VehicleType vehicleType = vehicles.get(vehicleId);
+        if (vehicleType == null) {
+            throw new InvalidRequestException("Vehicle " + vehicleId + " is not an approved, active vehicle of this driver");
+        }
+        if (vehicleType != bookingType) {
+            throw new InvalidVehicleTypeException("This booking needs a " + bookingType + "; vehicle " + vehicleId
+                    + " is a " + vehicleType);
+        }
+    }
+
+    private Map<String, Booking.VehicleType> fetch(String userId) {
+        DriverEligibility eligibility;
+        try {
+            eligibility = driverServiceClient.getDriverEligibility(userId);
+        } catch (Exception e) {
+            log.warn("Could not check vehicle eligibility for driver {}: {}", userId, e.getMessage());
+            throw new ServiceUnavailableException("Vehicle eligibility could not be verified, please retry");
+        }
+        return toVehicles(eligibility);
+    }
+
+    private void reload() {
+        Map<String, Map<String, Booking.VehicleType>> fresh = new ConcurrentHashMap<>();
+        long snapshotOffset = -1;
+        String afterUserId = null;
+        do {
+            EligibilitySnapshot page = driverServiceClient.getEligibilitySnapshot(afterUserId, batchSize);
+            if (snapshotOffset < 0) {
+                snapshotOffset = page.getOffset();
+            }
+            if (page.getDrivers() != null) {
+                for (DriverEligibility driver : page.getDrivers()) {
+                    Map<String, Booking.VehicleType> vehicles = toVehicles(driver);
+                    if (!vehicles.isEmpty()) {
+                        fresh.put(driver.getUserId(), vehicles);
+                    }
+                }
+            }
+            afterUserId = page.getNextUserId();
+        } while (afterUserId != null);
+
+        drivers = fresh;
+        offset = snapshotOffset;
+        loadedAtMillis = System.currentTimeMillis();
+        loaded = true;
+        log.info("Loaded eligibility for {} drivers at offset {}", fresh.size(), snapshotOffset);
+    }
+
+    private void apply(DriverEligibility eligibility) {
+        Map<String, Booking.VehicleType> vehicles = toVehicles(eligibility);
+        if (vehicles.isEmpty()) {
+            drivers.remove(eligibility.getUserId());
+        } else {
+            drivers.put(eligibility.getUserId(), vehicles);
+        }
+    }
+
+    private static Map<String, Booking.VehicleType> toVehicles(DriverEligibility eligibility) {
+        Map<String, Booking.VehicleType> vehicles = new HashMap<>();
+        if (eligibility.getVehicles() != null) {
+            for (EligibleVehicle vehicle : eligibility.getVehicles()) {
+                try {
+                    vehicles.put(vehicle.getVehicleId(), Booking.VehicleType.valueOf(vehicle.getVehicleType()));
+                } catch (IllegalArgumentException | NullPointerException e) {
+                    log.debug("Ignoring vehicle {} of unknown type {}", vehicle.getVehicleId(), vehicle.getVehicleType());
+                }
+            }
+        }
+        return Map.copyOf(vehicles);
+    }
+
+    private boolean fresh() {
+        return loaded && System.currentTimeMillis() - lastSyncedMillis <= maxStalenessMillis;
+    }
+
+    boolean isLoaded() {
+        return loaded;
+    }
+}
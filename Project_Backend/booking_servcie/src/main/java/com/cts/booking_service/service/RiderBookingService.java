@@ -1,7 +1,7 @@
 package com.cts.booking_service.service;
 
 import com.cts.booking_service.client.UserServiceClient;
-import com.cts.booking_service.dto.UserResponse;
+import com.cts.booking_service.dto.UserSummaryResponse;
 import com.cts.booking_service.dto.common.PageResponse;
 import com.cts.booking_service.dto.rider.*;
 import com.cts.booking_service.entity.Booking;
@@ -178,7 +178,7 @@ public class RiderBookingService {
 
         if (booking.getDriverId() != null) {
             try {
-                UserResponse driver = userServiceClient.getUserById(booking.getDriverId());
+                UserSummaryResponse driver = userServiceClient.getUserSummary(booking.getDriverId());
                 response.setDriverName(driver.getFirstName() + " " + driver.getLastName());
                 response.setDriverPhone(driver.getPhoneNumber());
                 log.debug("Fetched driver details for booking {}", booking.getId());
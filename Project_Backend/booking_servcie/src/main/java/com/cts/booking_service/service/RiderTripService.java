@@ -0,0 +1,67 @@
+package com.cts.booking_service.service;
+
+import com.cts.booking_service.client.DriverServiceClient;
+import com.cts.booking_service.dto.VehicleResponse;
+import com.cts.booking_service.dto.payment.PaymentDetailsResponse;
+import com.cts.booking_service.dto.rider.RiderBookingResponse;
+import com.cts.booking_service.dto.rider.RiderTripResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Backend-for-frontend composition for the rider trip screen.
+ * Booking (with driver), payment and vehicle are fetched concurrently; only the
+ * booking lookup is mandatory, the others degrade to null like the driver enrichment does.
+ */
+@Slf4j
+@Service
+public class RiderTripService {
+
+    private final RiderBookingService riderBookingService;
+    private final PaymentService paymentService;
+    private final DriverServiceClient driverServiceClient;
+    private final Executor executor;
+
+    public RiderTripService(RiderBookingService riderBookingService,
+                            PaymentService paymentService,
+                            DriverServiceClient driverServiceClient,
+                            @Qualifier("aggregationExecutor") Executor executor) {
+        this.riderBookingService = riderBookingService;
+        this.paymentService = paymentService;
+        this.driverServiceClient = driverServiceClient;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<RiderTripResponse> getTripDetails(String bookingId, String riderId) {
+        log.info("Fetching trip details: {}", bookingId);
+
+        CompletableFuture<RiderBookingResponse> booking = CompletableFuture.supplyAsync(
+                () -> riderBookingService.getBookingDetails(bookingId, riderId), executor);
+
+        CompletableFuture<PaymentDetailsResponse> payment = CompletableFuture.supplyAsync(
+                        () -> paymentService.getPaymentDetails(bookingId, riderId), executor)
+                .exceptionally(ex -> {
+                    log.warn("Failed to fetch payment details for booking {}: {}", bookingId, ex.getMessage());
+                    return null;
+                });
+
+        CompletableFuture<VehicleResponse> vehicle = booking
+                .thenCompose(details -> details.getVehicleId() == null
+                        ? CompletableFuture.<VehicleResponse>completedFuture(null)
+                        : CompletableFuture.supplyAsync(
+                                () -> driverServiceClient.getVehicleById(details.getVehicleId()), executor))
+                .exceptionally(ex -> {
+                    log.warn("Failed to fetch vehicle details for booking {}: {}", bookingId, ex.getMessage());
+                    return null;
+                });
+
+        return booking.thenCombine(payment, (details, paymentDetails) -> RiderTripResponse.builder()
+                        .booking(details)
+                        .payment(paymentDetails))
+                .thenCombine(vehicle, (builder, vehicleDetails) -> builder.vehicle(vehicleDetails).build());
+    }
+}
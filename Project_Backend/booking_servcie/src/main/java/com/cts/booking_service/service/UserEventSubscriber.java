@@ -0,0 +1,152 @@
+package com.cts.booking_service.service;
+
+import com.cts.booking_service.client.UserServiceClient;
+import com.cts.booking_service.config.UserLookupCacheCapability;
+import com.cts.booking_service.config.UserLookupResilienceCapability;
+import com.cts.booking_service.dto.UserChangeEvent;
+import com.cts.booking_service.dto.UserEventBatch;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Polls USER-SERVICE's user event feed and evicts changed users from the local lookup caches.
+ *
+ * The offset is saved to user-events.offset-file only after a batch has been applied, so after
+ * a crash the last batch is applied again (at-least-once); eviction is idempotent. The caches
+ * are cleared when events may have been missed: if the offset is below the oldest event still
+ * kept (the rest were pruned), reading skips to it; if the offset is past the end of the feed
+ * (the feed was recreated), reading restarts at 0.
+ */
+@Slf4j
+@Component
+public class UserEventSubscriber {
+
+    private static final int MAX_BATCHES_PER_POLL = 20;
+
+    private final UserServiceClient userServiceClient;
+    private final UserLookupCacheCapability userCache;
+    private final UserLookupResilienceCapability userLookupResilience;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Path offsetFile;
+    private final Counter applied;
+
+    private volatile long offset;
+    private volatile long lastOffset;
+
+    public UserEventSubscriber(UserServiceClient userServiceClient,
+                               UserLookupCacheCapability userCache,
+                               UserLookupResilienceCapability userLookupResilience,
+                               MeterRegistry meterRegistry,
+                               @Value("${user-events.enabled:true}") boolean enabled,
+                               @Value("${user-events.batch-size:500}") int batchSize,
+                               @Value("${user-events.offset-file:}") String offsetFile) {
+        this.userServiceClient = userServiceClient;
+        this.userCache = userCache;
+        this.userLookupResilience = userLookupResilience;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.offsetFile = StringUtils.hasText(offsetFile) ? Path.of(offsetFile) : null;
+        this.applied = Counter.builder("user.events.applied")
+                .description("User change events applied to the local caches")
+                .register(meterRegistry);
+        Gauge.builder("user.events.lag", this, subscriber -> Math.max(0, subscriber.lastOffset - subscriber.offset))
+                .description("Events in the user event feed not yet applied here")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void load() {
+        if (offsetFile == null || !Files.exists(offsetFile)) {
+            return;
+        }
+        try {
+            offset = Long.parseLong(Files.readString(offsetFile, StandardCharsets.UTF_8).trim());
+        } catch (IOException | NumberFormatException e) {
+            log.warn("Could not read user event offset from {}, starting from 0: {}", offsetFile, e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${user-events.poll-interval-ms:1000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_POLL; i++) {
+                UserEventBatch batch = userServiceClient.getUserEvents(offset, batchSize);
+                if (offset > batch.getLastOffset()) {
+                    log.info("User event feed ends at {}, before offset {}; clearing user caches", batch.getLastOffset(), offset);
+                    restartAt(0);
+                    continue;
+                }
+                if (offset < batch.getOldestOffset() - 1) {
+                    log.info("User events {}..{} were pruned before they were read; clearing user caches",
+                            offset + 1, batch.getOldestOffset() - 1);
+                    restartAt(batch.getOldestOffset() - 1);
+                    continue;
+                }
+                lastOffset = batch.getLastOffset();
+                if (batch.getEvents() == null || batch.getEvents().isEmpty()) {
+                    break;
+                }
+                apply(batch);
+                if (offset >= lastOffset) {
+                    break;
+                }
+            }
+            userCache.markSynced();
+        } catch (Exception e) {
+            log.warn("Could not poll user events after offset {}: {}", offset, e.getMessage());
+        }
+    }
+
+    private void restartAt(long newOffset) {
+        userCache.clear();
+        offset = newOffset;
+        persist();
+    }
+
+    private void apply(UserEventBatch batch) {
+        long applyOffset = offset;
+        for (UserChangeEvent event : batch.getEvents()) {
+            if (event.getOffset() <= applyOffset) {
+                continue;
+            }
+            userCache.evict(event.getUserId());
+            userLookupResilience.evict(event.getUserId());
+            applyOffset = event.getOffset();
+            applied.increment();
+        }
+        offset = applyOffset;
+        persist();
+    }
+
+    private void persist() {
+        if (offsetFile == null) {
+            return;
+        }
+        try {
+            Path parent = offsetFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tmp = Files.createTempFile(parent, "user-events", ".tmp");
+            Files.writeString(tmp, Long.toString(offset), StandardCharsets.UTF_8);
+            Files.move(tmp, offsetFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not save user event offset to {}: {}", offsetFile, e.getMessage());
+        }
+    }
+}
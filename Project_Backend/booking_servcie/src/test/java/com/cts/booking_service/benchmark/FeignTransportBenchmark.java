@@ -0,0 +1,126 @@
+package com.cts.booking_service.benchmark;
+
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Feign;
+import feign.Param;
+import feign.RequestLine;
+import feign.hc5.ApacheHttp5Client;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trip of an internal user lookup through Feign against a local HTTP server:
+ * the default URLConnection client (JDK keep-alive cache, at most 5 idle connections per host)
+ * against the pooled Apache HttpClient 5 transport, for one caller and for 32 concurrent callers.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=com.cts.booking_service.benchmark.FeignTransportBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeignTransportBenchmark {
+
+    private static final byte[] USER_JSON = ("{\"id\":\"user-123\",\"first_name\":\"Asha\",\"last_name\":\"Rao\","
+            + "\"email\":\"asha.rao@example.com\",\"phone_number\":\"9876543210\",\"role\":\"RIDER\","
+            + "\"status\":\"ACTIVE\",\"city\":\"Pune\",\"state\":\"MH\"}").getBytes(StandardCharsets.UTF_8);
+
+    interface UserApi {
+        @RequestLine("GET /api/v1/internal/users/{userId}")
+        String getUserById(@Param("userId") String userId);
+    }
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private CloseableHttpClient httpClient;
+    private UserApi urlConnectionApi;
+    private UserApi pooledApi;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 256);
+        server.createContext("/api/v1/internal/users/", exchange -> {
+            try (InputStream body = exchange.getRequestBody()) {
+                body.readAllBytes();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, USER_JSON.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(USER_JSON);
+            }
+        });
+        serverExecutor = Executors.newFixedThreadPool(64);
+        server.setExecutor(serverExecutor);
+        server.start();
+        String url = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        urlConnectionApi = Feign.builder()
+                .client(new Client.Default(null, null))
+                .target(UserApi.class, url);
+
+        httpClient = HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(200)
+                        .setMaxConnPerRoute(50)
+                        .build())
+                .build();
+        pooledApi = Feign.builder()
+                .client(new ApacheHttp5Client(httpClient))
+                .target(UserApi.class, url);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        httpClient.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String urlConnectionSequential() {
+        return urlConnectionApi.getUserById("user-123");
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String pooledSequential() {
+        return pooledApi.getUserById("user-123");
+    }
+
+    @Benchmark
+    @Threads(32)
+    public String urlConnectionConcurrent() {
+        return urlConnectionApi.getUserById("user-123");
+    }
+
+    @Benchmark
+    @Threads(32)
+    public String pooledConcurrent() {
+        return pooledApi.getUserById("user-123");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FeignTransportBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,47 @@
+package com.cts.booking_service.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Async Config Tests")
+class AsyncConfigTest {
+
+    @Test
+    @DisplayName("Should run lookups on the caller once the aggregation pool is saturated")
+    void testSaturatedPoolRunsOnCaller() throws Exception {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) new AsyncConfig().aggregationExecutor(meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            for (int i = 0; i < 32 + 200; i++) {
+                executor.execute(() -> {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+
+            // When
+            String thread = CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor)
+                    .get(1, TimeUnit.SECONDS);
+
+            // Then
+            assertThat(thread).isEqualTo(Thread.currentThread().getName());
+            assertThat(meterRegistry.find("executor.queued").tag("name", "booking.aggregation").gauge()).isNotNull();
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.cts.booking_service.config;
+
+import com.cts.booking_service.loadbalancer.InstanceLatencyTracker;
+import feign.Client;
+import feign.Feign;
+import feign.Param;
+import feign.Request;
+import feign.RequestLine;
+import feign.Response;
+import feign.Retryer;
+import feign.Target;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HedgingCapabilityTest {
+
+    interface UserApi {
+        @RequestLine("GET /api/v1/internal/users/{userId}")
+        String getUserById(@Param("userId") String userId);
+    }
+
+    private static final int MIN_SAMPLES = 10;
+
+    private SimpleMeterRegistry meterRegistry;
+    private HedgingCapability capability;
+    private AtomicBoolean slowPrimary;
+    private List<String> attempts;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        slowPrimary = new AtomicBoolean();
+        attempts = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (capability != null) {
+            capability.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Slow first attempt is hedged and the hedge's response is returned")
+    void lookup_PrimarySlow_HedgeWins() {
+        // Given
+        UserApi api = api(10, 10);
+        warmUp(api);
+        slowPrimary.set(true);
+        attempts.clear();
+
+        // When
+        long start = System.nanoTime();
+        String user = api.getUserById("u1");
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        assertThat(user).isEqualTo("{\"attempt\":\"2\"}");
+        assertThat(elapsedMillis).isLessThan(1_000);
+        assertThat(attempts).containsExactly("1", "2");
+        assertThat(meterRegistry.get("hedging.requests").tag("outcome", "won").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Hedges stop once the hedging budget is spent")
+    void lookup_BudgetExhausted_WaitsForPrimary() {
+        // Given
+        UserApi api = api(0, 1);
+        warmUp(api);
+        slowPrimary.set(true);
+
+        // When
+        String first = api.getUserById("u1");
+        String second = api.getUserById("u1");
+
+        // Then
+        assertThat(first).isEqualTo("{\"attempt\":\"2\"}");
+        assertThat(second).isEqualTo("{\"attempt\":\"1\"}");
+        assertThat(meterRegistry.get("hedging.requests").tag("outcome", "issued").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("hedging.requests").tag("outcome", "budget_exhausted").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    private UserApi api(double budgetRatio, int budgetBurst) {
+        capability = new HedgingCapability(meterRegistry, true, List.of("USER-SERVICE#getUserById"),
+                0.95, MIN_SAMPLES, 5, budgetRatio, budgetBurst, 8);
+
+        Client downstream = (request, options) -> {
+            String attempt = header(request, InstanceLatencyTracker.HEDGE_ATTEMPT_HEADER);
+            attempts.add(attempt);
+            if (slowPrimary.get() && !"2".equals(attempt)) {
+                sleep(300);
+            }
+            return Response.builder()
+                    .status(200)
+                    .request(request)
+                    .headers(Collections.emptyMap())
+                    .body("{\"attempt\":\"" + attempt + "\"}", StandardCharsets.UTF_8)
+                    .build();
+        };
+        return Feign.builder()
+                .client(downstream)
+                .retryer(Retryer.NEVER_RETRY)
+                .addCapability(capability)
+                .target(new Target.HardCodedTarget<>(UserApi.class, "USER-SERVICE", "http://USER-SERVICE"));
+    }
+
+    private void warmUp(UserApi api) {
+        for (int i = 0; i < MIN_SAMPLES; i++) {
+            api.getUserById("u" + i);
+        }
+    }
+
+    private static String header(Request request, String name) {
+        Collection<String> values = request.headers().get(name);
+        return values == null || values.isEmpty() ? null : values.iterator().next();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.cts.booking_service.config;
+
+import feign.Client;
+import feign.Feign;
+import feign.Param;
+import feign.Request;
+import feign.RequestLine;
+import feign.Response;
+import feign.Target;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PerEndpointTimeoutCapabilityTest {
+
+    interface UserApi {
+        @RequestLine("GET /api/v1/internal/users/{userId}")
+        String getUserById(@Param("userId") String userId);
+
+        @RequestLine("PUT /api/v1/internal/users/{userId}/status")
+        String updateUserStatus(@Param("userId") String userId);
+    }
+
+    @Test
+    @DisplayName("Configured methods get their own read timeout; others keep the client default")
+    void enrich_OverridesReadTimeoutPerMethod() {
+        // Given
+        FeignTimeoutProperties properties = new FeignTimeoutProperties();
+        properties.setReadTimeouts(Map.of("USER-SERVICE", Map.of("getUserById", Duration.ofMillis(750))));
+        List<Request.Options> seen = new CopyOnWriteArrayList<>();
+        Client recording = (request, options) -> {
+            seen.add(options);
+            return Response.builder()
+                    .status(200)
+                    .request(request)
+                    .headers(Collections.emptyMap())
+                    .body("ok", StandardCharsets.UTF_8)
+                    .build();
+        };
+        UserApi api = Feign.builder()
+                .client(recording)
+                .options(new Request.Options(1, TimeUnit.SECONDS, 2, TimeUnit.SECONDS, true))
+                .addCapability(new PerEndpointTimeoutCapability(properties))
+                .target(new Target.HardCodedTarget<>(UserApi.class, "USER-SERVICE", "http://localhost"));
+
+        // When
+        api.getUserById("u1");
+        api.updateUserStatus("u1");
+
+        // Then
+        assertThat(seen).hasSize(2);
+        assertThat(seen.get(0).readTimeoutMillis()).isEqualTo(750);
+        assertThat(seen.get(0).connectTimeoutMillis()).isEqualTo(1000);
+        assertThat(seen.get(1).readTimeoutMillis()).isEqualTo(2000);
+    }
+}
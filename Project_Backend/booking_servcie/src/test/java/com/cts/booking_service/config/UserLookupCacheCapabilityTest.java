@@ -0,0 +1,111 @@
+package com.cts.booking_service.config;
+
+import feign.Client;
+import feign.Feign;
+import feign.Param;
+import feign.RequestLine;
+import feign.Response;
+import feign.Retryer;
+import feign.Target;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserLookupCacheCapabilityTest {
+
+    interface UserApi {
+        @RequestLine("GET /api/v1/internal/users/{userId}/summary")
+        String getUserSummary(@Param("userId") String userId);
+    }
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserLookupCacheCapability cache;
+    private AtomicInteger downstreamCalls;
+    private UserApi api;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new UserLookupCacheCapability(meterRegistry, 60_000, 60_000, 100);
+        downstreamCalls = new AtomicInteger();
+
+        Client downstream = (request, options) -> {
+            int call = downstreamCalls.incrementAndGet();
+            return Response.builder()
+                    .status(200)
+                    .request(request)
+                    .headers(Collections.emptyMap())
+                    .body("{\"version\":" + call + "}", StandardCharsets.UTF_8)
+                    .build();
+        };
+        api = Feign.builder()
+                .client(downstream)
+                .retryer(Retryer.NEVER_RETRY)
+                .addCapability(cache)
+                .target(new Target.HardCodedTarget<>(UserApi.class, "USER-SERVICE", "http://USER-SERVICE"));
+    }
+
+    @Test
+    @DisplayName("Repeated lookup is served from the cache while the event feed is in sync")
+    void lookup_Synced_SecondCallIsCacheHit() {
+        // Given
+        cache.markSynced();
+        api.getUserSummary("u1");
+
+        // When
+        String second = api.getUserSummary("u1");
+
+        // Then
+        assertThat(second).isEqualTo("{\"version\":1}");
+        assertThat(downstreamCalls.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("user.lookup.cache").tag("outcome", "hit").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("A change event for the user evicts it and the next lookup refetches")
+    void lookup_AfterEvict_Refetches() {
+        // Given
+        cache.markSynced();
+        api.getUserSummary("u1");
+        api.getUserSummary("u2");
+
+        // When
+        cache.evict("u1");
+
+        // Then
+        assertThat(api.getUserSummary("u1")).isEqualTo("{\"version\":3}");
+        assertThat(api.getUserSummary("u2")).isEqualTo("{\"version\":2}");
+        assertThat(downstreamCalls.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Cache is bypassed when the event feed has never synced")
+    void lookup_NotSynced_AlwaysCallsDownstream() {
+        // Given
+        api.getUserSummary("u1");
+
+        // When
+        String second = api.getUserSummary("u1");
+
+        // Then
+        assertThat(second).isEqualTo("{\"version\":2}");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("User id is taken from internal user URLs only")
+    void userIdOf_ParsesInternalUserUrls() {
+        assertThat(UserLookupCacheCapability.userIdOf("http://USER-SERVICE/api/v1/internal/users/u1")).isEqualTo("u1");
+        assertThat(UserLookupCacheCapability.userIdOf("http://USER-SERVICE/api/v1/internal/users/u1/summary"))
+                .isEqualTo("u1");
+        assertThat(UserLookupCacheCapability.userIdOf("http://USER-SERVICE/api/v1/internal/events/users?after=0"))
+                .isNull();
+    }
+}
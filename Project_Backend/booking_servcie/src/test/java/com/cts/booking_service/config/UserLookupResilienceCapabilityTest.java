@@ -0,0 +1,114 @@
+package com.cts.booking_service.config;
+
+import feign.Client;
+import feign.Feign;
+import feign.Param;
+import feign.RequestLine;
+import feign.Response;
+import feign.Retryer;
+import feign.Target;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserLookupResilienceCapabilityTest {
+
+    interface UserApi {
+        @RequestLine("GET /api/v1/internal/users/{userId}")
+        String getUserById(@Param("userId") String userId);
+    }
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserLookupResilienceCapability capability;
+    private AtomicBoolean failing;
+    private AtomicInteger downstreamCalls;
+    private UserApi api;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        capability = new UserLookupResilienceCapability(meterRegistry, 50, 800, 4, 4, 60_000, 1, 20, 100);
+        failing = new AtomicBoolean();
+        downstreamCalls = new AtomicInteger();
+
+        Client downstream = (request, options) -> {
+            downstreamCalls.incrementAndGet();
+            if (failing.get()) {
+                throw new IOException("Read timed out");
+            }
+            return Response.builder()
+                    .status(200)
+                    .request(request)
+                    .headers(Collections.emptyMap())
+                    .body("{\"id\":\"" + request.url().substring(request.url().lastIndexOf('/') + 1) + "\"}",
+                            StandardCharsets.UTF_8)
+                    .build();
+        };
+        api = Feign.builder()
+                .client(downstream)
+                .retryer(Retryer.NEVER_RETRY)
+                .addCapability(capability)
+                .target(new Target.HardCodedTarget<>(UserApi.class, "USER-SERVICE", "http://USER-SERVICE"));
+    }
+
+    @Test
+    @DisplayName("Failed lookup falls back to the last known response for the same user")
+    void lookup_DownstreamFails_ServesStale() {
+        // Given
+        assertThat(api.getUserById("u1")).isEqualTo("{\"id\":\"u1\"}");
+        failing.set(true);
+
+        // When
+        String stale = api.getUserById("u1");
+
+        // Then
+        assertThat(stale).isEqualTo("{\"id\":\"u1\"}");
+        assertThat(meterRegistry.get("user.lookup.fallback").tag("outcome", "stale").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Failed lookup with nothing cached propagates the error")
+    void lookup_DownstreamFailsWithoutCache_Throws() {
+        // Given
+        failing.set(true);
+
+        // When / Then
+        assertThatThrownBy(() -> api.getUserById("u2")).isInstanceOf(feign.RetryableException.class);
+    }
+
+    @Test
+    @DisplayName("Open circuit rejects lookups without calling USER-SERVICE")
+    void lookup_CircuitOpen_FailsFastWithoutDownstreamCall() {
+        // Given
+        api.getUserById("u1");
+        failing.set(true);
+        for (int i = 0; i < 4; i++) {
+            api.getUserById("u1");
+        }
+        assertThat(capability.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        int callsWhenOpened = downstreamCalls.get();
+
+        // When
+        String stale = api.getUserById("u1");
+
+        // Then
+        assertThat(stale).isEqualTo("{\"id\":\"u1\"}");
+        assertThat(downstreamCalls.get()).isEqualTo(callsWhenOpened);
+        assertThatThrownBy(() -> api.getUserById("u3")).isInstanceOf(feign.RetryableException.class);
+        assertThat(downstreamCalls.get()).isEqualTo(callsWhenOpened);
+        assertThat(meterRegistry.get("user.lookup.circuit.transitions")
+                .tag("from", "CLOSED").tag("to", "OPEN").counter().count()).isEqualTo(1.0);
+    }
+}
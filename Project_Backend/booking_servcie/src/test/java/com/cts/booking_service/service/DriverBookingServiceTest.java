@@ -0,0 +1,162 @@
+package com.cts.booking_service.service;
+
+import com.cts.booking_service.client.UserServiceClient;
+import com.cts.booking_service.dto.UserSummaryResponse;
+import com.cts.booking_service.dto.driver.AcceptBookingRequest;
+import com.cts.booking_service.dto.driver.DriverBookingResponse;
+import com.cts.booking_service.entity.Booking;
+import com.cts.booking_service.exception.InvalidBookingStatusException;
+import com.cts.booking_service.exception.InvalidRequestException;
+import com.cts.booking_service.exception.InvalidVehicleTypeException;
+import com.cts.booking_service.repository.DriverBookingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Driver Booking Service Tests")
+class DriverBookingServiceTest {
+
+    @Mock
+    private DriverBookingRepository repository;
+
+    @Mock
+    private UserServiceClient userServiceClient;
+
+    @Mock
+    private DriverEligibilityCache driverEligibilityCache;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private DriverBookingService driverBookingService;
+
+    private Booking booking;
+    private AcceptBookingRequest acceptRequest;
+
+    @BeforeEach
+    void setUp() {
+        booking = new Booking();
+        booking.setId("booking-123");
+        booking.setRiderId("rider-123");
+        booking.setVehicleType(Booking.VehicleType.SEDAN);
+        booking.setBookingStatus(Booking.BookingStatus.PENDING);
+        booking.setPaymentStatus(Booking.PaymentStatus.PENDING);
+        booking.setCreatedAt(OffsetDateTime.now());
+
+        acceptRequest = new AcceptBookingRequest("vehicle-123");
+    }
+
+    @Test
+    @DisplayName("Should check the vehicle before the transaction and then assign the booking")
+    void testAcceptBooking_Success() {
+        // Given
+        when(repository.findById("booking-123")).thenReturn(Optional.of(booking));
+        when(repository.findByIdForUpdate("booking-123")).thenReturn(Optional.of(booking));
+        when(repository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        runTransactions();
+        UserSummaryResponse rider = new UserSummaryResponse();
+        rider.setFirstName("Asha");
+        rider.setLastName("Rao");
+        when(userServiceClient.getUserSummary("rider-123")).thenReturn(rider);
+
+        // When
+        DriverBookingResponse response = driverBookingService.acceptBooking("booking-123", "driver-123", acceptRequest);
+
+        // Then
+        assertThat(booking.getBookingStatus()).isEqualTo(Booking.BookingStatus.ACCEPTED);
+        assertThat(booking.getDriverId()).isEqualTo("driver-123");
+        assertThat(booking.getVehicleId()).isEqualTo("vehicle-123");
+        assertThat(response.getRiderName()).isEqualTo("Asha Rao");
+
+        InOrder order = inOrder(driverEligibilityCache, transactionTemplate, repository, userServiceClient);
+        order.verify(driverEligibilityCache).validate("driver-123", "vehicle-123", Booking.VehicleType.SEDAN);
+        order.verify(transactionTemplate).execute(any());
+        order.verify(repository).findByIdForUpdate("booking-123");
+        order.verify(repository).save(booking);
+        order.verify(userServiceClient).getUserSummary("rider-123");
+    }
+
+    @Test
+    @DisplayName("Should reject a vehicle that is not eligible without opening a transaction")
+    void testAcceptBooking_VehicleNotEligible() {
+        // Given
+        when(repository.findById("booking-123")).thenReturn(Optional.of(booking));
+        doThrow(new InvalidRequestException("Vehicle vehicle-123 is not an approved, active vehicle of this driver"))
+                .when(driverEligibilityCache).validate("driver-123", "vehicle-123", Booking.VehicleType.SEDAN);
+
+        // When & Then
+        assertThatThrownBy(() -> driverBookingService.acceptBooking("booking-123", "driver-123", acceptRequest))
+                .isInstanceOf(InvalidRequestException.class);
+        verify(transactionTemplate, never()).execute(any());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a vehicle of the wrong type")
+    void testAcceptBooking_WrongVehicleType() {
+        // Given
+        when(repository.findById("booking-123")).thenReturn(Optional.of(booking));
+        doThrow(new InvalidVehicleTypeException("This booking needs a SEDAN; vehicle vehicle-123 is a BIKE"))
+                .when(driverEligibilityCache).validate("driver-123", "vehicle-123", Booking.VehicleType.SEDAN);
+
+        // When & Then
+        assertThatThrownBy(() -> driverBookingService.acceptBooking("booking-123", "driver-123", acceptRequest))
+                .isInstanceOf(InvalidVehicleTypeException.class);
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should reject when the driver already has an active booking, before checking the vehicle")
+    void testAcceptBooking_DriverBusy() {
+        // Given
+        when(repository.findById("booking-123")).thenReturn(Optional.of(booking));
+        when(repository.hasActiveBooking("driver-123")).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> driverBookingService.acceptBooking("booking-123", "driver-123", acceptRequest))
+                .isInstanceOf(InvalidBookingStatusException.class)
+                .hasMessageContaining("active booking");
+        verifyNoInteractions(driverEligibilityCache, transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("Should reject when another driver took the booking while the vehicle was checked")
+    void testAcceptBooking_TakenDuringCheck() {
+        // Given
+        Booking taken = new Booking();
+        taken.setId("booking-123");
+        taken.setVehicleType(Booking.VehicleType.SEDAN);
+        taken.setBookingStatus(Booking.BookingStatus.ACCEPTED);
+        taken.setDriverId("driver-456");
+        when(repository.findById("booking-123")).thenReturn(Optional.of(booking));
+        when(repository.findByIdForUpdate("booking-123")).thenReturn(Optional.of(taken));
+        runTransactions();
+
+        // When & Then
+        assertThatThrownBy(() -> driverBookingService.acceptBooking("booking-123", "driver-123", acceptRequest))
+                .isInstanceOf(InvalidBookingStatusException.class)
+                .hasMessageContaining("no longer available");
+        verify(repository, never()).save(any());
+    }
+
+    private void runTransactions() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+}
@@ -0,0 +1,160 @@
+package com.cts.booking_service.service;
+
+import com.cts.booking_service.client.DriverServiceClient;
+import com.cts.booking_service.dto.DriverEligibility;
+import com.cts.booking_service.dto.EligibilityBatch;
+import com.cts.booking_service.dto.EligibilitySnapshot;
+import com.cts.booking_service.dto.EligibleVehicle;
+import com.cts.booking_service.entity.Booking;
+import com.cts.booking_service.exception.InvalidRequestException;
+import com.cts.booking_service.exception.InvalidVehicleTypeException;
+import com.cts.booking_service.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Driver Eligibility Cache Tests")
+class DriverEligibilityCacheTest {
+
+    @Mock
+    private DriverServiceClient driverServiceClient;
+
+    private DriverEligibilityCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new DriverEligibilityCache(driverServiceClient, new SimpleMeterRegistry(), true, 500, 900000, 30000);
+    }
+
+    private static DriverEligibility driver(String userId, EligibleVehicle... vehicles) {
+        return new DriverEligibility(userId, List.of(vehicles));
+    }
+
+    private void loadSnapshot(DriverEligibility... drivers) {
+        when(driverServiceClient.getEligibilitySnapshot(isNull(), eq(500)))
+                .thenReturn(new EligibilitySnapshot(10, null, List.of(drivers)));
+    }
+
+    @Test
+    @DisplayName("Should accept a vehicle from the loaded snapshot without a remote check")
+    void validate_FromSnapshot_NoRemoteCall() {
+        // Given
+        loadSnapshot(driver("driver-1", new EligibleVehicle("vehicle-1", "SEDAN")));
+        when(driverServiceClient.getEligibilityChanges(10, 500)).thenReturn(new EligibilityBatch(10, 10, 1, List.of()));
+        cache.poll();
+
+        // When
+        cache.validate("driver-1", "vehicle-1", Booking.VehicleType.SEDAN);
+
+        // Then
+        assertThat(cache.isLoaded()).isTrue();
+        verify(driverServiceClient, never()).getDriverEligibility(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a vehicle removed by the change feed")
+    void validate_VehicleRemovedByFeed_ThrowsException() {
+        // Given
+        loadSnapshot(driver("driver-1", new EligibleVehicle("vehicle-1", "SEDAN")));
+        when(driverServiceClient.getEligibilityChanges(10, 500))
+                .thenReturn(new EligibilityBatch(11, 11, 1, List.of(driver("driver-1"))));
+        when(driverServiceClient.getDriverEligibility("driver-1")).thenReturn(driver("driver-1"));
+        cache.poll();
+
+        // When / Then
+        assertThatThrownBy(() -> cache.validate("driver-1", "vehicle-1", Booking.VehicleType.SEDAN))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject a vehicle of the wrong type")
+    void validate_TypeMismatch_ThrowsException() {
+        // Given
+        loadSnapshot(driver("driver-1", new EligibleVehicle("vehicle-1", "AUTO")));
+        when(driverServiceClient.getEligibilityChanges(10, 500)).thenReturn(new EligibilityBatch(10, 10, 1, List.of()));
+        cache.poll();
+
+        // When / Then
+        assertThatThrownBy(() -> cache.validate("driver-1", "vehicle-1", Booking.VehicleType.SEDAN))
+                .isInstanceOf(InvalidVehicleTypeException.class);
+    }
+
+    @Test
+    @DisplayName("Should check a driver missing from the cache against DRIVER-SERVICE without caching the answer")
+    void validate_CacheMiss_ChecksRemotely() {
+        // Given
+        loadSnapshot();
+        when(driverServiceClient.getEligibilityChanges(10, 500)).thenReturn(new EligibilityBatch(10, 10, 1, List.of()));
+        when(driverServiceClient.getDriverEligibility("driver-2"))
+                .thenReturn(driver("driver-2", new EligibleVehicle("vehicle-2", "BIKE")));
+        cache.poll();
+
+        // When
+        cache.validate("driver-2", "vehicle-2", Booking.VehicleType.BIKE);
+        cache.validate("driver-2", "vehicle-2", Booking.VehicleType.BIKE);
+
+        // Then
+        verify(driverServiceClient, times(2)).getDriverEligibility("driver-2");
+    }
+
+    @Test
+    @DisplayName("Should not let a remote lookup overwrite a newer change from the feed")
+    void validate_RemoteLookup_DoesNotWriteReplica() {
+        // Given
+        loadSnapshot();
+        when(driverServiceClient.getEligibilityChanges(10, 500))
+                .thenReturn(new EligibilityBatch(10, 10, 1, List.of()))
+                .thenReturn(new EligibilityBatch(11, 11, 1, List.of(driver("driver-2"))));
+        when(driverServiceClient.getDriverEligibility("driver-2"))
+                .thenReturn(driver("driver-2", new EligibleVehicle("vehicle-2", "BIKE")))
+                .thenReturn(driver("driver-2"));
+        cache.poll();
+        cache.validate("driver-2", "vehicle-2", Booking.VehicleType.BIKE);
+
+        // When
+        cache.poll();
+
+        // Then
+        assertThatThrownBy(() -> cache.validate("driver-2", "vehicle-2", Booking.VehicleType.BIKE))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Should reload the snapshot when the feed has pruned past the offset")
+    void poll_OffsetPruned_Reloads() {
+        // Given
+        loadSnapshot();
+        when(driverServiceClient.getEligibilityChanges(10, 500))
+                .thenReturn(new EligibilityBatch(10, 40, 20, List.of()))
+                .thenReturn(new EligibilityBatch(10, 10, 1, List.of()));
+
+        // When
+        cache.poll();
+
+        // Then
+        verify(driverServiceClient, times(2)).getEligibilitySnapshot(isNull(), eq(500));
+    }
+
+    @Test
+    @DisplayName("Should fail closed with a retryable error when eligibility cannot be checked")
+    void validate_RemoteFailure_ThrowsException() {
+        // Given
+        when(driverServiceClient.getDriverEligibility("driver-1")).thenThrow(new RuntimeException("down"));
+
+        // When / Then
+        assertThatThrownBy(() -> cache.validate("driver-1", "vehicle-1", Booking.VehicleType.SEDAN))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasMessageContaining("retry");
+    }
+}
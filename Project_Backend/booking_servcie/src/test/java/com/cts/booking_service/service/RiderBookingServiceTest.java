@@ -1,7 +1,7 @@
 package com.cts.booking_service.service;
 
 import com.cts.booking_service.client.UserServiceClient;
-import com.cts.booking_service.dto.UserResponse;
+import com.cts.booking_service.dto.UserSummaryResponse;
 import com.cts.booking_service.dto.rider.CreateBookingRequest;
 import com.cts.booking_service.dto.rider.RiderBookingResponse;
 import com.cts.booking_service.entity.Booking;
@@ -41,7 +41,7 @@ class RiderBookingServiceTest {
 
     private CreateBookingRequest createRequest;
     private Booking booking;
-    private UserResponse driverResponse;
+    private UserSummaryResponse driverResponse;
 
     @BeforeEach
     void setUp() {
@@ -76,7 +76,7 @@ class RiderBookingServiceTest {
         booking.setCreatedAt(OffsetDateTime.now());
 
         // Setup driver response
-        driverResponse = new UserResponse();
+        driverResponse = new UserSummaryResponse();
         driverResponse.setId("driver-123");
         driverResponse.setFirstName("John");
         driverResponse.setLastName("Doe");
@@ -271,7 +271,7 @@ class RiderBookingServiceTest {
         assertThat(response.getDriverName()).isNull();
 
         verify(repository, times(1)).findById("booking-123");
-        verify(userServiceClient, never()).getUserById(anyString());
+        verify(userServiceClient, never()).getUserSummary(anyString());
     }
 
     @Test
@@ -280,7 +280,7 @@ class RiderBookingServiceTest {
         // Given
         booking.setDriverId("driver-123");
         when(repository.findById("booking-123")).thenReturn(Optional.of(booking));
-        when(userServiceClient.getUserById("driver-123")).thenReturn(driverResponse);
+        when(userServiceClient.getUserSummary("driver-123")).thenReturn(driverResponse);
 
         // When
         RiderBookingResponse response = riderBookingService.getBookingDetails("booking-123", "rider-123");
@@ -293,7 +293,7 @@ class RiderBookingServiceTest {
         assertThat(response.getDriverPhone()).isEqualTo("+919876543210");
 
         verify(repository, times(1)).findById("booking-123");
-        verify(userServiceClient, times(1)).getUserById("driver-123");
+        verify(userServiceClient, times(1)).getUserSummary("driver-123");
     }
 
     @Test
@@ -302,7 +302,7 @@ class RiderBookingServiceTest {
         // Given
         booking.setDriverId("driver-123");
         when(repository.findById("booking-123")).thenReturn(Optional.of(booking));
-        when(userServiceClient.getUserById("driver-123")).thenThrow(new RuntimeException("Service unavailable"));
+        when(userServiceClient.getUserSummary("driver-123")).thenThrow(new RuntimeException("Service unavailable"));
 
         // When
         RiderBookingResponse response = riderBookingService.getBookingDetails("booking-123", "rider-123");
@@ -315,7 +315,7 @@ class RiderBookingServiceTest {
         assertThat(response.getDriverPhone()).isNull();
 
         verify(repository, times(1)).findById("booking-123");
-        verify(userServiceClient, times(1)).getUserById("driver-123");
+        verify(userServiceClient, times(1)).getUserSummary("driver-123");
     }
 
     @Test
@@ -0,0 +1,125 @@
+package com.cts.booking_service.service;
+
+import com.cts.booking_service.client.DriverServiceClient;
+import com.cts.booking_service.dto.VehicleResponse;
+import com.cts.booking_service.dto.payment.PaymentDetailsResponse;
+import com.cts.booking_service.dto.rider.RiderBookingResponse;
+import com.cts.booking_service.dto.rider.RiderTripResponse;
+import com.cts.booking_service.exception.UnauthorizedAccessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Rider Trip Service Tests")
+class RiderTripServiceTest {
+
+    @Mock
+    private RiderBookingService riderBookingService;
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private DriverServiceClient driverServiceClient;
+
+    private RiderTripService riderTripService;
+
+    private RiderBookingResponse bookingResponse;
+    private PaymentDetailsResponse paymentResponse;
+    private VehicleResponse vehicleResponse;
+
+    @BeforeEach
+    void setUp() {
+        riderTripService = new RiderTripService(riderBookingService, paymentService, driverServiceClient, Runnable::run);
+
+        bookingResponse = new RiderBookingResponse();
+        bookingResponse.setId("booking-123");
+        bookingResponse.setRiderId("rider-123");
+        bookingResponse.setDriverId("driver-123");
+        bookingResponse.setVehicleId("vehicle-123");
+
+        paymentResponse = PaymentDetailsResponse.builder()
+                .bookingId("booking-123")
+                .paymentStatus("PENDING")
+                .build();
+
+        vehicleResponse = new VehicleResponse();
+        vehicleResponse.setId("vehicle-123");
+        vehicleResponse.setRegistrationNumber("MH01AB1234");
+    }
+
+    @Test
+    @DisplayName("Should compose booking, payment and vehicle into one response")
+    void getTripDetails_Success() {
+        // Given
+        when(riderBookingService.getBookingDetails("booking-123", "rider-123")).thenReturn(bookingResponse);
+        when(paymentService.getPaymentDetails("booking-123", "rider-123")).thenReturn(paymentResponse);
+        when(driverServiceClient.getVehicleById("vehicle-123")).thenReturn(vehicleResponse);
+
+        // When
+        RiderTripResponse result = riderTripService.getTripDetails("booking-123", "rider-123").join();
+
+        // Then
+        assertThat(result.getBooking()).isEqualTo(bookingResponse);
+        assertThat(result.getPayment()).isEqualTo(paymentResponse);
+        assertThat(result.getVehicle()).isEqualTo(vehicleResponse);
+    }
+
+    @Test
+    @DisplayName("Should skip vehicle lookup when no vehicle is assigned")
+    void getTripDetails_NoVehicle() {
+        // Given
+        bookingResponse.setVehicleId(null);
+        when(riderBookingService.getBookingDetails("booking-123", "rider-123")).thenReturn(bookingResponse);
+        when(paymentService.getPaymentDetails("booking-123", "rider-123")).thenReturn(paymentResponse);
+
+        // When
+        RiderTripResponse result = riderTripService.getTripDetails("booking-123", "rider-123").join();
+
+        // Then
+        assertThat(result.getVehicle()).isNull();
+        verify(driverServiceClient, never()).getVehicleById(anyString());
+    }
+
+    @Test
+    @DisplayName("Should degrade gracefully when payment and vehicle lookups fail")
+    void getTripDetails_PartialFailure() {
+        // Given
+        when(riderBookingService.getBookingDetails("booking-123", "rider-123")).thenReturn(bookingResponse);
+        when(paymentService.getPaymentDetails("booking-123", "rider-123")).thenThrow(new RuntimeException("DB error"));
+        when(driverServiceClient.getVehicleById("vehicle-123")).thenThrow(new RuntimeException("Service unavailable"));
+
+        // When
+        RiderTripResponse result = riderTripService.getTripDetails("booking-123", "rider-123").join();
+
+        // Then
+        assertThat(result.getBooking()).isEqualTo(bookingResponse);
+        assertThat(result.getPayment()).isNull();
+        assertThat(result.getVehicle()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should propagate booking access errors")
+    void getTripDetails_Unauthorized() {
+        // Given
+        when(riderBookingService.getBookingDetails("booking-123", "other-rider"))
+                .thenThrow(new UnauthorizedAccessException("other-rider", "booking-123"));
+        when(paymentService.getPaymentDetails("booking-123", "other-rider"))
+                .thenThrow(new UnauthorizedAccessException("other-rider", "booking-123"));
+
+        // When & Then
+        assertThatThrownBy(() -> riderTripService.getTripDetails("booking-123", "other-rider").join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(UnauthorizedAccessException.class);
+    }
+}
@@ -0,0 +1,183 @@
+package com.cts.booking_service.service;
+
+import com.cts.booking_service.client.UserServiceClient;
+import com.cts.booking_service.config.UserLookupCacheCapability;
+import com.cts.booking_service.config.UserLookupResilienceCapability;
+import com.cts.booking_service.dto.UserChangeEvent;
+import com.cts.booking_service.dto.UserEventBatch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("User Event Subscriber Tests")
+class UserEventSubscriberTest {
+
+    @Mock
+    private UserServiceClient userServiceClient;
+
+    @Mock
+    private UserLookupCacheCapability userCache;
+
+    @Mock
+    private UserLookupResilienceCapability userLookupResilience;
+
+    @TempDir
+    Path tempDir;
+
+    private UserEventSubscriber subscriber(Path offsetFile) {
+        return new UserEventSubscriber(userServiceClient, userCache, userLookupResilience,
+                new SimpleMeterRegistry(), true, 500, offsetFile.toString());
+    }
+
+    private static UserChangeEvent event(long offset, String userId) {
+        return new UserChangeEvent(offset, offset + 100, userId, "UPDATED");
+    }
+
+    @Test
+    @DisplayName("Should evict every changed user and save the offset after the batch")
+    void poll_AppliesEventsAndSavesOffset() throws Exception {
+        // Given
+        Path offsetFile = tempDir.resolve("offset");
+        when(userServiceClient.getUserEvents(0, 500))
+                .thenReturn(new UserEventBatch(2, 1, List.of(event(1, "u1"), event(2, "u2"))));
+
+        // When
+        subscriber(offsetFile).poll();
+
+        // Then
+        verify(userCache).evict("u1");
+        verify(userCache).evict("u2");
+        verify(userLookupResilience).evict("u2");
+        verify(userCache, never()).clear();
+        verify(userCache).markSynced();
+        assertThat(Files.readString(offsetFile, StandardCharsets.UTF_8)).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("Should continue from the saved offset after a restart")
+    void poll_ResumesFromSavedOffset() throws Exception {
+        // Given
+        Path offsetFile = tempDir.resolve("offset");
+        Files.writeString(offsetFile, "7", StandardCharsets.UTF_8);
+        when(userServiceClient.getUserEvents(7, 500)).thenReturn(new UserEventBatch(8, 1, List.of(event(8, "u8"))));
+        UserEventSubscriber subscriber = subscriber(offsetFile);
+
+        // When
+        subscriber.load();
+        subscriber.poll();
+
+        // Then
+        verify(userCache).evict("u8");
+        assertThat(Files.readString(offsetFile, StandardCharsets.UTF_8)).isEqualTo("8");
+    }
+
+    @Test
+    @DisplayName("Should clear the caches and skip to the oldest event when the missed ones were pruned")
+    void poll_BehindPrunedEvents_ClearsCachesAndSkipsAhead() throws Exception {
+        // Given
+        Path offsetFile = tempDir.resolve("offset");
+        Files.writeString(offsetFile, "3", StandardCharsets.UTF_8);
+        when(userServiceClient.getUserEvents(3, 500)).thenReturn(new UserEventBatch(12, 10, List.of(event(10, "u10"))));
+        when(userServiceClient.getUserEvents(9, 500)).thenReturn(
+                new UserEventBatch(12, 10, List.of(event(10, "u10"), event(11, "u11"), event(12, "u12"))));
+        UserEventSubscriber subscriber = subscriber(offsetFile);
+        subscriber.load();
+
+        // When
+        subscriber.poll();
+
+        // Then
+        InOrder inOrder = inOrder(userCache);
+        inOrder.verify(userCache).clear();
+        inOrder.verify(userCache).evict("u10");
+        verify(userCache).evict("u12");
+        assertThat(Files.readString(offsetFile, StandardCharsets.UTF_8)).isEqualTo("12");
+    }
+
+    @Test
+    @DisplayName("Should clear the caches and restart at 0 when the feed ends before the saved offset")
+    void poll_OffsetPastEndOfFeed_ClearsCachesAndRestarts() throws Exception {
+        // Given
+        Path offsetFile = tempDir.resolve("offset");
+        Files.writeString(offsetFile, "500", StandardCharsets.UTF_8);
+        when(userServiceClient.getUserEvents(500, 500)).thenReturn(new UserEventBatch(2, 1, List.of()));
+        when(userServiceClient.getUserEvents(0, 500))
+                .thenReturn(new UserEventBatch(2, 1, List.of(event(1, "u1"), event(2, "u2"))));
+        UserEventSubscriber subscriber = subscriber(offsetFile);
+        subscriber.load();
+
+        // When
+        subscriber.poll();
+
+        // Then
+        verify(userCache).clear();
+        verify(userCache).evict("u1");
+        assertThat(Files.readString(offsetFile, StandardCharsets.UTF_8)).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("Should start from 0 when the offset file cannot be parsed")
+    void load_UnreadableOffsetFile_StartsFromZero() throws Exception {
+        // Given
+        Path offsetFile = tempDir.resolve("offset");
+        Files.writeString(offsetFile, "3f2a9c 42", StandardCharsets.UTF_8);
+        when(userServiceClient.getUserEvents(0, 500)).thenReturn(new UserEventBatch(0, 0, List.of()));
+        UserEventSubscriber subscriber = subscriber(offsetFile);
+
+        // When
+        subscriber.load();
+        subscriber.poll();
+
+        // Then
+        verify(userServiceClient).getUserEvents(0, 500);
+        verify(userCache, never()).clear();
+    }
+
+    @Test
+    @DisplayName("Should skip events at or below the current offset when a batch is redelivered")
+    void poll_RedeliveredEvents_AreNotAppliedTwice() {
+        // Given
+        Path offsetFile = tempDir.resolve("offset");
+        when(userServiceClient.getUserEvents(0, 500)).thenReturn(new UserEventBatch(1, 1, List.of(event(1, "u1"))));
+        when(userServiceClient.getUserEvents(1, 500)).thenReturn(new UserEventBatch(2, 1, List.of(event(1, "u1"), event(2, "u2"))));
+        UserEventSubscriber subscriber = subscriber(offsetFile);
+
+        // When
+        subscriber.poll();
+        subscriber.poll();
+
+        // Then
+        verify(userCache, times(1)).evict("u1");
+        verify(userCache, times(1)).evict("u2");
+    }
+
+    @Test
+    @DisplayName("Should keep the offset and not mark the cache synced when USER-SERVICE is unreachable")
+    void poll_ClientFails_DoesNotMarkSynced() {
+        // Given
+        when(userServiceClient.getUserEvents(anyLong(), anyInt())).thenThrow(new RuntimeException("connection refused"));
+
+        // When
+        subscriber(tempDir.resolve("offset")).poll();
+
+        // Then
+        verify(userCache, never()).markSynced();
+        assertThat(Files.exists(tempDir.resolve("offset"))).isFalse();
+    }
+}
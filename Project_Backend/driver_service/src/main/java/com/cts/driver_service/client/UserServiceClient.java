@@ -5,8 +5,12 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
+import com.cts.driver_service.dto.UserEventBatch;
 import com.cts.driver_service.dto.UserResponse;
+import com.cts.driver_service.dto.UserStatusBatchRequest;
+import com.cts.driver_service.dto.UserStatusBatchResponse;
 
 import java.util.Map;
 
@@ -19,4 +23,10 @@ public interface UserServiceClient {
     @PutMapping("/api/v1/internal/users/{userId}/status")
     void updateUserStatus(@PathVariable("userId") String userId,
                           @RequestBody Map<String, String> statusUpdate);
+
+    @PutMapping("/api/v1/internal/users/status")
+    UserStatusBatchResponse updateUserStatuses(@RequestBody UserStatusBatchRequest request);
+
+    @GetMapping("/api/v1/internal/events/users")
+    UserEventBatch getUserEvents(@RequestParam("after") long after, @RequestParam("limit") int limit);
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.cts.driver_service.config;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies {@link FeignTimeoutProperties} by swapping the read timeout on the request options
+ * for the methods that have one configured. Options are built once per endpoint.
+ */
+public class PerEndpointTimeoutCapability implements Capability {
+
+    private final Map<String, Duration> readTimeouts = new HashMap<>();
+    private final Map<String, Request.Options> optionsByEndpoint = new ConcurrentHashMap<>();
+
+    public PerEndpointTimeoutCapability(FeignTimeoutProperties properties) {
+        properties.getReadTimeouts().forEach((clientName, methods) ->
+                methods.forEach((methodName, timeout) -> readTimeouts.put(key(clientName, methodName), timeout)));
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        if (readTimeouts.isEmpty()) {
+            return client;
+        }
+        return (request, options) -> client.execute(request, optionsFor(request, options));
+    }
+
+    private Request.Options optionsFor(Request request, Request.Options options) {
+        RequestTemplate template = request.requestTemplate();
+        if (template == null || template.methodMetadata() == null || template.feignTarget() == null) {
+            return options;
+        }
+        String key = key(template.feignTarget().name(), template.methodMetadata().method().getName());
+        Duration readTimeout = readTimeouts.get(key);
+        if (readTimeout == null) {
+            return options;
+        }
+        return optionsByEndpoint.computeIfAbsent(key, k -> new Request.Options(
+                options.connectTimeout(), options.connectTimeoutUnit(),
+                readTimeout.toMillis(), TimeUnit.MILLISECONDS,
+                options.isFollowRedirects()));
+    }
+
+    private static String key(String clientName, String methodName) {
+        return (clientName + "#" + methodName).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,182 @@
+package com.cts.driver_service.config;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Long-lived cache of successful USER-SERVICE user lookups (GET /api/v1/internal/users/{id}...).
+ *
+ * Entries live for user-cache.ttl-ms and are evicted early by {@code UserEventSubscriber} when
+ * user_service reports a change to that user. If the subscriber has not synced within
+ * user-cache.max-staleness-ms, the cache is bypassed, so a stalled event feed cannot make
+ * callers see outdated users for longer than that. Outermost Feign capability: hits never reach
+ * the circuit breaker or the network.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 100)
+public class UserLookupCacheCapability implements Capability {
+
+    private static final String USERS_PATH = "/api/v1/internal/users/";
+
+    private final long ttlMillis;
+    private final long maxStalenessMillis;
+    // userId -> (url -> response); one user usually has a single cached URL
+    private final Map<String, Map<String, CachedResponse>> entries;
+    // Bumped on every eviction so a lookup that raced with an eviction is not cached
+    private final AtomicLong evictions = new AtomicLong();
+    private volatile long lastSyncedMillis;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evicted;
+
+    public UserLookupCacheCapability(MeterRegistry meterRegistry,
+                                     @Value("${user-cache.ttl-ms:3600000}") long ttlMillis,
+                                     @Value("${user-cache.max-staleness-ms:30000}") long maxStalenessMillis,
+                                     @Value("${user-cache.max-entries:10000}") int maxEntries) {
+        this.ttlMillis = ttlMillis;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, CachedResponse>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+
+        this.hits = Counter.builder("user.lookup.cache")
+                .tag("outcome", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("user.lookup.cache")
+                .tag("outcome", "miss")
+                .register(meterRegistry);
+        this.evicted = Counter.builder("user.lookup.cache.evictions")
+                .description("Cached users dropped because user_service reported a change")
+                .register(meterRegistry);
+        Gauge.builder("user.lookup.cache.size", this, UserLookupCacheCapability::size)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            String userId = request.httpMethod() == Request.HttpMethod.GET ? userIdOf(request.url()) : null;
+            return userId == null ? client.execute(request, options) : execute(client, request, options, userId);
+        };
+    }
+
+    private Response execute(Client client, Request request, Request.Options options, String userId)
+            throws IOException {
+        long now = System.currentTimeMillis();
+        boolean synced = now - lastSyncedMillis <= maxStalenessMillis;
+        String url = request.url();
+
+        if (synced) {
+            CachedResponse cached = get(userId, url, now);
+            if (cached != null) {
+                hits.increment();
+                return cached.toResponse(request);
+            }
+        }
+        misses.increment();
+
+        long evictionsBefore = evictions.get();
+        Response response = client.execute(request, options);
+        if (!synced || response.status() != 200 || response.body() == null) {
+            return response;
+        }
+        byte[] body = Util.toByteArray(response.body().asInputStream());
+        response.close();
+        put(userId, url, new CachedResponse(response.headers(), body, now + ttlMillis), evictionsBefore);
+        return response.toBuilder().body(body).build();
+    }
+
+    /** Drops everything cached for the user; safe to call repeatedly for the same change. */
+    public void evict(String userId) {
+        synchronized (entries) {
+            evictions.incrementAndGet();
+            if (entries.remove(userId) != null) {
+                evicted.increment();
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            evictions.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    /** Called by the event subscriber after each successful poll. */
+    public void markSynced() {
+        lastSyncedMillis = System.currentTimeMillis();
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private CachedResponse get(String userId, String url, long now) {
+        synchronized (entries) {
+            Map<String, CachedResponse> byUrl = entries.get(userId);
+            CachedResponse cached = byUrl != null ? byUrl.get(url) : null;
+            if (cached != null && cached.expiresAtMillis() <= now) {
+                byUrl.remove(url);
+                return null;
+            }
+            return cached;
+        }
+    }
+
+    private void put(String userId, String url, CachedResponse response, long evictionsBefore) {
+        synchronized (entries) {
+            if (evictions.get() != evictionsBefore) {
+                return;
+            }
+            entries.computeIfAbsent(userId, id -> new HashMap<>(2)).put(url, response);
+        }
+    }
+
+    /** The {id} of a /api/v1/internal/users/{id}[/...] URL, or null for any other URL. */
+    static String userIdOf(String url) {
+        String path = URI.create(url).getRawPath();
+        if (path == null || !path.startsWith(USERS_PATH)) {
+            return null;
+        }
+        int end = path.indexOf('/', USERS_PATH.length());
+        String userId = end < 0 ? path.substring(USERS_PATH.length()) : path.substring(USERS_PATH.length(), end);
+        return userId.isEmpty() ? null : userId;
+    }
+
+    private record CachedResponse(Map<String, Collection<String>> headers, byte[] body, long expiresAtMillis) {
+        Response toResponse(Request request) {
+            return Response.builder()
+                    .status(200)
+                    .reason("OK")
+                    .request(request)
+                    .headers(headers)
+                    .body(body)
+                    .build();
+        }
+    }
+}
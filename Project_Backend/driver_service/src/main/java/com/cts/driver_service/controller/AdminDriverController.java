@@ -1,7 +1,12 @@
 package com.cts.driver_service.controller;
 
 import com.cts.driver_service.dto.AdminVerificationRequest;
+import com.cts.driver_service.dto.BulkVerificationRequest;
+import com.cts.driver_service.dto.BulkVerificationResponse;
+import com.cts.driver_service.dto.DriverProfileResponse;
 import com.cts.driver_service.dto.DriverResponse;
+import com.cts.driver_service.dto.OffboardRequest;
+import com.cts.driver_service.dto.OffboardResponse;
 import com.cts.driver_service.entity.Driver;
 import com.cts.driver_service.exception.InvalidStatusException;
 import com.cts.driver_service.service.DriverService;
@@ -60,6 +65,15 @@ public class AdminDriverController {
         return ResponseEntity.ok(driver);
     }
 
+    @GetMapping("/{driverId}/profile")
+    public ResponseEntity<DriverProfileResponse> getDriverProfile(@PathVariable String driverId) {
+        log.info("Admin: Get full profile request for driver: {}", driverId);
+
+        DriverProfileResponse profile = driverService.getFullProfileById(driverId);
+
+        return ResponseEntity.ok(profile);
+    }
+
     @PutMapping("/{driverId}/verify")
     public ResponseEntity<DriverResponse> verifyDriver(
             @PathVariable String driverId,
@@ -75,6 +89,32 @@ public class AdminDriverController {
         return ResponseEntity.ok(driver);
     }
 
+    @PutMapping("/verify")
+    public ResponseEntity<BulkVerificationResponse> verifyDrivers(
+            @Valid @RequestBody BulkVerificationRequest verificationRequest) {
+
+        log.info("Admin: Bulk verify {} drivers with action: {}",
+                 verificationRequest.getDriverIds().size(), verificationRequest.getAction());
+
+        BulkVerificationResponse result = driverService.adminVerifyDrivers(verificationRequest);
+
+        log.info("Admin: Bulk verification completed - {} updated, {} failed",
+                 result.getUpdated().size(), result.getFailed().size());
+
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping("/offboard")
+    public ResponseEntity<OffboardResponse> offboardDrivers(@Valid @RequestBody OffboardRequest offboardRequest) {
+        log.info("Admin: Offboard request for {} drivers", offboardRequest.getDriverIds().size());
+
+        OffboardResponse result = driverService.offboardDrivers(offboardRequest);
+
+        log.info("Admin: Offboarded {} drivers, {} not found",
+                 result.getOffboarded().size(), result.getNotFound().size());
+        return ResponseEntity.ok(result);
+    }
+
     @DeleteMapping("/{driverId}")
     public ResponseEntity<Void> deleteDriver(@PathVariable String driverId) {
         log.info("Admin: Delete driver request for ID: {}", driverId);
@@ -0,0 +1,221 @@
+package com.cts.driver_service.controller;
+
+import com.cts.driver_service.dto.DocumentUploadResponse;
+import com.cts.driver_service.entity.Driver;
+import com.cts.driver_service.entity.Vehicle;
+import com.cts.driver_service.exception.InvalidDocumentException;
+import com.cts.driver_service.exception.UnauthorizedException;
+import com.cts.driver_service.service.DocumentService;
+import com.cts.driver_service.service.DocumentStore;
+import com.cts.driver_service.service.ThumbnailService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+
+/**
+ * Upload and download of driver and vehicle documents.
+ *
+ * PUT takes the raw file as the request body and streams it straight to disk; POST takes a
+ * multipart form with a "file" part for browser uploads. Downloads support Range requests.
+ */
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class DocumentController {
+
+    private final DocumentService documentService;
+
+    @PutMapping(value = "/api/v1/drivers/me/documents/{document}", consumes = {
+            MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE, MediaType.APPLICATION_PDF_VALUE})
+    public ResponseEntity<DocumentUploadResponse> putDriverDocument(
+            HttpServletRequest request,
+            @PathVariable String document) throws IOException {
+
+        String userId = extractUserId(request);
+        Driver.Document type = driverDocument(document);
+        log.info("Driver: Upload {} for userId: {}", type, userId);
+
+        DocumentStore.StoredDocument stored = documentService.uploadDriverDocument(
+                userId, type, request.getContentType(), request.getInputStream());
+        return ResponseEntity.ok(toResponse(type.name(), stored));
+    }
+
+    @PostMapping(value = "/api/v1/drivers/me/documents/{document}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<DocumentUploadResponse> postDriverDocument(
+            HttpServletRequest request,
+            @PathVariable String document,
+            @RequestParam("file") MultipartFile file) throws IOException {
+
+        String userId = extractUserId(request);
+        Driver.Document type = driverDocument(document);
+        log.info("Driver: Multipart upload {} for userId: {}", type, userId);
+
+        try (InputStream body = file.getInputStream()) {
+            DocumentStore.StoredDocument stored = documentService.uploadDriverDocument(
+                    userId, type, file.getContentType(), body);
+            return ResponseEntity.ok(toResponse(type.name(), stored));
+        }
+    }
+
+    @GetMapping("/api/v1/drivers/me/documents/{document}")
+    public void getDriverDocument(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            @PathVariable String document) throws IOException {
+
+        String userId = extractUserId(request);
+        Driver driver = documentService.findDriverByUserId(userId);
+        DocumentStore.StoredDocument stored = documentService.driverDocument(driver, driverDocument(document));
+        DocumentResponses.write(request, response, stored, documentService.file(stored));
+    }
+
+    @PutMapping(value = "/api/v1/vehicles/{vehicleId}/documents/{document}", consumes = {
+            MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE, MediaType.APPLICATION_PDF_VALUE})
+    public ResponseEntity<DocumentUploadResponse> putVehicleDocument(
+            HttpServletRequest request,
+            @PathVariable String vehicleId,
+            @PathVariable String document) throws IOException {
+
+        String userId = extractUserId(request);
+        Vehicle.Document type = vehicleDocument(document);
+        log.info("Driver: Upload {} for vehicle {} (userId: {})", type, vehicleId, userId);
+
+        DocumentStore.StoredDocument stored = documentService.uploadVehicleDocument(
+                userId, vehicleId, type, request.getContentType(), request.getInputStream());
+        return ResponseEntity.ok(toResponse(type.name(), stored));
+    }
+
+    @PostMapping(value = "/api/v1/vehicles/{vehicleId}/documents/{document}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<DocumentUploadResponse> postVehicleDocument(
+            HttpServletRequest request,
+            @PathVariable String vehicleId,
+            @PathVariable String document,
+            @RequestParam("file") MultipartFile file) throws IOException {
+
+        String userId = extractUserId(request);
+        Vehicle.Document type = vehicleDocument(document);
+        log.info("Driver: Multipart upload {} for vehicle {} (userId: {})", type, vehicleId, userId);
+
+        try (InputStream body = file.getInputStream()) {
+            DocumentStore.StoredDocument stored = documentService.uploadVehicleDocument(
+                    userId, vehicleId, type, file.getContentType(), body);
+            return ResponseEntity.ok(toResponse(type.name(), stored));
+        }
+    }
+
+    @GetMapping("/api/v1/vehicles/{vehicleId}/documents/{document}")
+    public void getVehicleDocument(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            @PathVariable String vehicleId,
+            @PathVariable String document) throws IOException {
+
+        String userId = extractUserId(request);
+        Vehicle vehicle = documentService.findOwnVehicle(userId, vehicleId);
+        DocumentStore.StoredDocument stored = documentService.vehicleDocument(vehicle, vehicleDocument(document));
+        DocumentResponses.write(request, response, stored, documentService.file(stored));
+    }
+
+    @GetMapping("/api/v1/admin/drivers/{driverId}/documents/{document}")
+    public void getDriverDocumentForAdmin(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            @PathVariable String driverId,
+            @PathVariable String document) throws IOException {
+
+        log.info("Admin: Get {} for driver {}", document, driverId);
+        Driver driver = documentService.findDriver(driverId);
+        DocumentStore.StoredDocument stored = documentService.driverDocument(driver, driverDocument(document));
+        DocumentResponses.write(request, response, stored, documentService.file(stored));
+    }
+
+    @GetMapping("/api/v1/admin/vehicles/{vehicleId}/documents/{document}")
+    public void getVehicleDocumentForAdmin(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            @PathVariable String vehicleId,
+            @PathVariable String document) throws IOException {
+
+        log.info("Admin: Get {} for vehicle {}", document, vehicleId);
+        Vehicle vehicle = documentService.findVehicle(vehicleId);
+        DocumentStore.StoredDocument stored = documentService.vehicleDocument(vehicle, vehicleDocument(document));
+        DocumentResponses.write(request, response, stored, documentService.file(stored));
+    }
+
+    // Downscaled JPEGs for the verification screens; falls back to the original (e.g. PDFs).
+    @GetMapping("/api/v1/admin/drivers/{driverId}/documents/{document}/thumbnail")
+    public void getDriverThumbnailForAdmin(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            @PathVariable String driverId,
+            @PathVariable String document,
+            @RequestParam(defaultValue = "THUMBNAIL") String size) throws IOException {
+
+        Driver driver = documentService.findDriver(driverId);
+        DocumentStore.StoredDocument stored = documentService.driverDocument(driver, driverDocument(document));
+        DocumentService.Download download = documentService.rendition(stored, thumbnailSize(size));
+        DocumentResponses.write(request, response, download.document(), download.file());
+    }
+
+    @GetMapping("/api/v1/admin/vehicles/{vehicleId}/documents/{document}/thumbnail")
+    public void getVehicleThumbnailForAdmin(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            @PathVariable String vehicleId,
+            @PathVariable String document,
+            @RequestParam(defaultValue = "THUMBNAIL") String size) throws IOException {
+
+        Vehicle vehicle = documentService.findVehicle(vehicleId);
+        DocumentStore.StoredDocument stored = documentService.vehicleDocument(vehicle, vehicleDocument(document));
+        DocumentService.Download download = documentService.rendition(stored, thumbnailSize(size));
+        DocumentResponses.write(request, response, download.document(), download.file());
+    }
+
+    private static ThumbnailService.Size thumbnailSize(String size) {
+        try {
+            return ThumbnailService.Size.valueOf(size.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDocumentException("Invalid size: " + size + ". Valid sizes: THUMBNAIL, PREVIEW");
+        }
+    }
+
+    private static DocumentUploadResponse toResponse(String document, DocumentStore.StoredDocument stored) {
+        return new DocumentUploadResponse(document, stored.format().mediaType(), stored.size(), stored.sha256());
+    }
+
+    private static Driver.Document driverDocument(String document) {
+        try {
+            return Driver.Document.valueOf(document.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDocumentException("Invalid document: " + document
+                    + ". Valid documents: AADHAAR_FRONT, AADHAAR_BACK, DL_FRONT, DL_BACK, SELFIE, ADDRESS_PROOF");
+        }
+    }
+
+    private static Vehicle.Document vehicleDocument(String document) {
+        try {
+            return Vehicle.Document.valueOf(document.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDocumentException("Invalid document: " + document
+                    + ". Valid documents: RC_FRONT, RC_BACK, INSURANCE, PUC, VEHICLE_PHOTO");
+        }
+    }
+
+    private String extractUserId(HttpServletRequest request) {
+        String userId = request.getHeader("X-User-Id");
+        if (userId == null || userId.isBlank()) {
+            log.error("Missing or invalid X-User-Id header in request");
+            throw new UnauthorizedException("Missing or invalid X-User-Id header");
+        }
+        return userId;
+    }
+}
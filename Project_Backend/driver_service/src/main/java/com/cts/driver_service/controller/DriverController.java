@@ -1,6 +1,7 @@
 package com.cts.driver_service.controller;
 
 import com.cts.driver_service.dto.DriverProfileRequest;
+import com.cts.driver_service.dto.DriverProfileResponse;
 import com.cts.driver_service.dto.DriverResponse;
 import com.cts.driver_service.entity.Driver;
 import com.cts.driver_service.exception.UnauthorizedException;
@@ -31,6 +32,16 @@ public class DriverController {
         return new ResponseEntity<>(driver, HttpStatus.OK);
     }
 
+    @GetMapping("/me/profile")
+    public ResponseEntity<DriverProfileResponse> getFullProfile(HttpServletRequest request) {
+        String userId = extractUserId(request);
+
+        log.info("Driver: Get full profile request for userId: {}", userId);
+        DriverProfileResponse profile = driverService.getFullProfile(userId);
+
+        return ResponseEntity.ok(profile);
+    }
+
     @PostMapping("/me/profile")
     public ResponseEntity<Driver> createProfile(
             HttpServletRequest request,
@@ -0,0 +1,43 @@
+package com.cts.driver_service.controller;
+
+import com.cts.driver_service.dto.DriverEligibility;
+import com.cts.driver_service.dto.EligibilityBatch;
+import com.cts.driver_service.dto.EligibilitySnapshot;
+import com.cts.driver_service.service.EligibilityFeed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Driver -> eligible vehicles view for BOOKING-SERVICE's local cache (blocked at the gateway).
+ * Readers load the snapshot once, then follow the change feed from its offset.
+ */
+@RestController
+@RequestMapping("/api/v1/internal/eligibility")
+@RequiredArgsConstructor
+@Slf4j
+public class InternalEligibilityController {
+
+    private final EligibilityFeed eligibilityFeed;
+
+    @GetMapping("/changes")
+    public ResponseEntity<EligibilityBatch> getChanges(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok(eligibilityFeed.changes(after, limit));
+    }
+
+    @GetMapping("/snapshot")
+    public ResponseEntity<EligibilitySnapshot> getSnapshot(
+            @RequestParam(required = false) String afterUserId,
+            @RequestParam(defaultValue = "500") int limit) {
+        log.debug("Internal: Eligibility snapshot after {}", afterUserId);
+        return ResponseEntity.ok(eligibilityFeed.snapshot(afterUserId, limit));
+    }
+
+    @GetMapping("/drivers/{userId}")
+    public ResponseEntity<DriverEligibility> getDriver(@PathVariable String userId) {
+        return ResponseEntity.ok(eligibilityFeed.driver(userId));
+    }
+}
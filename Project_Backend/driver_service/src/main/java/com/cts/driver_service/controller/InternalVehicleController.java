@@ -0,0 +1,26 @@
+package com.cts.driver_service.controller;
+
+import com.cts.driver_service.dto.VehicleResponse;
+import com.cts.driver_service.service.VehicleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Service-to-service vehicle lookups (blocked at the gateway).
+ */
+@RestController
+@RequestMapping("/api/v1/internal/vehicles")
+@RequiredArgsConstructor
+@Slf4j
+public class InternalVehicleController {
+
+    private final VehicleService vehicleService;
+
+    @GetMapping("/{vehicleId}")
+    public ResponseEntity<VehicleResponse> getVehicle(@PathVariable String vehicleId) {
+        log.debug("Internal: Get vehicle {}", vehicleId);
+        return ResponseEntity.ok(VehicleResponse.fromEntity(vehicleService.getVehicleById(vehicleId)));
+    }
+}
@@ -1,5 +1,7 @@
 package com.cts.driver_service.controller;
 
+import com.cts.driver_service.dto.BulkVehicleRequest;
+import com.cts.driver_service.dto.BulkVehicleResponse;
 import com.cts.driver_service.dto.VehicleRequest;
 import com.cts.driver_service.dto.VehicleResponse;
 import com.cts.driver_service.entity.Vehicle;
@@ -68,6 +70,20 @@ public class VehicleController {
         return new ResponseEntity<>(VehicleResponse.fromEntity(vehicle), HttpStatus.CREATED);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkVehicleResponse> addVehicles(
+            HttpServletRequest request,
+            @Valid @RequestBody BulkVehicleRequest bulkRequest) {
+
+        String userId = extractUserId(request);
+
+        log.info("Driver: Bulk add of {} vehicles for userId: {}", bulkRequest.getVehicles().size(), userId);
+
+        BulkVehicleResponse response = vehicleService.addVehicles(userId, bulkRequest.getVehicles());
+
+        return ResponseEntity.ok(response);
+    }
+
 
     @PutMapping("/{vehicleId}")
     public ResponseEntity<VehicleResponse> updateVehicle(
@@ -0,0 +1,20 @@
+package com.cts.driver_service.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkVehicleRequest {
+
+    @NotEmpty(message = "vehicles is required")
+    @Size(max = 200, message = "At most 200 vehicles per request")
+    private List<@Valid VehicleRequest> vehicles;
+}
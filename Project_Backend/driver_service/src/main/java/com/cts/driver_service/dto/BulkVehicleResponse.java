@@ -0,0 +1,24 @@
+package com.cts.driver_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkVehicleResponse {
+
+    private List<VehicleResponse> created;
+    private List<Rejection> rejected;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rejection {
+        private String registrationNumber;
+        private String reason;
+    }
+}
@@ -0,0 +1,30 @@
+package com.cts.driver_service.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkVerificationRequest {
+
+    @NotEmpty(message = "driverIds is required")
+    @Size(max = 500, message = "At most 500 drivers per request")
+    private List<String> driverIds;
+
+    @NotBlank(message = "Action is required")
+    @Pattern(
+        regexp = "APPROVE|REJECT|UNDER_REVIEW",
+        message = "Invalid action. Valid values: APPROVE, REJECT, UNDER_REVIEW"
+    )
+    private String action;
+
+    private String rejectionReason;
+}
@@ -0,0 +1,25 @@
+package com.cts.driver_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkVerificationResponse {
+
+    private String verificationStatus;
+    private List<String> updated;
+    private List<Failure> failed;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Failure {
+        private String driverId;
+        private String reason;
+    }
+}
@@ -0,0 +1,15 @@
+package com.cts.driver_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentUploadResponse {
+    private String document;
+    private String contentType;
+    private long size;
+    private String sha256;
+}
@@ -0,0 +1,19 @@
+package com.cts.driver_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The vehicles a driver (by user ID) may currently accept bookings with: approved, active and
+ * not deleted, for an approved driver. Empty when there are none.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DriverEligibility {
+    private String userId;
+    private List<EligibleVehicle> vehicles;
+}
@@ -0,0 +1,22 @@
+package com.cts.driver_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Drivers whose eligibility changed after the requested offset, with their current state.
+ * offset is where the next request should continue from. If the requested offset is older
+ * than oldestOffset, changes were pruned and the reader must reload the snapshot.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EligibilityBatch {
+    private long offset;
+    private long lastOffset;
+    private long oldestOffset;
+    private List<DriverEligibility> drivers;
+}
@@ -0,0 +1,21 @@
+package com.cts.driver_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of every eligible driver, ordered by user ID; continue with nextUserId until it is
+ * null. offset is the change feed position taken before the page was read: a reader loading
+ * all pages then follows the feed from the first page's offset.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EligibilitySnapshot {
+    private long offset;
+    private String nextUserId;
+    private List<DriverEligibility> drivers;
+}
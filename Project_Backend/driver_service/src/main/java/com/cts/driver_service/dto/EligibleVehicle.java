@@ -0,0 +1,13 @@
+package com.cts.driver_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EligibleVehicle {
+    private String vehicleId;
+    private String vehicleType;
+}
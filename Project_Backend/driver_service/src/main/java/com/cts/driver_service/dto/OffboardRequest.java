@@ -0,0 +1,19 @@
+package com.cts.driver_service.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OffboardRequest {
+
+    @NotEmpty(message = "driverIds is required")
+    @Size(max = 500, message = "At most 500 drivers per request")
+    private List<String> driverIds;
+}
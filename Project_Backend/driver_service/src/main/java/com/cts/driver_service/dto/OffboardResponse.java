@@ -0,0 +1,16 @@
+package com.cts.driver_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OffboardResponse {
+    private List<String> offboarded;
+    private List<String> notFound;
+    private int vehiclesRemoved;
+}
@@ -0,0 +1,22 @@
+package com.cts.driver_service.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A user change from USER-SERVICE's event feed (snake_case on the wire).
+ * Only the fields driver_service acts on are mapped.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class UserChangeEvent {
+    private long offset;
+    private long eventId;
+    private String userId;
+    private String type;
+}
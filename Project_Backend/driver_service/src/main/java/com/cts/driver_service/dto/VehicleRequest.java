@@ -14,8 +14,10 @@ import lombok.NoArgsConstructor;
 public class VehicleRequest {
     
     @NotBlank(message = "Registration number is required")
+    // Spaces, hyphens and lower case are accepted; the number is stored normalized (MH01AB1234).
     @Pattern(
-        regexp = "^[A-Z]{2}[0-9]{2}[A-Z]{1,2}[0-9]{4}$", 
+        regexp = "^[A-Z]{2}[ -]?[0-9]{2}[ -]?[A-Z]{1,2}[ -]?[0-9]{4}$",
+        flags = Pattern.Flag.CASE_INSENSITIVE,
         message = "Invalid registration number format. Example: MH01AB1234"
     )
     private String registrationNumber;
@@ -14,7 +14,9 @@ import java.time.OffsetDateTime;
 
 
 @Entity
-@Table(name = "drivers")
+@Table(name = "drivers", indexes = {
+        @Index(name = "idx_drivers_dl_expiry", columnList = "dlExpiryDate")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -61,4 +63,13 @@ public class Driver {
         APPROVED,
         REJECTED
     }
+
+    public enum Document {
+        AADHAAR_FRONT,
+        AADHAAR_BACK,
+        DL_FRONT,
+        DL_BACK,
+        SELFIE,
+        ADDRESS_PROOF
+    }
 }
@@ -0,0 +1,43 @@
+package com.cts.driver_service.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Marks that the set of vehicles a driver may take bookings with may have changed. Written in
+ * the transaction that caused it; {@code EligibilityFeed} numbers it with a commit-ordered
+ * sequence, which is the feed offset. The row carries no state: readers of the feed get each
+ * driver's current eligible vehicles, so replaying a change is harmless.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "eligibility_changes", indexes = {
+        @Index(name = "idx_eligibility_changes_sequence", columnList = "sequence"),
+        @Index(name = "idx_eligibility_changes_created", columnList = "createdAt")
+})
+public class EligibilityChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long sequence;
+
+    @Column(nullable = false)
+    private String userId;
+
+    @CreationTimestamp
+    private OffsetDateTime createdAt;
+
+    public static EligibilityChange of(String userId) {
+        EligibilityChange change = new EligibilityChange();
+        change.setUserId(userId);
+        return change;
+    }
+}
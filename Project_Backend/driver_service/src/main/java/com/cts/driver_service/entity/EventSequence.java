@@ -0,0 +1,29 @@
+package com.cts.driver_service.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Counter row for a commit-ordered event sequence. Writers advance it inside their own
+ * transaction, so the row lock is held until commit and numbers become visible in order.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "event_sequences")
+public class EventSequence {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    // Last number handed out
+    @Column(nullable = false)
+    private long lastAssigned;
+}
@@ -0,0 +1,48 @@
+package com.cts.driver_service.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.OffsetDateTime;
+
+/**
+ * A USER-SERVICE status change owed for a user, written in the same transaction as the driver
+ * change that caused it. {@code UserStatusOutboxRelay} delivers these in batches and retries
+ * failed deliveries with backoff.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "user_status_outbox", indexes = @Index(name = "idx_user_status_outbox_next_attempt", columnList = "nextAttemptAt"))
+public class UserStatusOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String userId;
+
+    @Column(nullable = false)
+    private String status;
+
+    private int attempts = 0;
+
+    @Column(nullable = false)
+    private OffsetDateTime nextAttemptAt;
+
+    private String lastError;
+
+    @CreationTimestamp
+    private OffsetDateTime createdAt;
+
+    public static UserStatusOutbox of(String userId, String status) {
+        UserStatusOutbox row = new UserStatusOutbox();
+        row.setUserId(userId);
+        row.setStatus(status);
+        row.setNextAttemptAt(OffsetDateTime.now());
+        return row;
+    }
+}
@@ -11,12 +11,24 @@ import java.time.LocalDate;
 import java.time.OffsetDateTime;
 
 @Entity
-@Table(name = "vehicles")
+@Table(name = "vehicles", uniqueConstraints = {
+        @UniqueConstraint(name = Vehicle.ACTIVE_REGISTRATION_KEY, columnNames = "activeRegistrationNumber")
+}, indexes = {
+        @Index(name = "idx_vehicles_registration_number", columnList = "registrationNumber"),
+        @Index(name = "idx_vehicles_driver", columnList = "driverId, isDeleted"),
+        // Expiry scans only ever look at live vehicles, so the flags lead each index.
+        @Index(name = "idx_vehicles_active_insurance_expiry", columnList = "isActive, isDeleted, insuranceExpiryDate"),
+        @Index(name = "idx_vehicles_active_rc_expiry", columnList = "isActive, isDeleted, rcExpiryDate"),
+        @Index(name = "idx_vehicles_active_puc_expiry", columnList = "isActive, isDeleted, pucExpiryDate")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Vehicle {
 
+    /** Unique key on activeRegistrationNumber; a violation of it means the number is taken. */
+    public static final String ACTIVE_REGISTRATION_KEY = "uk_vehicles_active_registration";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
@@ -24,9 +36,13 @@ public class Vehicle {
     @Column(nullable = false)
     private String driverId; // Foreign key to Driver
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String registrationNumber; // e.g., MH01AB1234
 
+    // MySQL has no partial unique index: this mirrors registrationNumber while the vehicle is
+    // live and is NULL once deleted (NULLs never collide), so a deleted vehicle can be re-added.
+    private String activeRegistrationNumber;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private VehicleType vehicleType;
@@ -73,6 +89,14 @@ public class Vehicle {
         REJECTED       // Rejected with reason
     }
 
+    public enum Document {
+        RC_FRONT,
+        RC_BACK,
+        INSURANCE,
+        PUC,
+        VEHICLE_PHOTO
+    }
+
     private String rejectionReason; // If rejected
 
     private Boolean isActive = true; // Can be used for rides
@@ -83,4 +107,11 @@ public class Vehicle {
 
     @UpdateTimestamp
     private OffsetDateTime updatedAt;
+
+    // Bulk JPQL updates bypass this and must set activeRegistrationNumber themselves.
+    @PrePersist
+    @PreUpdate
+    void syncActiveRegistrationNumber() {
+        activeRegistrationNumber = Boolean.TRUE.equals(isDeleted) ? null : registrationNumber;
+    }
 }
\ No newline at end of file
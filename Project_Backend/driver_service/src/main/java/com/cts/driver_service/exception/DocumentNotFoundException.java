@@ -0,0 +1,7 @@
+package com.cts.driver_service.exception;
+
+public class DocumentNotFoundException extends RuntimeException {
+    public DocumentNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.cts.driver_service.exception;
+
+public class DuplicateRegistrationException extends RuntimeException {
+    public DuplicateRegistrationException(String message) {
+        super(message);
+    }
+}
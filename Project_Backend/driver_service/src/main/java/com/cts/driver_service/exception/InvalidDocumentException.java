@@ -0,0 +1,7 @@
+package com.cts.driver_service.exception;
+
+public class InvalidDocumentException extends RuntimeException {
+    public InvalidDocumentException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.cts.driver_service.exception;
+
+public class VehicleNotFoundException extends RuntimeException {
+    public VehicleNotFoundException(String message) {
+        super(message);
+    }
+}
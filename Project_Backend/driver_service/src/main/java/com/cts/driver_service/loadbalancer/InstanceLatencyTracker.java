@@ -0,0 +1,224 @@
+package com.cts.driver_service.loadbalancer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks per-instance latency (EWMA), in-flight requests and failures for the
+ * power-of-two-choices load balancer, and decides which instances are ejected as outliers.
+ * Fed by the load balancer lifecycle callbacks of the Feign clients.
+ */
+@Slf4j
+@Component
+public class InstanceLatencyTracker implements LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+    // Keeps the in-flight term meaningful while latency estimates are still zero.
+    private static final long BASELINE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Map<String, InstanceStats> stats = new ConcurrentHashMap<>();
+
+    private final double decay;
+    private final long failurePenaltyNanos;
+    private final int failureThreshold;
+    private final double outlierFactor;
+    private final long outlierMinLatencyNanos;
+    private final long ejectionNanos;
+    private final int maxEjectionPercent;
+
+    public InstanceLatencyTracker(
+            @Value("${loadbalancer.latency-aware.decay:0.3}") double decay,
+            @Value("${loadbalancer.latency-aware.failure-penalty-ms:1000}") long failurePenaltyMs,
+            @Value("${loadbalancer.latency-aware.consecutive-failures:5}") int failureThreshold,
+            @Value("${loadbalancer.latency-aware.outlier-factor:3.0}") double outlierFactor,
+            @Value("${loadbalancer.latency-aware.outlier-min-latency-ms:50}") long outlierMinLatencyMs,
+            @Value("${loadbalancer.latency-aware.ejection-ms:30000}") long ejectionMs,
+            @Value("${loadbalancer.latency-aware.max-ejection-percent:50}") int maxEjectionPercent) {
+        this.decay = decay;
+        this.failurePenaltyNanos = TimeUnit.MILLISECONDS.toNanos(failurePenaltyMs);
+        this.failureThreshold = failureThreshold;
+        this.outlierFactor = outlierFactor;
+        this.outlierMinLatencyNanos = TimeUnit.MILLISECONDS.toNanos(outlierMinLatencyMs);
+        this.ejectionNanos = TimeUnit.MILLISECONDS.toNanos(ejectionMs);
+        this.maxEjectionPercent = maxEjectionPercent;
+    }
+
+    @Override
+    public void onStart(Request<Object> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        if (request != null && request.getContext() instanceof TimedRequestContext timed) {
+            timed.setRequestStartTime(System.nanoTime());
+        }
+        recordStart(lbResponse.getServer());
+    }
+
+    @Override
+    public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+
+        long latencyNanos = -1;
+        Request<Object> request = completionContext.getLoadBalancerRequest();
+        if (request != null && request.getContext() instanceof TimedRequestContext timed
+                && timed.getRequestStartTime() > 0) {
+            latencyNanos = System.nanoTime() - timed.getRequestStartTime();
+        }
+
+        boolean failed = completionContext.status() == CompletionContext.Status.FAILED
+                || (completionContext.getClientResponse() instanceof ResponseData data
+                && data.getHttpStatus() != null && data.getHttpStatus().is5xxServerError());
+
+        recordCompletion(lbResponse.getServer(), latencyNanos, !failed);
+    }
+
+    void recordStart(ServiceInstance instance) {
+        statsFor(instance).inFlight.incrementAndGet();
+    }
+
+    void recordCompletion(ServiceInstance instance, long latencyNanos, boolean success) {
+        InstanceStats instanceStats = statsFor(instance);
+        instanceStats.inFlight.updateAndGet(current -> current > 0 ? current - 1 : 0);
+        instanceStats.record(latencyNanos, success);
+    }
+
+    /**
+     * Instances eligible for selection: drops instances ejected for consecutive failures or
+     * for being latency outliers against the median, never ejecting more than the configured share.
+     */
+    List<ServiceInstance> available(List<ServiceInstance> instances, double medianNanos) {
+        long now = System.nanoTime();
+        int maxEjected = instances.size() * maxEjectionPercent / 100;
+        int ejected = 0;
+
+        List<ServiceInstance> available = new ArrayList<>(instances.size());
+        for (ServiceInstance instance : instances) {
+            if (ejected < maxEjected && statsFor(instance).isEjected(now, medianNanos)) {
+                ejected++;
+                continue;
+            }
+            available.add(instance);
+        }
+        return available.isEmpty() ? instances : available;
+    }
+
+    /**
+     * Expected cost of sending one more request: latency estimate scaled by queued work.
+     * Instances without measurements are assumed to be as fast as the median peer.
+     */
+    double cost(ServiceInstance instance, double medianNanos) {
+        InstanceStats instanceStats = statsFor(instance);
+        double latency = instanceStats.isMeasured() ? instanceStats.latency() : medianNanos;
+        return (latency + BASELINE_NANOS) * (instanceStats.inFlight.get() + 1);
+    }
+
+    double medianLatency(List<ServiceInstance> instances) {
+        double[] latencies = new double[instances.size()];
+        int measured = 0;
+        for (ServiceInstance instance : instances) {
+            InstanceStats instanceStats = statsFor(instance);
+            if (instanceStats.isMeasured()) {
+                latencies[measured++] = instanceStats.latency();
+            }
+        }
+        if (measured == 0) {
+            return 0;
+        }
+        Arrays.sort(latencies, 0, measured);
+        // Lower median: with two instances the slower one must not be its own reference point.
+        return latencies[(measured - 1) / 2];
+    }
+
+    private InstanceStats statsFor(ServiceInstance instance) {
+        return stats.computeIfAbsent(key(instance), InstanceStats::new);
+    }
+
+    private static String key(ServiceInstance instance) {
+        return instance.getServiceId() + "|" + instance.getHost() + ":" + instance.getPort();
+    }
+
+    private final class InstanceStats {
+
+        private final String key;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private double ewmaNanos;
+        private boolean measured;
+        private int consecutiveFailures;
+        private long ejectedUntilNanos;
+
+        InstanceStats(String key) {
+            this.key = key;
+        }
+
+        synchronized void record(long latencyNanos, boolean success) {
+            if (success) {
+                consecutiveFailures = 0;
+            } else {
+                consecutiveFailures++;
+                latencyNanos = Math.max(latencyNanos, failurePenaltyNanos);
+            }
+            if (latencyNanos < 0) {
+                return;
+            }
+            ewmaNanos = measured ? ewmaNanos + decay * (latencyNanos - ewmaNanos) : latencyNanos;
+            measured = true;
+        }
+
+        synchronized boolean isEjected(long now, double medianNanos) {
+            if (ejectedUntilNanos != 0) {
+                if (now - ejectedUntilNanos < 0) {
+                    return true;
+                }
+                // Ejection expired: forget the old estimate so the instance is probed again.
+                ejectedUntilNanos = 0;
+                consecutiveFailures = 0;
+                measured = false;
+                ewmaNanos = 0;
+                return false;
+            }
+
+            boolean failing = consecutiveFailures >= failureThreshold;
+            boolean outlier = measured && medianNanos > 0
+                    && ewmaNanos > outlierMinLatencyNanos
+                    && ewmaNanos > outlierFactor * medianNanos;
+            if (failing || outlier) {
+                ejectedUntilNanos = now + ejectionNanos;
+                log.warn("Ejecting instance {} for {} ms (consecutiveFailures={}, ewmaMs={})",
+                        key, TimeUnit.NANOSECONDS.toMillis(ejectionNanos), consecutiveFailures,
+                        TimeUnit.NANOSECONDS.toMillis((long) ewmaNanos));
+                return true;
+            }
+            return false;
+        }
+
+        synchronized double latency() {
+            return measured ? ewmaNanos : 0;
+        }
+
+        synchronized boolean isMeasured() {
+            return measured;
+        }
+    }
+}
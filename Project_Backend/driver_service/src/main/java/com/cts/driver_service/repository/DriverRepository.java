@@ -1,11 +1,20 @@
 package com.cts.driver_service.repository;
 
 import com.cts.driver_service.entity.Driver;
+import com.cts.driver_service.entity.Vehicle;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,8 +25,88 @@ public interface DriverRepository extends JpaRepository<Driver, String> {
      */
     Optional<Driver> findByUserId(String userId);
 
+    /**
+     * Driver with each live vehicle in one query: one [Driver, Vehicle] row per vehicle, or a
+     * single [Driver, null] row when there are none. Empty if the driver does not exist.
+     */
+    @Query("SELECT d, v FROM Driver d LEFT JOIN Vehicle v ON v.driverId = d.id AND v.isDeleted = false " +
+           "WHERE d.userId = :userId ORDER BY v.createdAt")
+    List<Object[]> findWithVehiclesByUserId(@Param("userId") String userId);
+
+    /**
+     * {@link #findWithVehiclesByUserId} by driver ID
+     */
+    @Query("SELECT d, v FROM Driver d LEFT JOIN Vehicle v ON v.driverId = d.id AND v.isDeleted = false " +
+           "WHERE d.id = :driverId ORDER BY v.createdAt")
+    List<Object[]> findWithVehiclesById(@Param("driverId") String driverId);
+
     /**
      * Find drivers by verification status with pagination
      */
     Page<Driver> findByVerificationStatus(Driver.VerificationStatus status, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Set the verification status of many drivers in one statement
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Driver d SET d.verificationStatus = :status, d.updatedAt = :updatedAt WHERE d.id IN :ids")
+    int updateVerificationStatus(@Param("ids") Collection<String> ids,
+                                 @Param("status") Driver.VerificationStatus status,
+                                 @Param("updatedAt") OffsetDateTime updatedAt);
+
+    /**
+     * Drivers whose licence expires in (from, to]
+     */
+    @Query("SELECT d FROM Driver d WHERE d.dlExpiryDate > :from AND d.dlExpiryDate <= :to")
+    List<Driver> findWithDlExpiryBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * User IDs of those of the given drivers whose licence expired before today.
+     * The date is re-checked here, so a renewal that raced the caller is left out.
+     */
+    @Query("SELECT d.userId FROM Driver d WHERE d.id IN :ids AND d.dlExpiryDate < :today")
+    List<String> findUserIdsWithDlExpiredBefore(@Param("ids") Collection<String> ids,
+                                                @Param("today") LocalDate today);
+
+    /**
+     * User IDs of drivers whose licence expired in [from, today)
+     */
+    @Query("SELECT d.userId FROM Driver d WHERE d.dlExpiryDate >= :from AND d.dlExpiryDate < :today")
+    List<String> findUserIdsWithDlExpiredBetween(@Param("from") LocalDate from, @Param("today") LocalDate today);
+
+    /**
+     * [userId, vehicleId, vehicleType] for each vehicle of the given drivers that is in the
+     * given status, active and not deleted, where the driver is in the given status and their
+     * licence has not expired before today (a licence with no expiry date on file counts as valid)
+     */
+    @Query("SELECT d.userId, v.id, v.vehicleType FROM Driver d JOIN Vehicle v ON v.driverId = d.id " +
+           "WHERE d.userId IN :userIds AND d.verificationStatus = :driverStatus " +
+           "AND (d.dlExpiryDate IS NULL OR d.dlExpiryDate >= :today) " +
+           "AND v.verificationStatus = :vehicleStatus AND v.isActive = true AND v.isDeleted = false")
+    List<Object[]> findVehiclesForEligibility(@Param("userIds") Collection<String> userIds,
+                                              @Param("driverStatus") Driver.VerificationStatus driverStatus,
+                                              @Param("vehicleStatus") Vehicle.VerificationStatus vehicleStatus,
+                                              @Param("today") LocalDate today);
+
+    /**
+     * User IDs after the given one that have at least one vehicle matching
+     * {@link #findVehiclesForEligibility}, in order
+     */
+    @Query("SELECT DISTINCT d.userId FROM Driver d JOIN Vehicle v ON v.driverId = d.id " +
+           "WHERE d.userId > :afterUserId AND d.verificationStatus = :driverStatus " +
+           "AND (d.dlExpiryDate IS NULL OR d.dlExpiryDate >= :today) " +
+           "AND v.verificationStatus = :vehicleStatus AND v.isActive = true AND v.isDeleted = false " +
+           "ORDER BY d.userId")
+    List<String> findUserIdsForEligibility(@Param("afterUserId") String afterUserId,
+                                           @Param("driverStatus") Driver.VerificationStatus driverStatus,
+                                           @Param("vehicleStatus") Vehicle.VerificationStatus vehicleStatus,
+                                           @Param("today") LocalDate today,
+                                           Pageable pageable);
+
+    /**
+     * User IDs of the drivers owning the given vehicles
+     */
+    @Query("SELECT d.userId FROM Driver d WHERE d.id IN (SELECT v.driverId FROM Vehicle v WHERE v.id IN :vehicleIds)")
+    List<String> findUserIdsByVehicleIds(@Param("vehicleIds") Collection<String> vehicleIds);
+}
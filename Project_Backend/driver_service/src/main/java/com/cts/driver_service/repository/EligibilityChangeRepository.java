@@ -0,0 +1,35 @@
+package com.cts.driver_service.repository;
+
+import com.cts.driver_service.entity.EligibilityChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Repository
+public interface EligibilityChangeRepository extends JpaRepository<EligibilityChange, Long> {
+
+    /**
+     * Changes after the given sequence, oldest first
+     */
+    List<EligibilityChange> findBySequenceGreaterThanOrderBySequenceAsc(long after, Pageable pageable);
+
+    @Query("SELECT MAX(c.sequence) FROM EligibilityChange c")
+    Long findLastSequence();
+
+    @Query("SELECT MIN(c.sequence) FROM EligibilityChange c")
+    Long findOldestSequence();
+
+    @Query("SELECT MAX(c.sequence) FROM EligibilityChange c WHERE c.createdAt < :before")
+    Long findLastSequenceCreatedBefore(@Param("before") OffsetDateTime before);
+
+    // Deletes by sequence so the feed always stays a contiguous run from MIN to MAX.
+    @Modifying
+    @Query("DELETE FROM EligibilityChange c WHERE c.sequence < :belowSequence")
+    int deleteBySequenceBelow(@Param("belowSequence") long belowSequence);
+}
@@ -0,0 +1,19 @@
+package com.cts.driver_service.repository;
+
+import com.cts.driver_service.entity.EventSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EventSequenceRepository extends JpaRepository<EventSequence, String> {
+
+    @Modifying
+    @Query("UPDATE EventSequence s SET s.lastAssigned = s.lastAssigned + :count WHERE s.name = :name")
+    int advance(@Param("name") String name, @Param("count") long count);
+
+    @Query("SELECT s.lastAssigned FROM EventSequence s WHERE s.name = :name")
+    Long current(@Param("name") String name);
+}
@@ -0,0 +1,18 @@
+package com.cts.driver_service.repository;
+
+import com.cts.driver_service.entity.UserStatusOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Repository
+public interface UserStatusOutboxRepository extends JpaRepository<UserStatusOutbox, Long> {
+
+    /**
+     * Rows due for delivery, oldest first
+     */
+    List<UserStatusOutbox> findByNextAttemptAtLessThanEqualOrderByIdAsc(OffsetDateTime now, Pageable pageable);
+}
@@ -4,8 +4,15 @@ import com.cts.driver_service.entity.Vehicle;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,4 +46,48 @@ public interface VehicleRepository extends JpaRepository<Vehicle, String> {
      * Check if registration number exists (excluding soft-deleted)
      */
     boolean existsByRegistrationNumberAndIsDeletedFalse(String registrationNumber);
-}
\ No newline at end of file
+
+    /**
+     * Which of the given normalized registration numbers belong to a live vehicle
+     */
+    @Query("SELECT v.activeRegistrationNumber FROM Vehicle v WHERE v.activeRegistrationNumber IN :numbers")
+    List<String> findActiveRegistrationNumbers(@Param("numbers") Collection<String> numbers);
+
+    /**
+     * Soft-delete every live vehicle of the given drivers in one statement
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Vehicle v SET v.isDeleted = true, v.activeRegistrationNumber = NULL, v.updatedAt = :updatedAt " +
+           "WHERE v.driverId IN :driverIds AND v.isDeleted = false")
+    int softDeleteByDriverIds(@Param("driverIds") Collection<String> driverIds,
+                              @Param("updatedAt") OffsetDateTime updatedAt);
+
+    /**
+     * Live vehicles with an insurance, RC or PUC expiry in (from, to]
+     */
+    @Query("SELECT v FROM Vehicle v WHERE v.isActive = true AND v.isDeleted = false AND (" +
+           "(v.insuranceExpiryDate > :from AND v.insuranceExpiryDate <= :to) OR " +
+           "(v.rcExpiryDate > :from AND v.rcExpiryDate <= :to) OR " +
+           "(v.pucExpiryDate > :from AND v.pucExpiryDate <= :to))")
+    List<Vehicle> findActiveWithExpiryBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Deactivate those of the given vehicles that have a document which expired before today.
+     * The dates are re-checked here, so a renewal that raced the caller is left alone.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Vehicle v SET v.isActive = false, v.updatedAt = :updatedAt " +
+           "WHERE v.id IN :ids AND v.isActive = true AND v.isDeleted = false AND (" +
+           "v.insuranceExpiryDate < :today OR v.rcExpiryDate < :today OR v.pucExpiryDate < :today)")
+    int deactivateExpired(@Param("ids") Collection<String> ids,
+                          @Param("today") LocalDate today,
+                          @Param("updatedAt") OffsetDateTime updatedAt);
+
+    /**
+     * IDs of live vehicles with a document that expired before today
+     */
+    @Query("SELECT v.id FROM Vehicle v WHERE v.isActive = true AND v.isDeleted = false AND (" +
+           "v.insuranceExpiryDate < :today OR v.rcExpiryDate < :today OR v.pucExpiryDate < :today)")
+    List<String> findActiveExpiredIds(@Param("today") LocalDate today);
+}
@@ -0,0 +1,260 @@
+package com.cts.driver_service.service;
+
+import com.cts.driver_service.entity.Driver;
+import com.cts.driver_service.entity.Vehicle;
+import com.cts.driver_service.repository.DriverRepository;
+import com.cts.driver_service.repository.VehicleRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Acts on driving licence and vehicle insurance / RC / PUC expiry dates.
+ *
+ * Expiries falling within the next horizon-days are held in a priority queue ordered by due
+ * date, with one entry for the warning (warning-days ahead) and one for the day after expiry.
+ * Each tick only pops what is due, so nothing is scanned. The window is filled by an indexed
+ * range query at startup and extended by one day's slice as the days pass; writes through
+ * {@link DriverService} and {@link VehicleService} call {@link #track} so edits inside the
+ * window are picked up straight away. On expiry a vehicle is deactivated with an UPDATE that
+ * re-checks the dates, so a stale queue entry never deactivates a renewed document. Drivers have
+ * no active flag: an expired licence is enforced where eligibility is decided (the eligibility
+ * queries compare dlExpiryDate with today), and the expiry is published to {@link EligibilityFeed}
+ * so BOOKING-SERVICE's copy drops the driver. At startup a catch-up pass deactivates vehicles that
+ * expired while the service was down and publishes them, together with drivers whose licence
+ * expired in the last horizon-days.
+ */
+@Slf4j
+@Component
+public class DocumentExpiryScheduler {
+
+    enum Document {
+        DRIVING_LICENCE,
+        INSURANCE,
+        RC,
+        PUC
+    }
+
+    enum Action {
+        WARN,
+        EXPIRE
+    }
+
+    record Subject(Document document, String id) {
+    }
+
+    record Deadline(LocalDate due, Action action, Subject subject, LocalDate expiry) {
+    }
+
+    private final DriverRepository driverRepository;
+    private final VehicleRepository vehicleRepository;
+    private final EligibilityFeed eligibilityFeed;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int horizonDays;
+    private final int warningDays;
+
+    // Guarded by this. current holds the live expiry per subject; queue entries that no longer
+    // match it were superseded by a later edit and are dropped when popped.
+    private final PriorityQueue<Deadline> queue = new PriorityQueue<>(Comparator.comparing(Deadline::due));
+    private final Map<Subject, LocalDate> current = new HashMap<>();
+    private LocalDate loadedUntil;
+
+    private final Counter warned;
+    private final Counter deactivated;
+
+    public DocumentExpiryScheduler(DriverRepository driverRepository,
+                                   VehicleRepository vehicleRepository,
+                                   EligibilityFeed eligibilityFeed,
+                                   TransactionTemplate transactionTemplate,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${document-expiry.enabled:true}") boolean enabled,
+                                   @Value("${document-expiry.horizon-days:30}") int horizonDays,
+                                   @Value("${document-expiry.warning-days:7}") int warningDays) {
+        this.driverRepository = driverRepository;
+        this.vehicleRepository = vehicleRepository;
+        this.eligibilityFeed = eligibilityFeed;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.horizonDays = horizonDays;
+        this.warningDays = warningDays;
+        this.warned = Counter.builder("driver.document.expiry")
+                .tag("outcome", "warned")
+                .description("Documents reported as about to expire")
+                .register(meterRegistry);
+        this.deactivated = Counter.builder("driver.document.expiry")
+                .tag("outcome", "deactivated")
+                .description("Vehicles deactivated or drivers made ineligible after a document expired")
+                .register(meterRegistry);
+        Gauge.builder("driver.document.expiry.tracked", this, DocumentExpiryScheduler::tracked)
+                .description("Upcoming document expiries held in memory")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            start(LocalDate.now());
+        }
+    }
+
+    void start(LocalDate today) {
+        int vehicles = deactivateVehicles(vehicleRepository.findActiveExpiredIds(today), today);
+        List<String> drivers = driverRepository.findUserIdsWithDlExpiredBetween(today.minusDays(horizonDays), today);
+        publishDrivers(drivers);
+        if (vehicles + drivers.size() > 0) {
+            log.info("Caught up on documents that expired while stopped: {} vehicles deactivated, {} drivers with an expired licence",
+                    vehicles, drivers.size());
+        }
+        // Everything that expired before today has been handled, so the window starts today.
+        load(today.minusDays(1), today.plusDays(horizonDays));
+    }
+
+    @Scheduled(fixedDelayString = "${document-expiry.interval-ms:60000}")
+    public void tick() {
+        if (enabled && loaded()) {
+            tick(LocalDate.now());
+        }
+    }
+
+    void tick(LocalDate today) {
+        LocalDate until = today.plusDays(horizonDays);
+        LocalDate from;
+        synchronized (this) {
+            from = loadedUntil;
+        }
+        if (from.isBefore(until)) {
+            load(from, until);
+        }
+
+        List<Deadline> due = new ArrayList<>();
+        synchronized (this) {
+            while (!queue.isEmpty() && !queue.peek().due().isAfter(today)) {
+                Deadline deadline = queue.poll();
+                if (!deadline.expiry().equals(current.get(deadline.subject()))) {
+                    continue;
+                }
+                if (deadline.action() == Action.EXPIRE) {
+                    current.remove(deadline.subject());
+                }
+                due.add(deadline);
+            }
+        }
+
+        Set<String> vehicleIds = new LinkedHashSet<>();
+        Set<String> driverIds = new LinkedHashSet<>();
+        for (Deadline deadline : due) {
+            Subject subject = deadline.subject();
+            if (deadline.action() == Action.WARN) {
+                log.warn("{} of {} {} expires on {}", subject.document(),
+                        subject.document() == Document.DRIVING_LICENCE ? "driver" : "vehicle",
+                        subject.id(), deadline.expiry());
+                warned.increment();
+            } else if (subject.document() == Document.DRIVING_LICENCE) {
+                driverIds.add(subject.id());
+            } else {
+                vehicleIds.add(subject.id());
+            }
+        }
+
+        if (!vehicleIds.isEmpty()) {
+            int count = deactivateVehicles(vehicleIds, today);
+            log.info("Deactivated {} of {} vehicles with expired documents", count, vehicleIds.size());
+        }
+        if (!driverIds.isEmpty()) {
+            List<String> expired = driverRepository.findUserIdsWithDlExpiredBefore(driverIds, today);
+            deactivated.increment(expired.size());
+            publishDrivers(expired);
+            log.info("{} of {} drivers have an expired licence and can no longer accept bookings", expired.size(), driverIds.size());
+        }
+    }
+
+    private int deactivateVehicles(Collection<String> vehicleIds, LocalDate today) {
+        if (vehicleIds.isEmpty()) {
+            return 0;
+        }
+        // The feed must record the change in the transaction that made it.
+        int count = transactionTemplate.execute(tx -> {
+            int updated = vehicleRepository.deactivateExpired(vehicleIds, today, OffsetDateTime.now());
+            if (updated > 0) {
+                eligibilityFeed.vehiclesChanged(vehicleIds);
+            }
+            return updated;
+        });
+        deactivated.increment(count);
+        return count;
+    }
+
+    private void publishDrivers(List<String> userIds) {
+        if (!userIds.isEmpty()) {
+            transactionTemplate.executeWithoutResult(tx -> eligibilityFeed.driversChanged(userIds));
+        }
+    }
+
+    /** Re-reads a vehicle's expiry dates after it was added or edited. */
+    public void track(Vehicle vehicle) {
+        boolean live = Boolean.TRUE.equals(vehicle.getIsActive()) && !Boolean.TRUE.equals(vehicle.getIsDeleted());
+        track(new Subject(Document.INSURANCE, vehicle.getId()), live ? vehicle.getInsuranceExpiryDate() : null);
+        track(new Subject(Document.RC, vehicle.getId()), live ? vehicle.getRcExpiryDate() : null);
+        track(new Subject(Document.PUC, vehicle.getId()), live ? vehicle.getPucExpiryDate() : null);
+    }
+
+    /** Re-reads a driver's licence expiry after the profile was saved. */
+    public void track(Driver driver) {
+        track(new Subject(Document.DRIVING_LICENCE, driver.getId()), driver.getDlExpiryDate());
+    }
+
+    // Dates beyond the loaded window are dropped; the daily window extension reads them back.
+    private synchronized void track(Subject subject, LocalDate expiry) {
+        if (loadedUntil == null) {
+            return;
+        }
+        if (expiry == null || expiry.isAfter(loadedUntil)) {
+            current.remove(subject);
+            return;
+        }
+        if (expiry.equals(current.put(subject, expiry))) {
+            return;
+        }
+        queue.add(new Deadline(expiry.minusDays(warningDays), Action.WARN, subject, expiry));
+        queue.add(new Deadline(expiry.plusDays(1), Action.EXPIRE, subject, expiry));
+    }
+
+    private void load(LocalDate from, LocalDate to) {
+        List<Vehicle> vehicles = vehicleRepository.findActiveWithExpiryBetween(from, to);
+        List<Driver> drivers = driverRepository.findWithDlExpiryBetween(from, to);
+        synchronized (this) {
+            loadedUntil = to;
+            vehicles.forEach(this::track);
+            drivers.forEach(this::track);
+        }
+        log.debug("Loaded document expiries after {} up to {}: {} vehicles, {} drivers", from, to, vehicles.size(), drivers.size());
+    }
+
+    synchronized boolean loaded() {
+        return loadedUntil != null;
+    }
+
+    synchronized int tracked() {
+        return current.size();
+    }
+}
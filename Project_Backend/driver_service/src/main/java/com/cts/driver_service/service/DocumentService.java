@@ -0,0 +1,183 @@
+package com.cts.driver_service.service;
+
+import com.cts.driver_service.entity.Driver;
+import com.cts.driver_service.entity.Vehicle;
+import com.cts.driver_service.exception.DriverNotFoundException;
+import com.cts.driver_service.exception.DocumentNotFoundException;
+import com.cts.driver_service.exception.VehicleNotFoundException;
+import com.cts.driver_service.repository.DriverRepository;
+import com.cts.driver_service.repository.VehicleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Driver and vehicle documents. The bytes live in the {@link DocumentStore}; the entity path
+ * fields hold the store key. Uploads are written to disk before any transaction starts, so a
+ * slow client never holds a database connection.
+ */
+@Slf4j
+@Service
+public class DocumentService {
+
+    private final DocumentStore documentStore;
+    private final DriverRepository driverRepository;
+    private final VehicleRepository vehicleRepository;
+    private final ThumbnailService thumbnailService;
+    private final TransactionTemplate transactionTemplate;
+
+    public DocumentService(DocumentStore documentStore,
+                           DriverRepository driverRepository,
+                           VehicleRepository vehicleRepository,
+                           ThumbnailService thumbnailService,
+                           PlatformTransactionManager transactionManager) {
+        this.documentStore = documentStore;
+        this.thumbnailService = thumbnailService;
+        this.driverRepository = driverRepository;
+        this.vehicleRepository = vehicleRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public DocumentStore.StoredDocument uploadDriverDocument(String userId, Driver.Document document,
+                                                             String contentType, InputStream body) throws IOException {
+        DocumentStore.Format format = DocumentStore.Format.ofMediaType(contentType);
+        Driver driver = findDriverByUserId(userId);
+        DocumentStore.StoredDocument stored = documentStore.store(body, format);
+        attachDriverDocument(driver.getId(), document, stored.key());
+        thumbnailService.submit(stored);
+        log.info("Stored {} for driver {} ({} bytes, {})", document, driver.getId(), stored.size(), stored.key());
+        return stored;
+    }
+
+    public DocumentStore.StoredDocument uploadVehicleDocument(String userId, String vehicleId, Vehicle.Document document,
+                                                              String contentType, InputStream body) throws IOException {
+        DocumentStore.Format format = DocumentStore.Format.ofMediaType(contentType);
+        Driver driver = findDriverByUserId(userId);
+        vehicleRepository.findByIdAndDriverIdAndIsDeletedFalse(vehicleId, driver.getId())
+                .orElseThrow(() -> new VehicleNotFoundException("Vehicle not found: " + vehicleId));
+        DocumentStore.StoredDocument stored = documentStore.store(body, format);
+        attachVehicleDocument(vehicleId, document, stored.key());
+        thumbnailService.submit(stored);
+        log.info("Stored {} for vehicle {} ({} bytes, {})", document, vehicleId, stored.size(), stored.key());
+        return stored;
+    }
+
+    public DocumentStore.StoredDocument driverDocument(Driver driver, Driver.Document document) throws IOException {
+        return open(driverPath(driver, document), document.name());
+    }
+
+    public DocumentStore.StoredDocument vehicleDocument(Vehicle vehicle, Vehicle.Document document) throws IOException {
+        return open(vehiclePath(vehicle, document), document.name());
+    }
+
+    public Driver findDriverByUserId(String userId) {
+        return driverRepository.findByUserId(userId)
+                .orElseThrow(() -> new DriverNotFoundException("Driver profile not found for userId: " + userId));
+    }
+
+    public Driver findDriver(String driverId) {
+        return driverRepository.findById(driverId)
+                .orElseThrow(() -> new DriverNotFoundException("Driver not found with id: " + driverId));
+    }
+
+    public Vehicle findVehicle(String vehicleId) {
+        return vehicleRepository.findById(vehicleId)
+                .filter(vehicle -> !Boolean.TRUE.equals(vehicle.getIsDeleted()))
+                .orElseThrow(() -> new VehicleNotFoundException("Vehicle not found: " + vehicleId));
+    }
+
+    public Vehicle findOwnVehicle(String userId, String vehicleId) {
+        Driver driver = findDriverByUserId(userId);
+        return vehicleRepository.findByIdAndDriverIdAndIsDeletedFalse(vehicleId, driver.getId())
+                .orElseThrow(() -> new VehicleNotFoundException("Vehicle not found: " + vehicleId));
+    }
+
+    public Path file(DocumentStore.StoredDocument document) {
+        return documentStore.resolve(document.key());
+    }
+
+    /**
+     * A downscaled JPEG of an image document, or the document itself when there is no
+     * rendition (PDFs, or generation did not finish within thumbnails.wait-ms).
+     */
+    public Download rendition(DocumentStore.StoredDocument document, ThumbnailService.Size size) throws IOException {
+        Path rendition = thumbnailService.rendition(document, size);
+        if (rendition == null) {
+            return new Download(document, file(document));
+        }
+        DocumentStore.StoredDocument jpeg = new DocumentStore.StoredDocument(null,
+                document.sha256() + "-" + size.name().toLowerCase(), Files.size(rendition), DocumentStore.Format.JPEG);
+        return new Download(jpeg, rendition);
+    }
+
+    public record Download(DocumentStore.StoredDocument document, Path file) {
+    }
+
+    // Re-read after the upload so the transaction (and its connection) only spans the row update.
+    private void attachDriverDocument(String driverId, Driver.Document document, String key) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Driver driver = findDriver(driverId);
+            switch (document) {
+                case AADHAAR_FRONT -> driver.setAadhaarFrontPath(key);
+                case AADHAAR_BACK -> driver.setAadhaarBackPath(key);
+                case DL_FRONT -> driver.setDlFrontPath(key);
+                case DL_BACK -> driver.setDlBackPath(key);
+                case SELFIE -> driver.setSelfiePath(key);
+                case ADDRESS_PROOF -> driver.setAddressProofPath(key);
+            }
+            driver.setDocsSubmitted(Arrays.stream(Driver.Document.values())
+                    .allMatch(required -> driverPath(driver, required) != null));
+            driverRepository.save(driver);
+        });
+    }
+
+    private void attachVehicleDocument(String vehicleId, Vehicle.Document document, String key) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Vehicle vehicle = findVehicle(vehicleId);
+            switch (document) {
+                case RC_FRONT -> vehicle.setRcFrontPath(key);
+                case RC_BACK -> vehicle.setRcBackPath(key);
+                case INSURANCE -> vehicle.setInsurancePath(key);
+                case PUC -> vehicle.setPucPath(key);
+                case VEHICLE_PHOTO -> vehicle.setVehiclePhotoPath(key);
+            }
+            vehicleRepository.save(vehicle);
+        });
+    }
+
+    private DocumentStore.StoredDocument open(String key, String name) throws IOException {
+        DocumentStore.StoredDocument stored = key != null ? documentStore.open(key) : null;
+        if (stored == null) {
+            throw new DocumentNotFoundException(name + " has not been uploaded");
+        }
+        return stored;
+    }
+
+    static String driverPath(Driver driver, Driver.Document document) {
+        return switch (document) {
+            case AADHAAR_FRONT -> driver.getAadhaarFrontPath();
+            case AADHAAR_BACK -> driver.getAadhaarBackPath();
+            case DL_FRONT -> driver.getDlFrontPath();
+            case DL_BACK -> driver.getDlBackPath();
+            case SELFIE -> driver.getSelfiePath();
+            case ADDRESS_PROOF -> driver.getAddressProofPath();
+        };
+    }
+
+    static String vehiclePath(Vehicle vehicle, Vehicle.Document document) {
+        return switch (document) {
+            case RC_FRONT -> vehicle.getRcFrontPath();
+            case RC_BACK -> vehicle.getRcBackPath();
+            case INSURANCE -> vehicle.getInsurancePath();
+            case PUC -> vehicle.getPucPath();
+            case VEHICLE_PHOTO -> vehicle.getVehiclePhotoPath();
+        };
+    }
+}
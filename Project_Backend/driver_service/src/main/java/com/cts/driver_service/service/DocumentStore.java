@@ -0,0 +1,211 @@
+package com.cts.driver_service.service;
+
+import com.cts.driver_service.exception.InvalidDocumentException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+
+/**
+ * Content-addressed storage for uploaded documents.
+ *
+ * An upload is copied from the request stream to a temp file through one reusable direct
+ * buffer while it is hashed, so the body is never held in memory. It is then renamed to
+ * {@code <root>/ab/cd/<sha256>.<ext>}. If that file already exists the bytes are identical and
+ * the temp file is dropped, so re-uploading the same scan costs no extra space. The returned
+ * key is what the entity path fields store.
+ */
+@Component
+public class DocumentStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final Path root;
+    private final Path tempDir;
+    private final long maxSizeBytes;
+    private final Counter storedUploads;
+    private final Counter deduplicatedUploads;
+    private final Counter uploadedBytes;
+
+    public DocumentStore(MeterRegistry meterRegistry,
+                         @Value("${documents.root:data/documents}") String root,
+                         @Value("${documents.max-size-bytes:10485760}") long maxSizeBytes) throws IOException {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.tempDir = Files.createDirectories(this.root.resolve("tmp"));
+        this.maxSizeBytes = maxSizeBytes;
+        this.storedUploads = Counter.builder("driver.documents.uploads")
+                .tag("outcome", "stored")
+                .description("Uploaded documents written as new content")
+                .register(meterRegistry);
+        this.deduplicatedUploads = Counter.builder("driver.documents.uploads")
+                .tag("outcome", "deduplicated")
+                .description("Uploaded documents whose content was already stored")
+                .register(meterRegistry);
+        this.uploadedBytes = Counter.builder("driver.documents.uploaded.bytes")
+                .baseUnit("bytes")
+                .description("Bytes received in document uploads")
+                .register(meterRegistry);
+    }
+
+    public StoredDocument store(InputStream body, Format format) throws IOException {
+        MessageDigest digest = sha256();
+        Path temp = Files.createTempFile(tempDir, "upload-", ".part");
+        long size = 0;
+        try (ReadableByteChannel source = Channels.newChannel(body);
+             FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            boolean first = true;
+            int read;
+            while ((read = source.read(buffer)) != -1) {
+                size += read;
+                if (size > maxSizeBytes) {
+                    throw new InvalidDocumentException("Document exceeds the " + maxSizeBytes + " byte limit");
+                }
+                if (!buffer.hasRemaining()) {
+                    flush(buffer, target, digest, first ? format : null);
+                    first = false;
+                }
+            }
+            flush(buffer, target, digest, first ? format : null);
+            target.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        uploadedBytes.increment(size);
+
+        String sha256 = HEX.formatHex(digest.digest());
+        String key = sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256 + "." + format.extension;
+        Path target = root.resolve(key);
+        if (Files.exists(target)) {
+            Files.delete(temp);
+            deduplicatedUploads.increment();
+            return new StoredDocument(key, sha256, size, format);
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            storedUploads.increment();
+        } catch (FileAlreadyExistsException e) {
+            // A concurrent upload of the same content won the rename.
+            Files.deleteIfExists(temp);
+            deduplicatedUploads.increment();
+        }
+        return new StoredDocument(key, sha256, size, format);
+    }
+
+    /** The stored file for a key previously returned by {@link #store}. */
+    public StoredDocument open(String key) throws IOException {
+        Path path = resolve(key);
+        if (path == null || !Files.isRegularFile(path)) {
+            return null;
+        }
+        String fileName = path.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        return new StoredDocument(key, fileName.substring(0, dot), Files.size(path),
+                Format.ofExtension(fileName.substring(dot + 1)));
+    }
+
+    public Path resolve(String key) {
+        if (key == null) {
+            return null;
+        }
+        Path path = root.resolve(key).normalize();
+        return path.startsWith(root) ? path : null;
+    }
+
+    // Writes the buffered bytes; the first flush of an upload also checks the file signature.
+    private static void flush(ByteBuffer buffer, FileChannel target, MessageDigest digest, Format checkFormat)
+            throws IOException {
+        buffer.flip();
+        if (checkFormat != null) {
+            checkMagic(buffer, checkFormat);
+        }
+        digest.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void checkMagic(ByteBuffer buffer, Format format) {
+        if (buffer.remaining() < format.magic.length) {
+            throw new InvalidDocumentException("Document is empty or truncated");
+        }
+        for (int i = 0; i < format.magic.length; i++) {
+            if (buffer.get(buffer.position() + i) != format.magic[i]) {
+                throw new InvalidDocumentException("Document content does not match " + format.mediaType);
+            }
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record StoredDocument(String key, String sha256, long size, Format format) {
+    }
+
+    public enum Format {
+        JPEG("image/jpeg", "jpg", new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}),
+        PNG("image/png", "png", new byte[]{(byte) 0x89, 'P', 'N', 'G'}),
+        PDF("application/pdf", "pdf", new byte[]{'%', 'P', 'D', 'F'});
+
+        private final String mediaType;
+        private final String extension;
+        private final byte[] magic;
+
+        Format(String mediaType, String extension, byte[] magic) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+            this.magic = magic;
+        }
+
+        public String mediaType() {
+            return mediaType;
+        }
+
+        public static Format ofMediaType(String contentType) {
+            if (contentType != null) {
+                String type = contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+                for (Format format : values()) {
+                    if (format.mediaType.equals(type)) {
+                        return format;
+                    }
+                }
+            }
+            throw new InvalidDocumentException("Unsupported document type: " + contentType
+                    + ". Allowed: image/jpeg, image/png, application/pdf");
+        }
+
+        static Format ofExtension(String extension) {
+            for (Format format : values()) {
+                if (format.extension.equals(extension)) {
+                    return format;
+                }
+            }
+            throw new IllegalStateException("Unknown document extension: " + extension);
+        }
+    }
+}
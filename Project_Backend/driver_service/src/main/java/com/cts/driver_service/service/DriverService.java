@@ -3,8 +3,11 @@ package com.cts.driver_service.service;
 import com.cts.driver_service.client.UserServiceClient;
 import com.cts.driver_service.dto.*;
 import com.cts.driver_service.entity.Driver;
+import com.cts.driver_service.entity.UserStatusOutbox;
+import com.cts.driver_service.entity.Vehicle;
 import com.cts.driver_service.exception.*;
 import com.cts.driver_service.repository.DriverRepository;
+import com.cts.driver_service.repository.UserStatusOutboxRepository;
 import com.cts.driver_service.repository.VehicleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,20 +15,34 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class DriverService {
 
+    // USER-SERVICE has no INACTIVE status; a removed driver's account is suspended so it can be restored.
+    private static final String DEACTIVATED_USER_STATUS = "SUSPENDED";
+
     private final DriverRepository driverRepository;
     private final VehicleRepository vehicleRepository;
     private final UserServiceClient userServiceClient;
+    private final UserStatusOutboxRepository userStatusOutboxRepository;
+    private final DocumentExpiryScheduler documentExpiryScheduler;
+    private final EligibilityFeed eligibilityFeed;
+    private final TransactionTemplate transactionTemplate;
 
     public DriverResponse getDriverProfile(String userId) {
         log.info("Fetching driver profile for userId: {}", userId);
@@ -35,6 +52,38 @@ public class DriverService {
         return enrichWithUserDetails(driver);
     }
 
+    /**
+     * The driver with their live vehicles, read with a single join. User details come through
+     * the cached USER-SERVICE lookup, so a warm profile costs one database query in total.
+     */
+    public DriverProfileResponse getFullProfile(String userId) {
+        log.info("Fetching full driver profile for userId: {}", userId);
+        List<Object[]> rows = driverRepository.findWithVehiclesByUserId(userId);
+        if (rows.isEmpty()) {
+            throw new DriverNotFoundException("Driver profile not found for userId: " + userId);
+        }
+        return toProfile(rows);
+    }
+
+    public DriverProfileResponse getFullProfileById(String driverId) {
+        log.info("Admin: Fetching full driver profile for ID: {}", driverId);
+        List<Object[]> rows = driverRepository.findWithVehiclesById(driverId);
+        if (rows.isEmpty()) {
+            throw new DriverNotFoundException("Driver not found with id: " + driverId);
+        }
+        return toProfile(rows);
+    }
+
+    private DriverProfileResponse toProfile(List<Object[]> rows) {
+        Driver driver = (Driver) rows.get(0)[0];
+        List<VehicleResponse> vehicles = rows.stream()
+                .map(row -> (Vehicle) row[1])
+                .filter(Objects::nonNull)
+                .map(VehicleResponse::fromEntity)
+                .toList();
+        return new DriverProfileResponse(enrichWithUserDetails(driver), vehicles);
+    }
+
     @Transactional
     public Driver createOrUpdateProfile(String userId, DriverProfileRequest req) {
         log.info("Creating/Updating driver profile for userId: {}", userId);
@@ -49,6 +98,7 @@ public class DriverService {
                     log.info("Creating new driver profile for userId: {}", userId);
                     return newDriver;
                 });
+        LocalDate previousDlExpiry = driver.getDlExpiryDate();
 
         if (req.getAadhaarNumber() != null && !req.getAadhaarNumber().isBlank()) {
             driver.setAadhaarNumber(req.getAadhaarNumber());
@@ -75,6 +125,11 @@ public class DriverService {
         }
 
         Driver saved = driverRepository.save(driver);
+        documentExpiryScheduler.track(saved);
+        // A renewed licence can make the driver eligible again
+        if (!Objects.equals(previousDlExpiry, saved.getDlExpiryDate())) {
+            eligibilityFeed.driversChanged(List.of(userId));
+        }
         log.info("Driver profile saved successfully for userId: {}", userId);
         return saved;
     }
@@ -143,11 +198,88 @@ public class DriverService {
         }
 
         Driver saved = driverRepository.save(driver);
+        eligibilityFeed.driversChanged(List.of(saved.getUserId()));
         log.info("Driver {} verification updated successfully", driverId);
 
         return enrichWithUserDetails(saved);
     }
 
+    /**
+     * Bulk variant of {@link #adminVerifyDriver}. Approvals activate all the users with one batch
+     * call to USER-SERVICE before anything is written here; the drivers that can proceed are then
+     * updated with a single UPDATE ... WHERE id IN, in a transaction opened only after the remote
+     * call. Drivers that cannot be updated are listed with a reason.
+     */
+    public BulkVerificationResponse adminVerifyDrivers(BulkVerificationRequest req) {
+        Driver.VerificationStatus status = verificationStatusFor(req.getAction());
+        Set<String> requested = new LinkedHashSet<>(req.getDriverIds());
+        log.info("Admin: Bulk verifying {} drivers with action: {}", requested.size(), req.getAction());
+
+        List<BulkVerificationResponse.Failure> failed = new ArrayList<>();
+        List<Driver> drivers = driverRepository.findAllById(requested);
+        Set<String> found = new HashSet<>();
+        drivers.forEach(driver -> found.add(driver.getId()));
+        for (String driverId : requested) {
+            if (!found.contains(driverId)) {
+                failed.add(new BulkVerificationResponse.Failure(driverId, "Driver not found"));
+            }
+        }
+
+        if (status == Driver.VerificationStatus.APPROVED && !drivers.isEmpty()) {
+            drivers = activateUsers(drivers, failed);
+        }
+
+        List<String> updated = drivers.stream().map(Driver::getId).toList();
+        if (!updated.isEmpty()) {
+            List<String> userIds = drivers.stream().map(Driver::getUserId).toList();
+            transactionTemplate.executeWithoutResult(tx -> {
+                driverRepository.updateVerificationStatus(updated, status, OffsetDateTime.now());
+                eligibilityFeed.driversChanged(userIds);
+            });
+        }
+        log.info("Admin: Bulk verification {} - {} updated, {} failed", status, updated.size(), failed.size());
+        return new BulkVerificationResponse(status.name(), updated, failed);
+    }
+
+    // Returns the drivers whose user account is now ACTIVE; the rest are added to failed.
+    private List<Driver> activateUsers(List<Driver> drivers, List<BulkVerificationResponse.Failure> failed) {
+        List<String> userIds = drivers.stream().map(Driver::getUserId).toList();
+        UserStatusBatchResponse activation;
+        try {
+            activation = userServiceClient.updateUserStatuses(new UserStatusBatchRequest(userIds, "ACTIVE"));
+        } catch (Exception e) {
+            log.error("Failed to activate {} user accounts: {}", userIds.size(), e.getMessage());
+            drivers.forEach(driver -> failed.add(new BulkVerificationResponse.Failure(
+                    driver.getId(), "Failed to activate user account: " + e.getMessage())));
+            return List.of();
+        }
+
+        Set<String> notFound = activation.getNotFound() != null ? new HashSet<>(activation.getNotFound()) : Set.of();
+        List<Driver> activated = new ArrayList<>(drivers.size());
+        for (Driver driver : drivers) {
+            if (notFound.contains(driver.getUserId())) {
+                failed.add(new BulkVerificationResponse.Failure(driver.getId(), "User account not found"));
+            } else {
+                activated.add(driver);
+            }
+        }
+        return activated;
+    }
+
+    private static Driver.VerificationStatus verificationStatusFor(String action) {
+        switch (action.toUpperCase()) {
+            case "APPROVE":
+                return Driver.VerificationStatus.APPROVED;
+            case "REJECT":
+                return Driver.VerificationStatus.REJECTED;
+            case "UNDER_REVIEW":
+                return Driver.VerificationStatus.UNDER_REVIEW;
+            default:
+                throw new IllegalArgumentException(
+                        "Invalid action: " + action + ". Valid actions are: APPROVE, REJECT, UNDER_REVIEW");
+        }
+    }
+
     private DriverResponse enrichWithUserDetails(Driver driver) {
         UserResponse userDetails = null;
 
@@ -162,25 +294,44 @@ public class DriverService {
         return DriverResponse.fromEntity(driver, userDetails);
     }
 
+    /**
+     * Deletes the driver, soft-deletes all of their vehicles with one UPDATE and queues the
+     * user account suspension in the outbox, all in one transaction. USER-SERVICE is not called
+     * here, so a slow or unavailable user service no longer fails the delete.
+     */
     @Transactional
-    public void deleteDriverById(String driverId) { 
+    public void deleteDriverById(String driverId) {
         Driver driver = driverRepository.findById(driverId)
                 .orElseThrow(() -> new DriverNotFoundException("Driver not found"));
 
-        vehicleRepository.findByDriverIdAndIsDeletedFalse(driverId)
-                .forEach(v -> {
-                    v.setIsDeleted(true);
-                    vehicleRepository.save(v);
-                });
+        int vehicles = vehicleRepository.softDeleteByDriverIds(List.of(driverId), OffsetDateTime.now());
+        userStatusOutboxRepository.save(UserStatusOutbox.of(driver.getUserId(), DEACTIVATED_USER_STATUS));
+        eligibilityFeed.driversChanged(List.of(driver.getUserId()));
 
-        UserResponse user=userServiceClient.getUserById(driverId);
-        if(user!=null) {
-            userServiceClient.updateUserStatus(driver.getUserId(), Map.of("status", "INACTIVE"));
-            log.info("Deactivated user account for driver {}", driverId);
-        }
+        driverRepository.delete(driver);
+        log.info("Deleted driver {} and {} vehicles; user {} queued for deactivation", driverId, vehicles, driver.getUserId());
+    }
 
-        driverRepository.deleteById(driverId);
-        log.info("Deleted driver {}", driverId);
+    /** {@link #deleteDriverById} for many drivers: three set-based statements plus the outbox rows. */
+    @Transactional
+    public OffboardResponse offboardDrivers(OffboardRequest req) {
+        Set<String> requested = new LinkedHashSet<>(req.getDriverIds());
+        List<Driver> drivers = driverRepository.findAllById(requested);
+        List<String> offboarded = drivers.stream().map(Driver::getId).toList();
+        List<String> notFound = new ArrayList<>(requested);
+        notFound.removeAll(offboarded);
+
+        int vehicles = 0;
+        if (!drivers.isEmpty()) {
+            vehicles = vehicleRepository.softDeleteByDriverIds(offboarded, OffsetDateTime.now());
+            userStatusOutboxRepository.saveAll(drivers.stream()
+                    .map(driver -> UserStatusOutbox.of(driver.getUserId(), DEACTIVATED_USER_STATUS))
+                    .toList());
+            eligibilityFeed.driversChanged(drivers.stream().map(Driver::getUserId).toList());
+            driverRepository.deleteAllInBatch(drivers);
+        }
+        log.info("Admin: Offboarded {} drivers ({} vehicles), {} not found", offboarded.size(), vehicles, notFound.size());
+        return new OffboardResponse(offboarded, notFound, vehicles);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,164 @@
+package com.cts.driver_service.service;
+
+import com.cts.driver_service.dto.DriverEligibility;
+import com.cts.driver_service.dto.EligibilityBatch;
+import com.cts.driver_service.dto.EligibilitySnapshot;
+import com.cts.driver_service.dto.EligibleVehicle;
+import com.cts.driver_service.entity.Driver;
+import com.cts.driver_service.entity.EligibilityChange;
+import com.cts.driver_service.entity.EventSequence;
+import com.cts.driver_service.entity.Vehicle;
+import com.cts.driver_service.repository.DriverRepository;
+import com.cts.driver_service.repository.EligibilityChangeRepository;
+import com.cts.driver_service.repository.EventSequenceRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Publishes which vehicles each driver may accept bookings with, so BOOKING-SERVICE can keep
+ * a local copy instead of calling here on every accept.
+ *
+ * Write paths that can change eligibility call {@link #driversChanged} or
+ * {@link #vehiclesChanged} inside their transaction, appending to eligibility_changes. Rows are
+ * numbered by advancing the event_sequences counter row in the same transaction; its row lock
+ * is held until commit, so sequence numbers become visible in commit order and a reader never
+ * skips a change by moving past it. The feed returns the current state of the drivers that
+ * changed, so it is safe to replay.
+ */
+@Slf4j
+@Component
+public class EligibilityFeed {
+
+    static final String SEQUENCE = "eligibility_changes";
+    private static final int MAX_LIMIT = 1000;
+
+    private final EligibilityChangeRepository changeRepository;
+    private final EventSequenceRepository sequenceRepository;
+    private final DriverRepository driverRepository;
+    private final int retentionDays;
+
+    public EligibilityFeed(EligibilityChangeRepository changeRepository,
+                           EventSequenceRepository sequenceRepository,
+                           DriverRepository driverRepository,
+                           @Value("${eligibility-feed.retention-days:7}") int retentionDays) {
+        this.changeRepository = changeRepository;
+        this.sequenceRepository = sequenceRepository;
+        this.driverRepository = driverRepository;
+        this.retentionDays = retentionDays;
+    }
+
+    // Another instance may create the row at the same time; either insert is fine.
+    @PostConstruct
+    public void init() {
+        if (sequenceRepository.existsById(SEQUENCE)) {
+            return;
+        }
+        try {
+            Long last = changeRepository.findLastSequence();
+            sequenceRepository.saveAndFlush(new EventSequence(SEQUENCE, last != null ? last : 0));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Event sequence {} created by another instance", SEQUENCE);
+        }
+    }
+
+    /** Records that the eligibility of these drivers (by user ID) may have changed. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void driversChanged(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<EligibilityChange> changes = new LinkedHashSet<>(userIds).stream().map(EligibilityChange::of).toList();
+        sequenceRepository.advance(SEQUENCE, changes.size());
+        long next = sequenceRepository.current(SEQUENCE) - changes.size();
+        for (EligibilityChange change : changes) {
+            change.setSequence(++next);
+        }
+        changeRepository.saveAll(changes);
+    }
+
+    /** {@link #driversChanged} for the owners of these vehicles. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void vehiclesChanged(Collection<String> vehicleIds) {
+        if (vehicleIds.isEmpty()) {
+            return;
+        }
+        driversChanged(driverRepository.findUserIdsByVehicleIds(vehicleIds));
+    }
+
+    @Transactional(readOnly = true)
+    public EligibilityBatch changes(long after, int limit) {
+        List<EligibilityChange> changes = changeRepository.findBySequenceGreaterThanOrderBySequenceAsc(
+                after, PageRequest.of(0, Math.max(1, Math.min(limit, MAX_LIMIT))));
+        Long last = changeRepository.findLastSequence();
+        Long oldest = changeRepository.findOldestSequence();
+
+        Set<String> userIds = new LinkedHashSet<>();
+        changes.forEach(change -> userIds.add(change.getUserId()));
+        long offset = changes.isEmpty() ? after : changes.get(changes.size() - 1).getSequence();
+        return new EligibilityBatch(offset,
+                last != null ? last : 0,
+                oldest != null ? oldest : 0,
+                eligibility(userIds));
+    }
+
+    public EligibilitySnapshot snapshot(String afterUserId, int limit) {
+        Long offset = changeRepository.findLastSequence();
+        int pageSize = Math.max(1, Math.min(limit, MAX_LIMIT));
+        List<String> userIds = driverRepository.findUserIdsForEligibility(afterUserId != null ? afterUserId : "",
+                Driver.VerificationStatus.APPROVED, Vehicle.VerificationStatus.APPROVED, LocalDate.now(),
+                PageRequest.of(0, pageSize));
+        String nextUserId = userIds.size() == pageSize ? userIds.get(userIds.size() - 1) : null;
+        return new EligibilitySnapshot(offset != null ? offset : 0, nextUserId, eligibility(userIds));
+    }
+
+    public DriverEligibility driver(String userId) {
+        return eligibility(List.of(userId)).get(0);
+    }
+
+    // Keeps the newest row so readers can always tell how far the feed has got.
+    @Scheduled(fixedDelayString = "${eligibility-feed.prune-interval-ms:3600000}")
+    @Transactional
+    public void prune() {
+        Long last = changeRepository.findLastSequence();
+        Long expired = changeRepository.findLastSequenceCreatedBefore(OffsetDateTime.now().minusDays(retentionDays));
+        if (last == null || expired == null) {
+            return;
+        }
+        int pruned = changeRepository.deleteBySequenceBelow(Math.min(expired + 1, last));
+        if (pruned > 0) {
+            log.info("Pruned {} eligibility changes older than {} days", pruned, retentionDays);
+        }
+    }
+
+    private List<DriverEligibility> eligibility(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        Map<String, List<EligibleVehicle>> vehicles = new LinkedHashMap<>();
+        userIds.forEach(userId -> vehicles.put(userId, new ArrayList<>()));
+        for (Object[] row : driverRepository.findVehiclesForEligibility(
+                userIds, Driver.VerificationStatus.APPROVED, Vehicle.VerificationStatus.APPROVED, LocalDate.now())) {
+            vehicles.get((String) row[0]).add(new EligibleVehicle((String) row[1], ((Vehicle.VehicleType) row[2]).name()));
+        }
+        List<DriverEligibility> drivers = new ArrayList<>(vehicles.size());
+        vehicles.forEach((userId, eligible) -> drivers.add(new DriverEligibility(userId, eligible)));
+        return drivers;
+    }
+}
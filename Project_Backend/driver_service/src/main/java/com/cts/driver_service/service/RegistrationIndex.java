@@ -0,0 +1,178 @@
+package com.cts.driver_service.service;
+
+import com.cts.driver_service.repository.VehicleRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Duplicate detection for vehicle registration numbers.
+ *
+ * Registration numbers are compared in normalized form (upper case, letters and digits only).
+ * A Bloom filter of every live registration number is warmed at startup; a number the filter
+ * has never seen cannot be registered, so the common case (a new vehicle) is answered from
+ * memory. Possible hits, and lookups before warm-up has finished, are confirmed with one IN
+ * query on the indexed activeRegistrationNumber column. Deleted vehicles stay in the filter and
+ * just cost that query. The unique constraint on activeRegistrationNumber remains the final
+ * word: it catches numbers registered by another instance and concurrent inserts.
+ * Databases created before that column existed are upgraded by
+ * db/migration/V1__vehicles_active_registration.sql.
+ */
+@Slf4j
+@Component
+public class RegistrationIndex {
+
+    private final VehicleRepository vehicleRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final BloomFilter filter;
+    private volatile boolean warm;
+
+    private final Counter skipped;
+    private final Counter checked;
+    private final Counter falsePositives;
+
+    public RegistrationIndex(VehicleRepository vehicleRepository,
+                             JdbcTemplate jdbcTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${registration-index.expected-entries:1000000}") int expectedEntries,
+                             @Value("${registration-index.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.vehicleRepository = vehicleRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.filter = new BloomFilter(expectedEntries, falsePositiveRate);
+        this.skipped = Counter.builder("driver.registration.lookups")
+                .tag("outcome", "memory")
+                .description("Registration numbers known to be free without a database query")
+                .register(meterRegistry);
+        this.checked = Counter.builder("driver.registration.lookups")
+                .tag("outcome", "database")
+                .description("Registration numbers confirmed with a database query")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("driver.registration.lookups")
+                .tag("outcome", "false_positive")
+                .description("Database confirmations that found the number free")
+                .register(meterRegistry);
+    }
+
+    public static String normalize(String registrationNumber) {
+        StringBuilder normalized = new StringBuilder(registrationNumber.length());
+        for (int i = 0; i < registrationNumber.length(); i++) {
+            char c = registrationNumber.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString().toUpperCase(Locale.ROOT);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        AtomicLong count = new AtomicLong();
+        jdbcTemplate.query("SELECT active_registration_number FROM vehicles WHERE active_registration_number IS NOT NULL",
+                rs -> {
+                    filter.put(rs.getString(1));
+                    count.incrementAndGet();
+                });
+        warm = true;
+        log.info("Registration index warmed with {} registration numbers", count.get());
+    }
+
+    /** Which of the given normalized numbers belong to a live vehicle. */
+    public Set<String> registered(Collection<String> normalized) {
+        List<String> candidates = new ArrayList<>();
+        for (String number : normalized) {
+            if (warm && !filter.mightContain(number)) {
+                skipped.increment();
+            } else {
+                candidates.add(number);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        checked.increment(candidates.size());
+        Set<String> registered = new HashSet<>(vehicleRepository.findActiveRegistrationNumbers(candidates));
+        falsePositives.increment(candidates.size() - registered.size());
+        return registered;
+    }
+
+    /** Records a newly saved registration number. */
+    public void add(String normalized) {
+        filter.put(normalized);
+    }
+
+    boolean isWarm() {
+        return warm;
+    }
+
+    /** Lock-free Bloom filter using double hashing over a 64-bit hash of the key. */
+    static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashCount;
+
+        BloomFilter(int expectedEntries, double falsePositiveRate) {
+            long m = (long) Math.ceil(-expectedEntries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bitCount = Math.max(64, (m + 63) / 64 * 64);
+            this.bits = new AtomicLongArray((int) (bitCount / 64));
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedEntries * Math.log(2)));
+        }
+
+        void put(String key) {
+            long hash = hash(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long current = bits.get(word);
+                while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                    current = bits.get(word);
+                }
+            }
+        }
+
+        boolean mightContain(String key) {
+            long hash = hash(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // FNV-1a followed by the MurmurHash3 finalizer so both halves are well mixed.
+        private static long hash(String key) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < key.length(); i++) {
+                hash ^= key.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9e34b8a9e3bL;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
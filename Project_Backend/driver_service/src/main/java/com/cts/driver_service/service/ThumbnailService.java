@@ -0,0 +1,272 @@
+package com.cts.driver_service.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Downscaled JPEG renditions of uploaded images for the admin verification screens.
+ *
+ * Uploads call {@link #submit}, which only enqueues: work runs on a small pool with a bounded
+ * queue, and when the queue is full the job is dropped (counted as rejected) and the rendition
+ * is produced on first request instead. Each image is decoded once, subsampled while reading so
+ * a 12 MP phone photo never becomes a full-size raster, and written as every {@link Size}.
+ * Renditions are cached under thumbnails.root by content hash, so they never go stale.
+ */
+@Slf4j
+@Component
+public class ThumbnailService {
+
+    public enum Size {
+        THUMBNAIL(160),
+        PREVIEW(800);
+
+        private final int maxDimension;
+
+        Size(int maxDimension) {
+            this.maxDimension = maxDimension;
+        }
+    }
+
+    private final DocumentStore documentStore;
+    private final Path root;
+    private final float quality;
+    private final long waitMillis;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter generated;
+    private final Counter failed;
+    private final Counter rejected;
+
+    public ThumbnailService(DocumentStore documentStore,
+                            MeterRegistry meterRegistry,
+                            @Value("${thumbnails.root:data/thumbnails}") String root,
+                            @Value("${thumbnails.threads:2}") int threads,
+                            @Value("${thumbnails.queue-capacity:256}") int queueCapacity,
+                            @Value("${thumbnails.jpeg-quality:0.8}") float quality,
+                            @Value("${thumbnails.wait-ms:2000}") long waitMillis) throws IOException {
+        this.documentStore = documentStore;
+        this.root = Files.createDirectories(Path.of(root).toAbsolutePath().normalize());
+        this.quality = quality;
+        this.waitMillis = waitMillis;
+
+        // Decoding reads from files we already have; ImageIO's own temp-file cache only adds I/O.
+        ImageIO.setUseCache(false);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.NORM_PRIORITY - 1);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, "driver.thumbnails", Tags.empty()).bindTo(meterRegistry);
+
+        this.generated = Counter.builder("driver.thumbnails.jobs")
+                .tag("outcome", "generated")
+                .description("Documents whose renditions were generated")
+                .register(meterRegistry);
+        this.failed = Counter.builder("driver.thumbnails.jobs")
+                .tag("outcome", "failed")
+                .description("Documents that could not be decoded or scaled")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("driver.thumbnails.jobs")
+                .tag("outcome", "rejected")
+                .description("Jobs dropped because the queue was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues rendition generation for an image and returns immediately. PDFs are skipped. The
+     * returned future completes when the renditions exist; it is already failed if the job was
+     * rejected.
+     */
+    public CompletableFuture<Void> submit(DocumentStore.StoredDocument document) {
+        if (document.format() == DocumentStore.Format.PDF) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("No renditions for PDF documents"));
+        }
+        if (allExist(document.sha256())) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> job = new CompletableFuture<>();
+        CompletableFuture<Void> existing = inFlight.putIfAbsent(document.sha256(), job);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            executor.execute(() -> run(document, job));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(document.sha256(), job);
+            rejected.increment();
+            job.completeExceptionally(e);
+        }
+        return job;
+    }
+
+    /**
+     * The cached rendition, generating it first (waiting at most thumbnails.wait-ms) if needed.
+     * Returns null for PDFs and when the rendition could not be produced in time.
+     */
+    public Path rendition(DocumentStore.StoredDocument document, Size size) {
+        Path path = path(document.sha256(), size);
+        if (Files.exists(path)) {
+            return path;
+        }
+        try {
+            submit(document).get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+        return Files.exists(path) ? path : null;
+    }
+
+    Path path(String sha256, Size size) {
+        return root.resolve(size.name().toLowerCase()).resolve(sha256.substring(0, 2)).resolve(sha256 + ".jpg");
+    }
+
+    private void run(DocumentStore.StoredDocument document, CompletableFuture<Void> job) {
+        try {
+            generate(document);
+            generated.increment();
+            job.complete(null);
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("Could not generate renditions for {}: {}", document.key(), e.getMessage());
+            job.completeExceptionally(e);
+        } finally {
+            inFlight.remove(document.sha256(), job);
+        }
+    }
+
+    private void generate(DocumentStore.StoredDocument document) throws IOException {
+        Size largest = Size.PREVIEW;
+        BufferedImage source = decode(documentStore.resolve(document.key()), largest.maxDimension);
+        BufferedImage preview = scale(source, largest.maxDimension);
+        for (Size size : Size.values()) {
+            // Smaller renditions are scaled from the preview rather than decoding again.
+            BufferedImage image = size == largest ? preview : scale(preview, size.maxDimension);
+            write(image, path(document.sha256(), size));
+        }
+    }
+
+    // Reads every n-th pixel so the decoded raster is at most about twice the target size.
+    private static BufferedImage decode(Path file, int targetDimension) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("No image reader for " + file.getFileName());
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int step = Math.max(1, longest / (targetDimension * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage source, int maxDimension) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double factor = Math.min(1.0, (double) maxDimension / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * factor));
+        int targetHeight = Math.max(1, (int) Math.round(height * factor));
+
+        // Always redraw into RGB: JPEG cannot carry alpha, and PNG sources often have it.
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, targetWidth, targetHeight, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private void write(BufferedImage image, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), "rendition-", ".part");
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+                writer.setOutput(output);
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(quality);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            Files.deleteIfExists(temp);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    private boolean allExist(String sha256) {
+        for (Size size : Size.values()) {
+            if (!Files.exists(path(sha256, size))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,107 @@
+package com.cts.driver_service.service;
+
+import com.cts.driver_service.client.UserServiceClient;
+import com.cts.driver_service.dto.UserStatusBatchRequest;
+import com.cts.driver_service.entity.UserStatusOutbox;
+import com.cts.driver_service.repository.UserStatusOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers {@link UserStatusOutbox} rows to USER-SERVICE with one batch call per target status.
+ * Delivered rows are deleted; failed ones are pushed back with exponential backoff. Setting a
+ * status is idempotent, so a crash between the call and the delete only repeats the call.
+ * No transaction is held across the remote call.
+ */
+@Slf4j
+@Component
+public class UserStatusOutboxRelay {
+
+    private final UserStatusOutboxRepository outboxRepository;
+    private final UserServiceClient userServiceClient;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long retryBaseMillis;
+    private final long retryMaxMillis;
+    private final Counter delivered;
+    private final Counter retried;
+
+    public UserStatusOutboxRelay(UserStatusOutboxRepository outboxRepository,
+                                 UserServiceClient userServiceClient,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${user-status-outbox.enabled:true}") boolean enabled,
+                                 @Value("${user-status-outbox.batch-size:200}") int batchSize,
+                                 @Value("${user-status-outbox.retry-base-ms:1000}") long retryBaseMillis,
+                                 @Value("${user-status-outbox.retry-max-ms:300000}") long retryMaxMillis) {
+        this.outboxRepository = outboxRepository;
+        this.userServiceClient = userServiceClient;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.retryBaseMillis = retryBaseMillis;
+        this.retryMaxMillis = retryMaxMillis;
+        this.delivered = Counter.builder("driver.user-status.outbox")
+                .tag("outcome", "delivered")
+                .description("User status changes delivered to USER-SERVICE")
+                .register(meterRegistry);
+        this.retried = Counter.builder("driver.user-status.outbox")
+                .tag("outcome", "retried")
+                .description("User status changes rescheduled after a failed delivery")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${user-status-outbox.interval-ms:1000}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+        List<UserStatusOutbox> due = outboxRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(
+                OffsetDateTime.now(), PageRequest.of(0, batchSize));
+        Map<String, List<UserStatusOutbox>> byStatus = due.stream()
+                .collect(Collectors.groupingBy(UserStatusOutbox::getStatus, LinkedHashMap::new, Collectors.toList()));
+        byStatus.forEach(this::deliver);
+    }
+
+    private void deliver(String status, List<UserStatusOutbox> rows) {
+        List<String> userIds = rows.stream().map(UserStatusOutbox::getUserId).distinct().toList();
+        try {
+            // Users USER-SERVICE no longer knows come back as not_found; there is nothing left to change.
+            userServiceClient.updateUserStatuses(new UserStatusBatchRequest(userIds, status));
+        } catch (Exception e) {
+            log.warn("Could not set {} users to {}, will retry: {}", userIds.size(), status, e.getMessage());
+            OffsetDateTime now = OffsetDateTime.now();
+            for (UserStatusOutbox row : rows) {
+                row.setAttempts(row.getAttempts() + 1);
+                row.setNextAttemptAt(now.plusNanos(backoffMillis(row.getAttempts()) * 1_000_000L));
+                row.setLastError(truncate(e.getMessage()));
+            }
+            outboxRepository.saveAll(rows);
+            retried.increment(rows.size());
+            return;
+        }
+        outboxRepository.deleteAllInBatch(rows);
+        delivered.increment(rows.size());
+    }
+
+    private long backoffMillis(int attempts) {
+        int shift = Math.min(attempts - 1, 20);
+        return Math.min(retryMaxMillis, retryBaseMillis << shift);
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= 255 ? message : message.substring(0, 255);
+    }
+}
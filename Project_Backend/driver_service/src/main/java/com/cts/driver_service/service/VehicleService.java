@@ -1,15 +1,21 @@
 package com.cts.driver_service.service;
 
 import com.cts.driver_service.dto.AdminVehicleVerificationRequest;
+import com.cts.driver_service.dto.BulkVehicleResponse;
 import com.cts.driver_service.dto.VehicleRequest;
+import com.cts.driver_service.dto.VehicleResponse;
 import com.cts.driver_service.entity.Driver;
 import com.cts.driver_service.entity.Vehicle;
 import com.cts.driver_service.exception.DriverNotFoundException;
+import com.cts.driver_service.exception.DuplicateRegistrationException;
 import com.cts.driver_service.exception.InvalidDateFormatException;
+import com.cts.driver_service.exception.VehicleNotFoundException;
 import com.cts.driver_service.repository.DriverRepository;
 import com.cts.driver_service.repository.VehicleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -17,7 +23,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -26,6 +37,9 @@ public class VehicleService {
 
     private final VehicleRepository vehicleRepository;
     private final DriverRepository driverRepository;
+    private final DocumentExpiryScheduler documentExpiryScheduler;
+    private final RegistrationIndex registrationIndex;
+    private final EligibilityFeed eligibilityFeed;
 
     public List<Vehicle> getDriverVehicles(String userId) {
         log.info("Fetching vehicles for userId: {}", userId);
@@ -56,13 +70,91 @@ public class VehicleService {
         Driver driver = driverRepository.findByUserId(userId)
                 .orElseThrow(() -> new DriverNotFoundException("Driver profile not found"));
 
-        if (vehicleRepository.existsByRegistrationNumberAndIsDeletedFalse(request.getRegistrationNumber())) {
-            throw new RuntimeException("Vehicle with registration number " + request.getRegistrationNumber() + " already exists");
+        String registrationNumber = RegistrationIndex.normalize(request.getRegistrationNumber());
+        if (!registrationIndex.registered(List.of(registrationNumber)).isEmpty()) {
+            throw new DuplicateRegistrationException("Vehicle with registration number " + registrationNumber + " already exists");
         }
 
+        Vehicle saved = insert(List.of(toVehicle(driver, request, registrationNumber))).get(0);
+        log.info("Vehicle added successfully: {}", saved.getId());
+
+        return saved;
+    }
+
+    /**
+     * Adds a fleet of vehicles for one driver. Numbers repeated within the request or already
+     * registered are rejected individually; the rest are inserted together in one flush.
+     * Duplicate checks for the whole batch cost at most one query.
+     */
+    @Transactional
+    public BulkVehicleResponse addVehicles(String userId, List<VehicleRequest> requests) {
+        log.info("Adding {} vehicles for userId: {}", requests.size(), userId);
+
+        Driver driver = driverRepository.findByUserId(userId)
+                .orElseThrow(() -> new DriverNotFoundException("Driver profile not found"));
+
+        List<BulkVehicleResponse.Rejection> rejected = new ArrayList<>();
+        Map<String, VehicleRequest> unique = new LinkedHashMap<>();
+        for (VehicleRequest request : requests) {
+            String registrationNumber = RegistrationIndex.normalize(request.getRegistrationNumber());
+            if (unique.putIfAbsent(registrationNumber, request) != null) {
+                rejected.add(new BulkVehicleResponse.Rejection(registrationNumber, "Duplicate in request"));
+            }
+        }
+
+        Set<String> registered = registrationIndex.registered(unique.keySet());
+        List<Vehicle> vehicles = new ArrayList<>(unique.size());
+        unique.forEach((registrationNumber, request) -> {
+            if (registered.contains(registrationNumber)) {
+                rejected.add(new BulkVehicleResponse.Rejection(registrationNumber, "Already registered"));
+            } else {
+                vehicles.add(toVehicle(driver, request, registrationNumber));
+            }
+        });
+
+        List<Vehicle> saved = vehicles.isEmpty() ? List.of() : insert(vehicles);
+        log.info("Added {} vehicles for driver {}, {} rejected", saved.size(), driver.getId(), rejected.size());
+
+        return new BulkVehicleResponse(saved.stream().map(VehicleResponse::fromEntity).toList(), rejected);
+    }
+
+    // Flushes here so a clash on the unique key (another instance, or a concurrent request)
+    // surfaces as a conflict instead of a failed commit.
+    private List<Vehicle> insert(List<Vehicle> vehicles) {
+        List<Vehicle> saved;
+        try {
+            saved = vehicleRepository.saveAllAndFlush(vehicles);
+        } catch (DataIntegrityViolationException e) {
+            if (!violatesActiveRegistrationKey(e)) {
+                throw e;
+            }
+            throw new DuplicateRegistrationException(vehicles.size() == 1
+                    ? "Vehicle with registration number " + vehicles.get(0).getRegistrationNumber() + " already exists"
+                    : "One of the registration numbers was registered concurrently; please retry");
+        }
+        for (Vehicle vehicle : saved) {
+            registrationIndex.add(vehicle.getRegistrationNumber());
+            documentExpiryScheduler.track(vehicle);
+        }
+        return saved;
+    }
+
+    // MySQL reports the key as "vehicles.<name>"; any other violation (a NOT NULL column, say)
+    // is a bug rather than a duplicate and is rethrown as is.
+    static boolean violatesActiveRegistrationKey(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                String name = violation.getConstraintName().toLowerCase(Locale.ROOT);
+                return name.equals(Vehicle.ACTIVE_REGISTRATION_KEY) || name.endsWith("." + Vehicle.ACTIVE_REGISTRATION_KEY);
+            }
+        }
+        return false;
+    }
+
+    private Vehicle toVehicle(Driver driver, VehicleRequest request, String registrationNumber) {
         Vehicle vehicle = new Vehicle();
         vehicle.setDriverId(driver.getId());
-        vehicle.setRegistrationNumber(request.getRegistrationNumber().toUpperCase());
+        vehicle.setRegistrationNumber(registrationNumber);
 
         try {
             vehicle.setVehicleType(Vehicle.VehicleType.valueOf(request.getVehicleType().toUpperCase()));
@@ -93,11 +185,7 @@ public class VehicleService {
         vehicle.setVerificationStatus(Vehicle.VerificationStatus.PENDING);
         vehicle.setIsActive(true);
         vehicle.setIsDeleted(false);
-
-        Vehicle saved = vehicleRepository.save(vehicle);
-        log.info("Vehicle added successfully: {}", saved.getId());
-
-        return saved;
+        return vehicle;
     }
 
     @Transactional
@@ -149,6 +237,7 @@ public class VehicleService {
         }
 
         Vehicle saved = vehicleRepository.save(vehicle);
+        documentExpiryScheduler.track(saved);
         log.info("Vehicle {} updated successfully", vehicleId);
         
         return saved;
@@ -167,6 +256,8 @@ public class VehicleService {
         vehicle.setIsDeleted(true);
         vehicle.setIsActive(false);
         vehicleRepository.save(vehicle);
+        documentExpiryScheduler.track(vehicle);
+        eligibilityFeed.driversChanged(List.of(driver.getUserId()));
         
         log.info("Vehicle {} deleted successfully", vehicleId);
     }
@@ -210,6 +301,8 @@ public class VehicleService {
         }
 
         Vehicle saved = vehicleRepository.save(vehicle);
+        documentExpiryScheduler.track(saved);
+        eligibilityFeed.vehiclesChanged(List.of(vehicleId));
         log.info("Vehicle {} verification updated successfully", vehicleId);
         
         return saved;
@@ -223,6 +316,12 @@ public class VehicleService {
         }
     }
 
+    public Vehicle getVehicleById(String vehicleId) {
+        return vehicleRepository.findById(vehicleId)
+                .filter(vehicle -> !Boolean.TRUE.equals(vehicle.getIsDeleted()))
+                .orElseThrow(() -> new VehicleNotFoundException("Vehicle not found: " + vehicleId));
+    }
+
    public List<Vehicle> getVehiclesByDriverId(String driverId) {
     return vehicleRepository.findByDriverIdAndIsDeletedFalse(driverId);
 }
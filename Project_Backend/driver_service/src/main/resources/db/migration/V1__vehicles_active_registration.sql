@@ -0,0 +1,47 @@
+-- Moves vehicles from a unique registration_number to the active_registration_number key.
+--
+-- Run once against the driver database after every instance runs a version with
+-- Vehicle.activeRegistrationNumber (ddl-auto=update adds the column and its key at startup,
+-- but never drops or renames a constraint, and never fills in existing rows). Safe to re-run.
+
+-- 1. Fill in active_registration_number for vehicles created before the column existed.
+UPDATE vehicles
+SET active_registration_number = registration_number
+WHERE is_deleted = 0 AND active_registration_number IS NULL;
+
+-- 2. Drop the old single-column unique key on registration_number. It also counted deleted
+--    vehicles, so a deleted vehicle could never be added again.
+SET @legacy_key = (
+    SELECT index_name FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'vehicles' AND non_unique = 0
+    GROUP BY index_name
+    HAVING COUNT(*) = 1 AND MAX(column_name) = 'registration_number'
+    LIMIT 1);
+SET @ddl = IF(@legacy_key IS NULL, 'DO 0',
+    CONCAT('ALTER TABLE vehicles DROP INDEX `', @legacy_key, '`'));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 3. Earlier builds let Hibernate generate the name of the active_registration_number key.
+--    VehicleService recognises a duplicate by the key name, so rename it to
+--    uk_vehicles_active_registration, or drop it if that key has already been created.
+SET @generated_key = (
+    SELECT index_name FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'vehicles' AND non_unique = 0
+      AND index_name <> 'uk_vehicles_active_registration'
+    GROUP BY index_name
+    HAVING COUNT(*) = 1 AND MAX(column_name) = 'active_registration_number'
+    LIMIT 1);
+SET @named_key = (
+    SELECT COUNT(*) FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'vehicles'
+      AND index_name = 'uk_vehicles_active_registration');
+SET @ddl = CASE
+    WHEN @generated_key IS NULL THEN 'DO 0'
+    WHEN @named_key > 0 THEN CONCAT('ALTER TABLE vehicles DROP INDEX `', @generated_key, '`')
+    ELSE CONCAT('ALTER TABLE vehicles RENAME INDEX `', @generated_key, '` TO uk_vehicles_active_registration')
+END;
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
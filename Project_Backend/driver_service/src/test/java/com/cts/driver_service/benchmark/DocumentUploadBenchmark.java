@@ -0,0 +1,98 @@
+package com.cts.driver_service.benchmark;
+
+import com.cts.driver_service.service.DocumentStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Concurrent multi-MB uploads: the streaming {@link DocumentStore} against reading the whole
+ * body into a byte[] and writing it out (what a MultipartFile.getBytes() based upload does).
+ * Every upload is distinct content, so dedupe never short-circuits the write.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=com.cts.driver_service.benchmark.DocumentUploadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Threads(8)
+@Fork(value = 1, jvmArgs = {"-Xmx256m"})
+public class DocumentUploadBenchmark {
+
+    @Param({"2097152", "8388608"})
+    private int sizeBytes;
+
+    private Path root;
+    private DocumentStore store;
+    private byte[] template;
+
+    @Setup
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("document-bench");
+        store = new DocumentStore(new SimpleMeterRegistry(), root.toString(), Long.MAX_VALUE);
+        template = new byte[sizeBytes];
+        ThreadLocalRandom.current().nextBytes(template);
+        template[0] = '%';
+        template[1] = 'P';
+        template[2] = 'D';
+        template[3] = 'F';
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void streamingStore(Blackhole blackhole) throws IOException {
+        DocumentStore.StoredDocument stored = store.store(uniqueBody(), DocumentStore.Format.PDF);
+        Files.delete(store.resolve(stored.key()));
+        blackhole.consume(stored);
+    }
+
+    @Benchmark
+    public void bufferedStore(Blackhole blackhole) throws IOException, NoSuchAlgorithmException {
+        byte[] bytes = uniqueBody().readAllBytes();
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+        Path target = Files.createTempFile(root, "buffered-", ".pdf");
+        Files.write(target, bytes);
+        Files.delete(target);
+        blackhole.consume(hash);
+    }
+
+    // The shared template followed by a random tail, so every upload hashes to a new key without copying the body.
+    private InputStream uniqueBody() {
+        byte[] tail = new byte[Long.BYTES];
+        ThreadLocalRandom.current().nextBytes(tail);
+        return new SequenceInputStream(
+                new ByteArrayInputStream(template, 0, template.length - tail.length),
+                new ByteArrayInputStream(tail));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DocumentUploadBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
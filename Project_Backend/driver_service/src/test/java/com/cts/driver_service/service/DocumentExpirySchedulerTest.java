@@ -0,0 +1,158 @@
+package com.cts.driver_service.service;
+
+import com.cts.driver_service.entity.Driver;
+import com.cts.driver_service.entity.Vehicle;
+import com.cts.driver_service.repository.DriverRepository;
+import com.cts.driver_service.repository.VehicleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Document Expiry Scheduler Tests")
+class DocumentExpirySchedulerTest {
+
+    private static final LocalDate TODAY = LocalDate.parse("2026-03-01");
+
+    @Mock
+    private DriverRepository driverRepository;
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    @Mock
+    private EligibilityFeed eligibilityFeed;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DocumentExpiryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new DocumentExpiryScheduler(driverRepository, vehicleRepository, eligibilityFeed,
+                new TransactionTemplate(transactionManager), meterRegistry, true, 30, 7);
+    }
+
+    @Test
+    @DisplayName("Should warn ahead of time and deactivate the day after a document expires")
+    void testVehicleExpiry() {
+        // Given
+        Vehicle vehicle = vehicle("vehicle-1", TODAY.plusDays(10));
+        when(vehicleRepository.findActiveWithExpiryBetween(any(), any())).thenReturn(List.of(vehicle));
+        when(driverRepository.findWithDlExpiryBetween(any(), any())).thenReturn(List.of());
+        when(vehicleRepository.deactivateExpired(eq(Set.of("vehicle-1")), eq(TODAY.plusDays(11)), any()))
+                .thenReturn(1);
+
+        // When
+        scheduler.start(TODAY);
+        scheduler.tick(TODAY.plusDays(2));
+        double warnedEarly = warned();
+        scheduler.tick(TODAY.plusDays(3));
+        scheduler.tick(TODAY.plusDays(10));
+        scheduler.tick(TODAY.plusDays(11));
+
+        // Then
+        assertThat(warnedEarly).isZero();
+        assertThat(warned()).isEqualTo(1.0);
+        verify(vehicleRepository).deactivateExpired(eq(Set.of("vehicle-1")), eq(TODAY.plusDays(11)), any());
+        verify(eligibilityFeed).vehiclesChanged(Set.of("vehicle-1"));
+        assertThat(meterRegistry.counter("driver.document.expiry", "outcome", "deactivated").count()).isEqualTo(1.0);
+        assertThat(scheduler.tracked()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop the old deadline when a licence is renewed")
+    void testRenewalSupersedesDeadline() {
+        // Given
+        Driver driver = new Driver();
+        driver.setId("driver-1");
+        driver.setDlExpiryDate(TODAY.plusDays(5));
+        when(vehicleRepository.findActiveWithExpiryBetween(any(), any())).thenReturn(List.of());
+        when(driverRepository.findWithDlExpiryBetween(any(), any())).thenReturn(List.of(driver));
+        scheduler.start(TODAY);
+
+        // When
+        driver.setDlExpiryDate(TODAY.plusYears(5));
+        scheduler.track(driver);
+        scheduler.tick(TODAY.plusDays(6));
+
+        // Then
+        verify(driverRepository, never()).findUserIdsWithDlExpiredBefore(anyCollection(), any());
+        assertThat(warned()).isZero();
+        assertThat(scheduler.tracked()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should publish a driver whose licence expired so the booking cache drops them")
+    void testLicenceExpiryPublishesDriver() {
+        // Given
+        Driver driver = new Driver();
+        driver.setId("driver-1");
+        driver.setDlExpiryDate(TODAY.plusDays(5));
+        when(vehicleRepository.findActiveWithExpiryBetween(any(), any())).thenReturn(List.of());
+        when(driverRepository.findWithDlExpiryBetween(any(), any())).thenReturn(List.of(driver));
+        when(driverRepository.findUserIdsWithDlExpiredBefore(Set.of("driver-1"), TODAY.plusDays(6)))
+                .thenReturn(List.of("user-1"));
+        scheduler.start(TODAY);
+
+        // When
+        scheduler.tick(TODAY.plusDays(6));
+
+        // Then
+        verify(eligibilityFeed).driversChanged(List.of("user-1"));
+        assertThat(meterRegistry.counter("driver.document.expiry", "outcome", "deactivated").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should deactivate and publish documents that expired while the service was stopped")
+    void testStartupCatchUpPublishesChanges() {
+        // Given
+        when(vehicleRepository.findActiveExpiredIds(TODAY)).thenReturn(List.of("vehicle-1", "vehicle-2"));
+        when(vehicleRepository.deactivateExpired(eq(List.of("vehicle-1", "vehicle-2")), eq(TODAY), any())).thenReturn(2);
+        when(driverRepository.findUserIdsWithDlExpiredBetween(TODAY.minusDays(30), TODAY)).thenReturn(List.of("user-7"));
+
+        // When
+        scheduler.start(TODAY);
+
+        // Then
+        verify(eligibilityFeed).vehiclesChanged(List.of("vehicle-1", "vehicle-2"));
+        verify(eligibilityFeed).driversChanged(List.of("user-7"));
+        verify(transactionManager, times(2)).commit(any());
+        assertThat(meterRegistry.counter("driver.document.expiry", "outcome", "deactivated").count()).isEqualTo(2.0);
+    }
+
+    private double warned() {
+        return meterRegistry.counter("driver.document.expiry", "outcome", "warned").count();
+    }
+
+    private static Vehicle vehicle(String id, LocalDate insuranceExpiry) {
+        Vehicle vehicle = new Vehicle();
+        vehicle.setId(id);
+        vehicle.setInsuranceExpiryDate(insuranceExpiry);
+        vehicle.setIsActive(true);
+        vehicle.setIsDeleted(false);
+        return vehicle;
+    }
+}
@@ -0,0 +1,96 @@
+package com.cts.driver_service.service;
+
+import com.cts.driver_service.exception.InvalidDocumentException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Document Store Tests")
+class DocumentStoreTest {
+
+    @TempDir
+    Path root;
+
+    private DocumentStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = new DocumentStore(new SimpleMeterRegistry(), root.toString(), 200_000);
+    }
+
+    @Test
+    @DisplayName("Should store by content hash and keep one copy of identical uploads")
+    void testStore_DeduplicatesIdenticalContent() throws IOException {
+        // Given
+        byte[] pdf = pdf(150_000);
+
+        // When
+        DocumentStore.StoredDocument first = store.store(new ByteArrayInputStream(pdf), DocumentStore.Format.PDF);
+        DocumentStore.StoredDocument second = store.store(new ByteArrayInputStream(pdf), DocumentStore.Format.PDF);
+
+        // Then
+        assertThat(second.key()).isEqualTo(first.key());
+        assertThat(first.key()).startsWith(first.sha256().substring(0, 2) + "/" + first.sha256().substring(2, 4) + "/");
+        assertThat(first.size()).isEqualTo(150_000);
+        assertThat(Files.readAllBytes(store.resolve(first.key()))).isEqualTo(pdf);
+        assertThat(store.open(first.key()).format()).isEqualTo(DocumentStore.Format.PDF);
+        try (Stream<Path> temp = Files.list(root.resolve("tmp"))) {
+            assertThat(temp).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject content that does not match the declared type")
+    void testStore_WrongSignature() {
+        // Given
+        byte[] notAPng = pdf(1_000);
+
+        // When & Then
+        assertThatThrownBy(() -> store.store(new ByteArrayInputStream(notAPng), DocumentStore.Format.PNG))
+                .isInstanceOf(InvalidDocumentException.class)
+                .hasMessageContaining("image/png");
+    }
+
+    @Test
+    @DisplayName("Should reject uploads over the size limit and clean up the temp file")
+    void testStore_TooLarge() throws IOException {
+        // Given
+        byte[] tooLarge = pdf(200_001);
+
+        // When & Then
+        assertThatThrownBy(() -> store.store(new ByteArrayInputStream(tooLarge), DocumentStore.Format.PDF))
+                .isInstanceOf(InvalidDocumentException.class)
+                .hasMessageContaining("limit");
+        try (Stream<Path> temp = Files.list(root.resolve("tmp"))) {
+            assertThat(temp).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not resolve keys outside the store")
+    void testResolve_PathTraversal() {
+        // When & Then
+        assertThat(store.resolve("../../etc/passwd")).isNull();
+    }
+
+    private static byte[] pdf(int size) {
+        byte[] bytes = new byte[size];
+        Arrays.fill(bytes, (byte) 'x');
+        bytes[0] = '%';
+        bytes[1] = 'P';
+        bytes[2] = 'D';
+        bytes[3] = 'F';
+        return bytes;
+    }
+}
@@ -1,21 +1,39 @@
 package com.cts.driver_service.service;
 
+import com.cts.driver_service.client.UserServiceClient;
+import com.cts.driver_service.dto.BulkVerificationRequest;
+import com.cts.driver_service.dto.BulkVerificationResponse;
 import com.cts.driver_service.dto.DriverProfileRequest;
+import com.cts.driver_service.dto.DriverProfileResponse;
 import com.cts.driver_service.dto.DriverResponse;
+import com.cts.driver_service.dto.OffboardRequest;
+import com.cts.driver_service.dto.OffboardResponse;
+import com.cts.driver_service.dto.UserStatusBatchRequest;
+import com.cts.driver_service.dto.UserStatusBatchResponse;
 import com.cts.driver_service.entity.Driver;
+import com.cts.driver_service.entity.UserStatusOutbox;
+import com.cts.driver_service.entity.Vehicle;
 import com.cts.driver_service.exception.DriverNotFoundException;
 import com.cts.driver_service.exception.InvalidDateFormatException;
 import com.cts.driver_service.repository.DriverRepository;
+import com.cts.driver_service.repository.UserStatusOutboxRepository;
+import com.cts.driver_service.repository.VehicleRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -28,6 +46,24 @@ class DriverServiceTest {
     @Mock
     private DriverRepository driverRepository;
 
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    @Mock
+    private UserServiceClient userServiceClient;
+
+    @Mock
+    private UserStatusOutboxRepository userStatusOutboxRepository;
+
+    @Mock
+    private DocumentExpiryScheduler documentExpiryScheduler;
+
+    @Mock
+    private EligibilityFeed eligibilityFeed;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private DriverService driverService;
 
@@ -86,6 +122,45 @@ class DriverServiceTest {
         verify(driverRepository, times(1)).findByUserId("user-123");
     }
 
+    @Test
+    @DisplayName("Should get driver profile with vehicles from one query")
+    void testGetFullProfile_WithVehicles() {
+        // Given
+        Vehicle first = new Vehicle();
+        first.setId("vehicle-1");
+        first.setRegistrationNumber("MH01AB1234");
+        Vehicle second = new Vehicle();
+        second.setId("vehicle-2");
+        second.setRegistrationNumber("MH01AB5678");
+        when(driverRepository.findWithVehiclesByUserId("user-123"))
+                .thenReturn(List.of(new Object[]{driver, first}, new Object[]{driver, second}));
+
+        // When
+        DriverProfileResponse profile = driverService.getFullProfile("user-123");
+
+        // Then
+        assertThat(profile.getDriver().getId()).isEqualTo("driver-123");
+        assertThat(profile.getVehicles()).extracting("id").containsExactly("vehicle-1", "vehicle-2");
+        verify(driverRepository, never()).findByUserId(anyString());
+        verifyNoInteractions(vehicleRepository);
+    }
+
+    @Test
+    @DisplayName("Should return an empty vehicle list for a driver without vehicles")
+    void testGetFullProfile_NoVehicles() {
+        // Given
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{driver, null});
+        when(driverRepository.findWithVehiclesById("driver-123")).thenReturn(rows);
+
+        // When
+        DriverProfileResponse profile = driverService.getFullProfileById("driver-123");
+
+        // Then
+        assertThat(profile.getDriver().getUserId()).isEqualTo("user-123");
+        assertThat(profile.getVehicles()).isEmpty();
+    }
+
     // ==================== METHOD 2: Create/Update Profile ====================
 
     @Test
@@ -124,6 +199,36 @@ class DriverServiceTest {
         verify(driverRepository, times(1)).save(any(Driver.class));
     }
 
+    @Test
+    @DisplayName("Should publish an eligibility change when the licence is renewed")
+    void testUpdateProfile_RenewedLicence_PublishesEligibilityChange() {
+        // Given
+        driver.setDlExpiryDate(LocalDate.now().minusDays(1));
+        when(driverRepository.findByUserId("user-123")).thenReturn(Optional.of(driver));
+        when(driverRepository.save(any(Driver.class))).thenReturn(driver);
+
+        // When
+        driverService.createOrUpdateProfile("user-123", profileRequest);
+
+        // Then
+        assertThat(driver.getDlExpiryDate()).isEqualTo(LocalDate.parse("2030-12-31"));
+        verify(eligibilityFeed).driversChanged(List.of("user-123"));
+    }
+
+    @Test
+    @DisplayName("Should not publish an eligibility change when the licence date is unchanged")
+    void testUpdateProfile_SameLicence_NoEligibilityChange() {
+        // Given
+        when(driverRepository.findByUserId("user-123")).thenReturn(Optional.of(driver));
+        when(driverRepository.save(any(Driver.class))).thenReturn(driver);
+
+        // When
+        driverService.createOrUpdateProfile("user-123", profileRequest);
+
+        // Then
+        verify(eligibilityFeed, never()).driversChanged(anyCollection());
+    }
+
     @Test
     @DisplayName("Should throw exception for expired license")
     void testCreateProfile_ExpiredLicense() {
@@ -137,4 +242,103 @@ class DriverServiceTest {
 
         verify(driverRepository, never()).save(any(Driver.class));
     }
-}
\ No newline at end of file
+
+    // ==================== METHOD 3: Bulk Verification ====================
+
+    @Test
+    @DisplayName("Should approve drivers with one user activation call and report failures")
+    void testAdminVerifyDrivers_ApprovePartialFailure() {
+        // Given
+        Driver other = new Driver();
+        other.setId("driver-456");
+        other.setUserId("user-456");
+        when(driverRepository.findAllById(any())).thenReturn(List.of(driver, other));
+        when(userServiceClient.updateUserStatuses(any(UserStatusBatchRequest.class)))
+                .thenReturn(new UserStatusBatchResponse(List.of("user-123"), List.of("user-456")));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // When
+        BulkVerificationResponse response = driverService.adminVerifyDrivers(new BulkVerificationRequest(
+                List.of("driver-123", "driver-456", "driver-789", "driver-123"), "APPROVE", null));
+
+        // Then
+        assertThat(response.getUpdated()).containsExactly("driver-123");
+        assertThat(response.getFailed())
+                .extracting(BulkVerificationResponse.Failure::getDriverId)
+                .containsExactlyInAnyOrder("driver-456", "driver-789");
+
+        verify(userServiceClient, times(1)).updateUserStatuses(any(UserStatusBatchRequest.class));
+        verify(userServiceClient, never()).updateUserStatus(anyString(), any());
+        verify(driverRepository, times(1)).updateVerificationStatus(
+                eq(List.of("driver-123")), eq(Driver.VerificationStatus.APPROVED), any());
+        verify(eligibilityFeed).driversChanged(List.of("user-123"));
+    }
+
+    @Test
+    @DisplayName("Should not update any driver when user activation fails")
+    void testAdminVerifyDrivers_ActivationFails() {
+        // Given
+        when(driverRepository.findAllById(any())).thenReturn(List.of(driver));
+        when(userServiceClient.updateUserStatuses(any(UserStatusBatchRequest.class)))
+                .thenThrow(new RuntimeException("USER-SERVICE unavailable"));
+
+        // When
+        BulkVerificationResponse response = driverService.adminVerifyDrivers(
+                new BulkVerificationRequest(List.of("driver-123"), "APPROVE", null));
+
+        // Then
+        assertThat(response.getUpdated()).isEmpty();
+        assertThat(response.getFailed()).hasSize(1);
+        assertThat(response.getFailed().get(0).getReason()).contains("USER-SERVICE unavailable");
+
+        verify(driverRepository, never()).updateVerificationStatus(any(), any(), any());
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+    }
+
+    // ==================== METHOD 4: Delete / Offboard ====================
+
+    @Test
+    @DisplayName("Should delete driver with one vehicle update and queue user deactivation")
+    void testDeleteDriverById_QueuesDeactivation() {
+        // Given
+        when(driverRepository.findById("driver-123")).thenReturn(Optional.of(driver));
+        when(vehicleRepository.softDeleteByDriverIds(eq(List.of("driver-123")), any())).thenReturn(2);
+
+        // When
+        driverService.deleteDriverById("driver-123");
+
+        // Then
+        ArgumentCaptor<UserStatusOutbox> queued = ArgumentCaptor.forClass(UserStatusOutbox.class);
+        verify(userStatusOutboxRepository, times(1)).save(queued.capture());
+        assertThat(queued.getValue().getUserId()).isEqualTo("user-123");
+        assertThat(queued.getValue().getStatus()).isEqualTo("SUSPENDED");
+
+        verify(vehicleRepository, never()).save(any());
+        verify(driverRepository, times(1)).delete(driver);
+        verifyNoInteractions(userServiceClient);
+    }
+
+    @Test
+    @DisplayName("Should offboard found drivers in bulk and report missing ones")
+    void testOffboardDrivers() {
+        // Given
+        when(driverRepository.findAllById(any())).thenReturn(List.of(driver));
+        when(vehicleRepository.softDeleteByDriverIds(eq(List.of("driver-123")), any())).thenReturn(3);
+
+        // When
+        OffboardResponse response = driverService.offboardDrivers(
+                new OffboardRequest(List.of("driver-123", "driver-999")));
+
+        // Then
+        assertThat(response.getOffboarded()).containsExactly("driver-123");
+        assertThat(response.getNotFound()).containsExactly("driver-999");
+        assertThat(response.getVehiclesRemoved()).isEqualTo(3);
+
+        verify(userStatusOutboxRepository, times(1)).saveAll(anyList());
+        verify(driverRepository, times(1)).deleteAllInBatch(List.of(driver));
+        verifyNoInteractions(userServiceClient);
+    }
+}
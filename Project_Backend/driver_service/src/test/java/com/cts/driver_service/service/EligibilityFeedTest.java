@@ -0,0 +1,148 @@
+package com.cts.driver_service.service;
+
+import com.cts.driver_service.dto.EligibilityBatch;
+import com.cts.driver_service.entity.Driver;
+import com.cts.driver_service.entity.EligibilityChange;
+import com.cts.driver_service.entity.EventSequence;
+import com.cts.driver_service.entity.Vehicle;
+import com.cts.driver_service.repository.DriverRepository;
+import com.cts.driver_service.repository.EligibilityChangeRepository;
+import com.cts.driver_service.repository.EventSequenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Eligibility Feed Tests")
+class EligibilityFeedTest {
+
+    @Mock
+    private EligibilityChangeRepository changeRepository;
+
+    @Mock
+    private EventSequenceRepository sequenceRepository;
+
+    @Mock
+    private DriverRepository driverRepository;
+
+    private EligibilityFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        feed = new EligibilityFeed(changeRepository, sequenceRepository, driverRepository, 7);
+    }
+
+    @Test
+    @DisplayName("Should number each changed driver once from the advanced sequence")
+    void testDriversChanged() {
+        // Given
+        when(sequenceRepository.current(EligibilityFeed.SEQUENCE)).thenReturn(12L);
+
+        // When
+        feed.driversChanged(List.of("user-1", "user-2", "user-1"));
+
+        // Then
+        verify(sequenceRepository).advance(EligibilityFeed.SEQUENCE, 2);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EligibilityChange>> saved = ArgumentCaptor.forClass(List.class);
+        verify(changeRepository).saveAll(saved.capture());
+        assertThat(saved.getValue())
+                .extracting(EligibilityChange::getUserId, EligibilityChange::getSequence)
+                .containsExactly(tuple("user-1", 11L), tuple("user-2", 12L));
+    }
+
+    @Test
+    @DisplayName("Should not touch the sequence when nothing changed")
+    void testDriversChanged_Empty() {
+        // When
+        feed.driversChanged(List.of());
+
+        // Then
+        verifyNoInteractions(sequenceRepository, changeRepository);
+    }
+
+    @Test
+    @DisplayName("Should return the current state of changed drivers with the feed bounds")
+    void testChanges() {
+        // Given
+        EligibilityChange change = EligibilityChange.of("user-1");
+        change.setSequence(5L);
+        when(changeRepository.findBySequenceGreaterThanOrderBySequenceAsc(eq(4L), any(Pageable.class)))
+                .thenReturn(List.of(change));
+        when(changeRepository.findLastSequence()).thenReturn(9L);
+        when(changeRepository.findOldestSequence()).thenReturn(3L);
+        List<Object[]> vehicles = List.<Object[]>of(new Object[]{"user-1", "vehicle-1", Vehicle.VehicleType.SEDAN});
+        when(driverRepository.findVehiclesForEligibility(anyCollection(), eq(Driver.VerificationStatus.APPROVED),
+                eq(Vehicle.VerificationStatus.APPROVED), any())).thenReturn(vehicles);
+
+        // When
+        EligibilityBatch batch = feed.changes(4, 500);
+
+        // Then
+        assertThat(batch.getOffset()).isEqualTo(5L);
+        assertThat(batch.getLastOffset()).isEqualTo(9L);
+        assertThat(batch.getOldestOffset()).isEqualTo(3L);
+        assertThat(batch.getDrivers()).hasSize(1);
+        assertThat(batch.getDrivers().get(0).getVehicles().get(0).getVehicleType()).isEqualTo("SEDAN");
+    }
+
+    @Test
+    @DisplayName("Should keep the requested offset when there are no newer changes")
+    void testChanges_UpToDate() {
+        // Given
+        when(changeRepository.findBySequenceGreaterThanOrderBySequenceAsc(eq(9L), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(changeRepository.findLastSequence()).thenReturn(9L);
+        when(changeRepository.findOldestSequence()).thenReturn(3L);
+
+        // When
+        EligibilityBatch batch = feed.changes(9, 500);
+
+        // Then
+        assertThat(batch.getOffset()).isEqualTo(9L);
+        assertThat(batch.getDrivers()).isEmpty();
+        verifyNoInteractions(driverRepository);
+    }
+
+    @Test
+    @DisplayName("Should prune expired changes but keep the newest one")
+    void testPrune() {
+        // Given
+        when(changeRepository.findLastSequence()).thenReturn(40L);
+        when(changeRepository.findLastSequenceCreatedBefore(any(OffsetDateTime.class))).thenReturn(40L);
+
+        // When
+        feed.prune();
+
+        // Then
+        verify(changeRepository).deleteBySequenceBelow(40L);
+    }
+
+    @Test
+    @DisplayName("Should seed the sequence from existing changes")
+    void testInit() {
+        // Given
+        when(sequenceRepository.existsById(EligibilityFeed.SEQUENCE)).thenReturn(false);
+        when(changeRepository.findLastSequence()).thenReturn(17L);
+
+        // When
+        feed.init();
+
+        // Then
+        ArgumentCaptor<EventSequence> sequence = ArgumentCaptor.forClass(EventSequence.class);
+        verify(sequenceRepository).saveAndFlush(sequence.capture());
+        assertThat(sequence.getValue().getLastAssigned()).isEqualTo(17L);
+    }
+}
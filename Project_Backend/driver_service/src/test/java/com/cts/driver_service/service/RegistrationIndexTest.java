@@ -0,0 +1,100 @@
+package com.cts.driver_service.service;
+
+import com.cts.driver_service.repository.VehicleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Registration Index Tests")
+class RegistrationIndexTest {
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private RegistrationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RegistrationIndex(vehicleRepository, jdbcTemplate, new SimpleMeterRegistry(), 10_000, 0.01);
+    }
+
+    @Test
+    @DisplayName("Should normalize case, spaces and hyphens")
+    void testNormalize() {
+        assertThat(RegistrationIndex.normalize(" mh-01 ab 1234 ")).isEqualTo("MH01AB1234");
+        assertThat(RegistrationIndex.normalize("KA05XY9876")).isEqualTo("KA05XY9876");
+    }
+
+    @Test
+    @DisplayName("Should query the database only for numbers the filter may contain")
+    void testRegisteredSkipsDatabaseForUnseenNumbers() {
+        // Given
+        index.warm();
+        index.add("MH01AB1234");
+        when(vehicleRepository.findActiveRegistrationNumbers(List.of("MH01AB1234"))).thenReturn(List.of("MH01AB1234"));
+
+        // When
+        Set<String> registered = index.registered(List.of("MH01AB1234", "KA05XY9876"));
+
+        // Then
+        assertThat(index.isWarm()).isTrue();
+        assertThat(registered).containsExactly("MH01AB1234");
+        verify(vehicleRepository).findActiveRegistrationNumbers(List.of("MH01AB1234"));
+    }
+
+    @Test
+    @DisplayName("Should answer from memory when no number may be registered")
+    void testRegisteredWithoutQuery() {
+        // Given
+        index.warm();
+
+        // When
+        Set<String> registered = index.registered(List.of("KA05XY9876"));
+
+        // Then
+        assertThat(registered).isEmpty();
+        verify(vehicleRepository, never()).findActiveRegistrationNumbers(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Bloom filter should have no false negatives and few false positives")
+    void testBloomFilter() {
+        // Given
+        RegistrationIndex.BloomFilter filter = new RegistrationIndex.BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("MH01AB" + i);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("KA05XY" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("MH01AB" + i)).isTrue();
+        }
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
@@ -0,0 +1,83 @@
+package com.cts.driver_service.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Thumbnail Service Tests")
+class ThumbnailServiceTest {
+
+    @TempDir
+    Path root;
+
+    private DocumentStore documentStore;
+    private ThumbnailService thumbnailService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        documentStore = new DocumentStore(new SimpleMeterRegistry(), root.resolve("documents").toString(), 10_000_000);
+        thumbnailService = new ThumbnailService(documentStore, new SimpleMeterRegistry(),
+                root.resolve("thumbnails").toString(), 1, 4, 0.8f, 2000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        thumbnailService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should generate every rendition size from one upload, keeping the aspect ratio")
+    void testSubmit_GeneratesRenditions() throws Exception {
+        // Given
+        DocumentStore.StoredDocument stored = documentStore.store(png(2400, 1200), DocumentStore.Format.PNG);
+
+        // When
+        thumbnailService.submit(stored).get(10, TimeUnit.SECONDS);
+
+        // Then
+        BufferedImage thumbnail = ImageIO.read(thumbnailService.path(stored.sha256(), ThumbnailService.Size.THUMBNAIL).toFile());
+        BufferedImage preview = ImageIO.read(thumbnailService.path(stored.sha256(), ThumbnailService.Size.PREVIEW).toFile());
+        assertThat(thumbnail.getWidth()).isEqualTo(160);
+        assertThat(thumbnail.getHeight()).isEqualTo(80);
+        assertThat(preview.getWidth()).isEqualTo(800);
+        assertThat(preview.getHeight()).isEqualTo(400);
+        assertThat(thumbnailService.rendition(stored, ThumbnailService.Size.PREVIEW)).exists();
+    }
+
+    @Test
+    @DisplayName("Should not produce renditions for PDFs")
+    void testRendition_Pdf() throws IOException {
+        // Given
+        DocumentStore.StoredDocument stored = documentStore.store(
+                new ByteArrayInputStream("%PDF-1.7 test".getBytes()), DocumentStore.Format.PDF);
+
+        // When
+        Path rendition = thumbnailService.rendition(stored, ThumbnailService.Size.THUMBNAIL);
+
+        // Then
+        assertThat(rendition).isNull();
+        assertThat(thumbnailService.submit(stored)).isCompletedExceptionally();
+        assertThat(Files.exists(thumbnailService.path(stored.sha256(), ThumbnailService.Size.THUMBNAIL))).isFalse();
+    }
+
+    private static ByteArrayInputStream png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+}
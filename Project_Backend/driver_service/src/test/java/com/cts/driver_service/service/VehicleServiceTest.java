@@ -0,0 +1,109 @@
+package com.cts.driver_service.service;
+
+import com.cts.driver_service.dto.VehicleRequest;
+import com.cts.driver_service.entity.Driver;
+import com.cts.driver_service.entity.Vehicle;
+import com.cts.driver_service.exception.DuplicateRegistrationException;
+import com.cts.driver_service.repository.DriverRepository;
+import com.cts.driver_service.repository.VehicleRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Vehicle Service Tests")
+class VehicleServiceTest {
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    @Mock
+    private DriverRepository driverRepository;
+
+    @Mock
+    private DocumentExpiryScheduler documentExpiryScheduler;
+
+    @Mock
+    private RegistrationIndex registrationIndex;
+
+    @Mock
+    private EligibilityFeed eligibilityFeed;
+
+    @InjectMocks
+    private VehicleService vehicleService;
+
+    private VehicleRequest request;
+
+    @BeforeEach
+    void setUp() {
+        Driver driver = new Driver();
+        driver.setId("driver-123");
+        driver.setUserId("user-123");
+        when(driverRepository.findByUserId("user-123")).thenReturn(Optional.of(driver));
+        when(registrationIndex.registered(List.of("MH01AB1234"))).thenReturn(Set.of());
+
+        request = new VehicleRequest();
+        request.setRegistrationNumber("MH01 AB 1234");
+        request.setVehicleType("SEDAN");
+    }
+
+    @Test
+    @DisplayName("Should add a vehicle under its normalized registration number")
+    void testAddVehicle_Success() {
+        // Given
+        when(vehicleRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Vehicle saved = vehicleService.addVehicle("user-123", request);
+
+        // Then
+        assertThat(saved.getRegistrationNumber()).isEqualTo("MH01AB1234");
+        verify(registrationIndex).add("MH01AB1234");
+        verify(documentExpiryScheduler).track(saved);
+    }
+
+    @Test
+    @DisplayName("Should report a clash on the active registration key as a duplicate")
+    void testAddVehicle_ActiveRegistrationKeyViolated() {
+        // Given
+        when(vehicleRepository.saveAllAndFlush(anyList()))
+                .thenThrow(violation("vehicles." + Vehicle.ACTIVE_REGISTRATION_KEY));
+
+        // When & Then
+        assertThatThrownBy(() -> vehicleService.addVehicle("user-123", request))
+                .isInstanceOf(DuplicateRegistrationException.class)
+                .hasMessageContaining("MH01AB1234");
+        verify(registrationIndex, never()).add(any());
+    }
+
+    @Test
+    @DisplayName("Should rethrow violations of any other constraint")
+    void testAddVehicle_OtherConstraintViolated() {
+        // Given
+        DataIntegrityViolationException notNull = violation(null);
+        when(vehicleRepository.saveAllAndFlush(anyList())).thenThrow(notNull);
+
+        // When & Then
+        assertThatThrownBy(() -> vehicleService.addVehicle("user-123", request)).isSameAs(notNull);
+    }
+
+    private static DataIntegrityViolationException violation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", new SQLException(), constraintName));
+    }
+}
@@ -1,14 +1,28 @@
 package com.cts.user_service.controller;
 
+import com.cts.user_service.dto.UserImportJobResponse;
+import com.cts.user_service.dto.UserSearchRow;
+import com.cts.user_service.dto.UserStatsResponse;
 import com.cts.user_service.entity.User;
+import com.cts.user_service.exception.InvalidRequestException;
+import com.cts.user_service.service.UserCounts;
+import com.cts.user_service.service.UserImportJobs;
+import com.cts.user_service.service.UserImportService;
+import com.cts.user_service.service.UserSearchIndex;
 import com.cts.user_service.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -18,6 +32,9 @@ import java.util.Map;
 public class AdminUserController {
 
     private final UserService userService;
+    private final UserCounts userCounts;
+    private final UserSearchIndex userSearchIndex;
+    private final UserImportJobs userImportJobs;
 
     @GetMapping
     public ResponseEntity<?> getAllUsers(
@@ -53,6 +70,46 @@ public class AdminUserController {
         }
     }
 
+    @GetMapping("/stats")
+    public ResponseEntity<UserStatsResponse> getUserStats() {
+        return ResponseEntity.ok(userCounts.stats());
+    }
+
+    // Typeahead: prefix match on email, phone (digits) or first/last/full name.
+    @GetMapping("/search")
+    public ResponseEntity<List<UserSearchRow>> searchUsers(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(userSearchIndex.search(query, limit));
+    }
+
+    // CSV with a header row (text/csv) or one JSON object per line (application/x-ndjson).
+    // Returns 202 with a job id as soon as the file is stored; poll GET /import/{jobId} for the result.
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<UserImportJobResponse> importUsers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        UserImportService.Format format;
+        if (mediaType.isCompatibleWith(MediaType.parseMediaType("text/csv"))) {
+            format = UserImportService.Format.CSV;
+        } else if (mediaType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+            format = UserImportService.Format.NDJSON;
+        } else {
+            throw new InvalidRequestException("Unsupported import format: " + contentType);
+        }
+        log.info("Admin: Importing users from {}", mediaType);
+        UserImportJobResponse job = userImportJobs.submit(body, format);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/admin/users/import/" + job.getJobId()))
+                .body(job);
+    }
+
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<UserImportJobResponse> getImportJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(userImportJobs.get(jobId));
+    }
+
     @GetMapping("/{userId}")
     public ResponseEntity<User> getUserById(@PathVariable String userId) {
         log.info("Admin: Fetching user by ID: {}", userId);
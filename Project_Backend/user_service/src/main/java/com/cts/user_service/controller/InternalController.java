@@ -1,12 +1,20 @@
 package com.cts.user_service.controller;
 
 import com.cts.user_service.dto.LoginRequest;
+import com.cts.user_service.config.UserSummaryMessageConverter;
 import com.cts.user_service.dto.SignupRequest;
+import com.cts.user_service.dto.UserEventBatch;
+import com.cts.user_service.dto.UserStatusBatchRequest;
+import com.cts.user_service.dto.UserStatusBatchResponse;
+import com.cts.user_service.dto.UserSummary;
 import com.cts.user_service.dto.UserValidationResponse;
 import com.cts.user_service.entity.User;
+import com.cts.user_service.exception.InvalidRequestException;
+import com.cts.user_service.service.UserEventFeed;
 import com.cts.user_service.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,7 +25,10 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class InternalController {
 
+    private static final int MAX_BATCH_STATUS_UPDATES = 1000;
+
     private final UserService userService;
+    private final UserEventFeed userEventFeed;
 
     @PostMapping("/validate-credentials")
     public ResponseEntity<UserValidationResponse> validateCredentials(@RequestBody LoginRequest req) {
@@ -37,6 +48,19 @@ public class InternalController {
         return new ResponseEntity<>(user, HttpStatus.OK);
     }
 
+    @GetMapping("/users/{userId}/validation")
+    public ResponseEntity<UserValidationResponse> validateUser(@PathVariable String userId) {
+        return new ResponseEntity<>(userService.validateUser(userId), HttpStatus.OK);
+    }
+
+    // Name and phone only; served as JSON or, with Accept: application/x-user-summary, as compact binary.
+    @GetMapping(value = "/users/{userId}/summary",
+            produces = {MediaType.APPLICATION_JSON_VALUE, UserSummaryMessageConverter.MEDIA_TYPE_VALUE})
+    public ResponseEntity<UserSummary> getUserSummary(@PathVariable String userId) {
+        UserSummary summary = userService.getUserSummary(userId);
+        return new ResponseEntity<>(summary, HttpStatus.OK);
+    }
+
     @PutMapping("/users/{userId}/status")
     public ResponseEntity<Map<String, String>> updateUserStatus(
             @PathVariable String userId,
@@ -58,4 +82,34 @@ public class InternalController {
             HttpStatus.OK
         );
     }
+
+    // Same status for many users in one transaction (bulk driver approval); unknown ids come back in not_found.
+    @PutMapping("/users/status")
+    public ResponseEntity<UserStatusBatchResponse> updateUserStatuses(@RequestBody UserStatusBatchRequest request) {
+        if (request.getUserIds() == null || request.getUserIds().isEmpty()) {
+            throw new InvalidRequestException("user_ids is required");
+        }
+        if (request.getUserIds().size() > MAX_BATCH_STATUS_UPDATES) {
+            throw new InvalidRequestException("At most " + MAX_BATCH_STATUS_UPDATES + " users per request");
+        }
+        if (request.getStatus() == null || request.getStatus().trim().isEmpty()) {
+            throw new InvalidRequestException("Status field is required");
+        }
+
+        User.Status status;
+        try {
+            status = User.Status.valueOf(request.getStatus().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid status: " + request.getStatus());
+        }
+        return new ResponseEntity<>(userService.updateUserStatuses(request.getUserIds(), status), HttpStatus.OK);
+    }
+
+    // Change events after the given offset, for cache invalidation in other services.
+    @GetMapping("/events/users")
+    public ResponseEntity<UserEventBatch> getUserEvents(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "500") int limit) {
+        return new ResponseEntity<>(userEventFeed.read(after, limit), HttpStatus.OK);
+    }
 }
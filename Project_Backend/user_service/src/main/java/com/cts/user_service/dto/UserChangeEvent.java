@@ -0,0 +1,26 @@
+package com.cts.user_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the user event feed. {@code offset} is the entry's position in the feed;
+ * {@code eventId} is the outbox row id, so a redelivered event can be recognised.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserChangeEvent {
+    private long offset;
+    private long eventId;
+    private String userId;
+    private String type;
+    private String firstName;
+    private String lastName;
+    private String phoneNumber;
+    private String status;
+    private LocalDateTime occurredAt;
+}
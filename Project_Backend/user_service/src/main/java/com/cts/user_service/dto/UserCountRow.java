@@ -0,0 +1,16 @@
+package com.cts.user_service.dto;
+
+import com.cts.user_service.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** One group of {@code UserRepository.countByRoleAndStatus}. */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserCountRow {
+    private User.Role role;
+    private User.Status status;
+    private Long count;
+}
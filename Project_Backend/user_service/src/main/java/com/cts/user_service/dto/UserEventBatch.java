@@ -0,0 +1,20 @@
+package com.cts.user_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A page of the user event feed. {@code oldestOffset} is the oldest event still kept; a subscriber
+ * whose offset is below {@code oldestOffset - 1} missed pruned events and must drop its caches.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserEventBatch {
+    private long lastOffset;
+    private long oldestOffset;
+    private List<UserChangeEvent> events;
+}
@@ -0,0 +1,25 @@
+package com.cts.user_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/** State of a bulk import job; the counts and errors are filled in once it has finished. */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserImportJobResponse {
+    private String jobId;
+    private String status;
+    private int totalRows;
+    private int imported;
+    private int failed;
+    private List<UserImportResponse.RowError> errors;
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,27 @@
+package com.cts.user_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserImportResponse {
+    private int totalRows;
+    private int imported;
+    private int failed;
+    // Capped at user-import.max-reported-errors; failed still counts every rejected row.
+    private List<RowError> errors;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class RowError {
+        private int line;
+        private String email;
+        private String message;
+    }
+}
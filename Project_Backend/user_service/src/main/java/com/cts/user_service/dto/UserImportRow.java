@@ -0,0 +1,18 @@
+package com.cts.user_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** One user in a bulk import file (a CSV row or an NDJSON line). */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserImportRow {
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phoneNumber;
+    private String password;
+    private String role;
+}
@@ -0,0 +1,25 @@
+package com.cts.user_service.dto;
+
+import com.cts.user_service.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** What admin user search keeps in memory per user and returns as a hit. */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserSearchRow {
+    private String id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phoneNumber;
+    private User.Role role;
+    private User.Status status;
+
+    public static UserSearchRow from(User user) {
+        return new UserSearchRow(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail(),
+                user.getPhoneNumber(), user.getRole(), user.getStatus());
+    }
+}
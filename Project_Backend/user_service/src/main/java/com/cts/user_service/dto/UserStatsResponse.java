@@ -0,0 +1,16 @@
+package com.cts.user_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserStatsResponse {
+    private long total;
+    private Map<String, Long> byRole;
+    private Map<String, Long> byStatus;
+}
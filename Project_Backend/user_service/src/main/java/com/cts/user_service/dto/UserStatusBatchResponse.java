@@ -0,0 +1,15 @@
+package com.cts.user_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserStatusBatchResponse {
+    private List<String> updated;
+    private List<String> notFound;
+}
@@ -0,0 +1,19 @@
+package com.cts.user_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The part of a user other services show next to a booking or driver: name and phone.
+ * Selected directly by {@code UserRepository.findSummaryById}, never mapped from a loaded entity.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserSummary {
+    private String id;
+    private String firstName;
+    private String lastName;
+    private String phoneNumber;
+}
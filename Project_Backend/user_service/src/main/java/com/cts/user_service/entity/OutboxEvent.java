@@ -0,0 +1,67 @@
+package com.cts.user_service.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * A user change written in the same transaction as the change itself (transactional outbox).
+ * The table is the user event feed shared by every instance: {@code UserEventFeed} numbers rows
+ * with a commit-ordered sequence, serves them by sequence and prunes them after retention-days.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "user_outbox", indexes = {
+        @Index(name = "idx_user_outbox_sequence", columnList = "sequence"),
+        @Index(name = "idx_user_outbox_created", columnList = "createdAt")
+})
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Position in the feed; assigned by UserEventFeed.publish
+    @Column(nullable = false)
+    private Long sequence;
+
+    @Column(nullable = false)
+    private String userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Type type;
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        DELETED
+    }
+
+    // Snapshot of the fields other services display, taken after the change.
+    private String firstName;
+    private String lastName;
+    private String phoneNumber;
+
+    @Enumerated(EnumType.STRING)
+    private User.Status status;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    public static OutboxEvent of(Type type, User user) {
+        OutboxEvent event = new OutboxEvent();
+        event.setUserId(user.getId());
+        event.setType(type);
+        event.setFirstName(user.getFirstName());
+        event.setLastName(user.getLastName());
+        event.setPhoneNumber(user.getPhoneNumber());
+        event.setStatus(user.getStatus());
+        return event;
+    }
+}
@@ -0,0 +1,56 @@
+package com.cts.user_service.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * A bulk user import submitted through POST /api/v1/admin/users/import. The file is processed on
+ * the instance that received it; the row is what every instance reads to report progress.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "user_import_jobs", indexes = {
+        @Index(name = "idx_user_import_jobs_finished", columnList = "finishedAt")
+})
+public class UserImportJob {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    @Column(nullable = false)
+    private String format;
+
+    private int totalRows;
+    private int imported;
+    private int failed;
+
+    // Row errors as JSON, capped at user-import.max-reported-errors
+    @Lob
+    private String errors;
+
+    // Why the job failed as a whole, e.g. a CSV file without a header row
+    @Column(length = 1000)
+    private String message;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,7 @@
+package com.cts.user_service.exception;
+
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,32 @@
+package com.cts.user_service.repository;
+
+import com.cts.user_service.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    List<OutboxEvent> findBySequenceGreaterThanOrderBySequenceAsc(long after, Pageable pageable);
+
+    @Query("SELECT MAX(e.sequence) FROM OutboxEvent e")
+    Long findLastSequence();
+
+    @Query("SELECT MIN(e.sequence) FROM OutboxEvent e")
+    Long findOldestSequence();
+
+    @Query("SELECT MAX(e.sequence) FROM OutboxEvent e WHERE e.createdAt < :before")
+    Long findLastSequenceCreatedBefore(@Param("before") LocalDateTime before);
+
+    // Deletes by sequence so the feed always stays a contiguous run from MIN to MAX.
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.sequence < :belowSequence")
+    int deleteBySequenceBelow(@Param("belowSequence") long belowSequence);
+}
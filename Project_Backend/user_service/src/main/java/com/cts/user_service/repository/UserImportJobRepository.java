@@ -0,0 +1,18 @@
+package com.cts.user_service.repository;
+
+import com.cts.user_service.entity.UserImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface UserImportJobRepository extends JpaRepository<UserImportJob, String> {
+
+    @Modifying
+    @Query("DELETE FROM UserImportJob j WHERE j.finishedAt < :before")
+    int deleteFinishedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,13 +1,24 @@
 package com.cts.user_service.repository;
 
+import com.cts.user_service.dto.UserCountRow;
+import com.cts.user_service.dto.UserSearchRow;
+import com.cts.user_service.dto.UserSummary;
 import com.cts.user_service.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
@@ -21,7 +32,37 @@ public interface UserRepository extends JpaRepository<User, String> {
     Page<User> findByRole(User.Role role, Pageable pageable);
     Page<User> findByStatus(User.Status status, Pageable pageable);
     
+    // Slices skip the COUNT(*) a Page needs; the total comes from UserCounts instead.
+    Slice<User> findSliceBy(Pageable pageable);
+    Slice<User> findSliceByRole(User.Role role, Pageable pageable);
+    Slice<User> findSliceByStatus(User.Status status, Pageable pageable);
+
     boolean existsByEmail(String email);
     boolean existsByPhoneNumber(String phoneNumber);
-    
+
+    // Selects only the four summary columns; no entity is loaded or put in the persistence context.
+    @Query("SELECT new com.cts.user_service.dto.UserSummary(u.id, u.firstName, u.lastName, u.phoneNumber) " +
+           "FROM User u WHERE u.id = :userId")
+    Optional<UserSummary> findSummaryById(@Param("userId") String userId);
+
+    @Query("SELECT new com.cts.user_service.dto.UserCountRow(u.role, u.status, COUNT(u)) " +
+           "FROM User u GROUP BY u.role, u.status")
+    List<UserCountRow> countByRoleAndStatus();
+
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT u.phoneNumber FROM User u WHERE u.phoneNumber IN :phoneNumbers")
+    List<String> findExistingPhoneNumbers(@Param("phoneNumbers") Collection<String> phoneNumbers);
+
+    // Streamed in fetch-size chunks (needs useCursorFetch=true on MySQL); caller must close the stream.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.cts.user_service.dto.UserSearchRow(u.id, u.firstName, u.lastName, u.email, " +
+           "u.phoneNumber, u.role, u.status) FROM User u")
+    Stream<UserSearchRow> streamSearchRows();
+
+    @Query("SELECT new com.cts.user_service.dto.UserSearchRow(u.id, u.firstName, u.lastName, u.email, " +
+           "u.phoneNumber, u.role, u.status) FROM User u WHERE u.id IN :ids")
+    List<UserSearchRow> findSearchRowsByIdIn(@Param("ids") Collection<String> ids);
+
 }
\ No newline at end of file
@@ -0,0 +1,149 @@
+package com.cts.user_service.service;
+
+import com.cts.user_service.dto.UserCountRow;
+import com.cts.user_service.dto.UserStatsResponse;
+import com.cts.user_service.entity.User;
+import com.cts.user_service.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory user counts per (role, status), so admin listings and stats do not run COUNT(*)
+ * over the users table on every request.
+ *
+ * Kept current by {@link UserService} after each committed register or status change, and
+ * reconciled against a single GROUP BY query at startup and every
+ * user-counts.reconcile-interval-ms to correct drift (rollbacks, other instances, manual SQL).
+ */
+@Slf4j
+@Component
+public class UserCounts {
+
+    private static final User.Role[] ROLES = User.Role.values();
+    private static final User.Status[] STATUSES = User.Status.values();
+
+    private final UserRepository userRepository;
+    // index = role.ordinal() * STATUSES.length + status.ordinal()
+    private final AtomicLongArray counts = new AtomicLongArray(ROLES.length * STATUSES.length);
+    private final AtomicLong lastDrift = new AtomicLong();
+
+    public UserCounts(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        for (User.Role role : ROLES) {
+            Gauge.builder("user.count", this, userCounts -> userCounts.countByRole(role))
+                    .tag("role", role.name())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("user.count.reconcile.drift", lastDrift, AtomicLong::get)
+                .description("Total absolute difference corrected by the last reconciliation")
+                .register(meterRegistry);
+    }
+
+    /** Counts a new user once the current transaction (if any) commits. */
+    public void recordCreated(User.Role role, User.Status status) {
+        afterCommit(() -> counts.incrementAndGet(index(role, status)));
+    }
+
+    /** Moves a user between statuses once the current transaction (if any) commits. */
+    public void recordStatusChange(User.Role role, User.Status from, User.Status to) {
+        if (from == to) {
+            return;
+        }
+        afterCommit(() -> {
+            counts.decrementAndGet(index(role, from));
+            counts.incrementAndGet(index(role, to));
+        });
+    }
+
+    public long total() {
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    public long countByRole(User.Role role) {
+        long total = 0;
+        for (User.Status status : STATUSES) {
+            total += counts.get(index(role, status));
+        }
+        return total;
+    }
+
+    public long countByStatus(User.Status status) {
+        long total = 0;
+        for (User.Role role : ROLES) {
+            total += counts.get(index(role, status));
+        }
+        return total;
+    }
+
+    public UserStatsResponse stats() {
+        Map<String, Long> byRole = new LinkedHashMap<>();
+        for (User.Role role : ROLES) {
+            byRole.put(role.name(), countByRole(role));
+        }
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (User.Status status : STATUSES) {
+            byStatus.put(status.name(), countByStatus(status));
+        }
+        return new UserStatsResponse(total(), byRole, byStatus);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${user-counts.reconcile-interval-ms:300000}",
+               initialDelayString = "${user-counts.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        Map<User.Role, long[]> actual = new EnumMap<>(User.Role.class);
+        for (UserCountRow row : userRepository.countByRoleAndStatus()) {
+            if (row.getRole() != null && row.getStatus() != null) {
+                actual.computeIfAbsent(row.getRole(), role -> new long[STATUSES.length])
+                        [row.getStatus().ordinal()] = row.getCount();
+            }
+        }
+
+        long drift = 0;
+        for (User.Role role : ROLES) {
+            long[] byStatus = actual.getOrDefault(role, new long[STATUSES.length]);
+            for (User.Status status : STATUSES) {
+                long previous = counts.getAndSet(index(role, status), byStatus[status.ordinal()]);
+                drift += Math.abs(previous - byStatus[status.ordinal()]);
+            }
+        }
+        lastDrift.set(drift);
+        if (drift > 0) {
+            log.info("User counts reconciled, corrected drift of {}", drift);
+        }
+    }
+
+    private static int index(User.Role role, User.Status status) {
+        return role.ordinal() * STATUSES.length + status.ordinal();
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.cts.user_service.service;
+
+import com.cts.user_service.dto.UserChangeEvent;
+import com.cts.user_service.dto.UserEventBatch;
+import com.cts.user_service.entity.EventSequence;
+import com.cts.user_service.entity.OutboxEvent;
+import com.cts.user_service.repository.EventSequenceRepository;
+import com.cts.user_service.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * The user change feed read by other services for cache invalidation, served from the
+ * user_outbox table so every user_service instance returns the same events.
+ *
+ * {@link #publish} runs inside the writer's transaction and numbers the rows by advancing the
+ * event_sequences counter row. The counter's row lock is held until that transaction commits,
+ * so sequence numbers become visible in commit order: a reader that has seen n never finds
+ * a smaller number appear later. Rows older than user-events.retention-days are pruned; the
+ * response carries the oldest sequence so a reader that fell behind can tell it missed events.
+ */
+@Slf4j
+@Component
+public class UserEventFeed {
+
+    static final String SEQUENCE = "user_events";
+    private static final int MAX_LIMIT = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final EventSequenceRepository sequenceRepository;
+    private final int retentionDays;
+    private final Counter published;
+
+    public UserEventFeed(OutboxEventRepository outboxEventRepository,
+                         EventSequenceRepository sequenceRepository,
+                         MeterRegistry meterRegistry,
+                         @Value("${user-events.retention-days:7}") int retentionDays) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sequenceRepository = sequenceRepository;
+        this.retentionDays = retentionDays;
+        this.published = Counter.builder("user.events.published")
+                .description("User change events written to the feed")
+                .register(meterRegistry);
+    }
+
+    // Another instance may create the row at the same time; either insert is fine.
+    @PostConstruct
+    public void init() {
+        if (sequenceRepository.existsById(SEQUENCE)) {
+            return;
+        }
+        try {
+            Long last = outboxEventRepository.findLastSequence();
+            sequenceRepository.saveAndFlush(new EventSequence(SEQUENCE, last != null ? last : 0));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Event sequence {} created by another instance", SEQUENCE);
+        }
+    }
+
+    /** Numbers the events and saves them as part of the caller's transaction. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        sequenceRepository.advance(SEQUENCE, events.size());
+        long next = sequenceRepository.current(SEQUENCE) - events.size();
+        for (OutboxEvent event : events) {
+            event.setSequence(++next);
+        }
+        outboxEventRepository.saveAll(events);
+        published.increment(events.size());
+    }
+
+    @Transactional(readOnly = true)
+    public UserEventBatch read(long after, int limit) {
+        List<OutboxEvent> rows = outboxEventRepository.findBySequenceGreaterThanOrderBySequenceAsc(
+                after, PageRequest.of(0, Math.max(1, Math.min(limit, MAX_LIMIT))));
+        Long last = outboxEventRepository.findLastSequence();
+        Long oldest = outboxEventRepository.findOldestSequence();
+        return new UserEventBatch(
+                last != null ? last : 0,
+                oldest != null ? oldest : 0,
+                rows.stream().map(UserEventFeed::toEvent).toList());
+    }
+
+    public long lastOffset() {
+        Long last = outboxEventRepository.findLastSequence();
+        return last != null ? last : 0;
+    }
+
+    // Keeps the newest row so readers can always tell how far the feed has got.
+    @Scheduled(fixedDelayString = "${user-events.prune-interval-ms:3600000}")
+    @Transactional
+    public void prune() {
+        Long last = outboxEventRepository.findLastSequence();
+        Long expired = outboxEventRepository.findLastSequenceCreatedBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (last == null || expired == null) {
+            return;
+        }
+        int pruned = outboxEventRepository.deleteBySequenceBelow(Math.min(expired + 1, last));
+        if (pruned > 0) {
+            log.info("Pruned {} user events older than {} days", pruned, retentionDays);
+        }
+    }
+
+    private static UserChangeEvent toEvent(OutboxEvent row) {
+        return new UserChangeEvent(
+                row.getSequence(),
+                row.getId(),
+                row.getUserId(),
+                row.getType().name(),
+                row.getFirstName(),
+                row.getLastName(),
+                row.getPhoneNumber(),
+                row.getStatus() != null ? row.getStatus().name() : null,
+                row.getCreatedAt());
+    }
+}
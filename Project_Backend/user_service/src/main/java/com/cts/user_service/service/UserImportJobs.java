@@ -0,0 +1,210 @@
+package com.cts.user_service.service;
+
+import com.cts.user_service.dto.UserImportJobResponse;
+import com.cts.user_service.dto.UserImportResponse;
+import com.cts.user_service.entity.UserImportJob;
+import com.cts.user_service.exception.ImportJobNotFoundException;
+import com.cts.user_service.exception.InvalidRequestException;
+import com.cts.user_service.exception.ServiceBusyException;
+import com.cts.user_service.repository.UserImportJobRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs bulk user imports in the background so the upload request returns as soon as the file
+ * is on disk. The request thread only copies the body to user-import.spool-dir; parsing,
+ * hashing and inserting run on a small pool (job-threads, at most max-queued-jobs waiting)
+ * through {@link UserImportService}. Job state lives in user_import_jobs, so the status
+ * endpoint answers on every instance. Finished jobs are deleted after job-retention-days.
+ */
+@Slf4j
+@Component
+public class UserImportJobs {
+
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+    private static final TypeReference<List<UserImportResponse.RowError>> ROW_ERRORS = new TypeReference<>() {
+    };
+
+    private final UserImportService userImportService;
+    private final UserImportJobRepository jobRepository;
+    private final ObjectMapper objectMapper;
+    private final Path spoolDir;
+    private final int retentionDays;
+    private final ThreadPoolExecutor executor;
+    private final Set<String> unfinished = ConcurrentHashMap.newKeySet();
+
+    public UserImportJobs(UserImportService userImportService,
+                          UserImportJobRepository jobRepository,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${user-import.spool-dir:}") String spoolDir,
+                          @Value("${user-import.job-threads:1}") int jobThreads,
+                          @Value("${user-import.max-queued-jobs:4}") int maxQueuedJobs,
+                          @Value("${user-import.job-retention-days:7}") int retentionDays) {
+        this.userImportService = userImportService;
+        this.jobRepository = jobRepository;
+        this.objectMapper = objectMapper;
+        this.spoolDir = Path.of(StringUtils.hasText(spoolDir) ? spoolDir : System.getProperty("java.io.tmpdir"));
+        this.retentionDays = retentionDays;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                jobThreads, jobThreads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueuedJobs),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "user-import-job-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, "user.import.jobs", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    /** Copies the file to the spool directory and queues it; the returned job is QUEUED. */
+    public UserImportJobResponse submit(InputStream body, UserImportService.Format format) throws IOException {
+        Files.createDirectories(spoolDir);
+        Path file = Files.createTempFile(spoolDir, "user-import", ".tmp");
+        long bytes;
+        try {
+            bytes = Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        UserImportJob job = new UserImportJob();
+        job.setId(UUID.randomUUID().toString());
+        job.setStatus(UserImportJob.Status.QUEUED);
+        job.setFormat(format.name());
+        UserImportJobResponse queued = toResponse(jobRepository.save(job));
+
+        String jobId = job.getId();
+        unfinished.add(jobId);
+        try {
+            executor.execute(() -> run(jobId, file, format));
+        } catch (RejectedExecutionException e) {
+            unfinished.remove(jobId);
+            jobRepository.deleteById(jobId);
+            Files.deleteIfExists(file);
+            throw new ServiceBusyException("Too many imports in progress. Please try again later.");
+        }
+        log.info("User import job {} queued ({}, {} bytes)", jobId, format, bytes);
+        return queued;
+    }
+
+    public UserImportJobResponse get(String jobId) {
+        return jobRepository.findById(jobId)
+                .map(this::toResponse)
+                .orElseThrow(() -> new ImportJobNotFoundException("Import job not found: " + jobId));
+    }
+
+    void run(String jobId, Path file, UserImportService.Format format) {
+        UserImportJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            deleteQuietly(file);
+            return;
+        }
+        job.setStatus(UserImportJob.Status.RUNNING);
+        job.setStartedAt(LocalDateTime.now());
+        job = jobRepository.save(job);
+
+        try (InputStream in = Files.newInputStream(file)) {
+            UserImportResponse result = userImportService.importUsers(in, format);
+            job.setStatus(UserImportJob.Status.COMPLETED);
+            job.setTotalRows(result.getTotalRows());
+            job.setImported(result.getImported());
+            job.setFailed(result.getFailed());
+            job.setErrors(objectMapper.writeValueAsString(result.getErrors()));
+        } catch (InvalidRequestException e) {
+            job.setStatus(UserImportJob.Status.FAILED);
+            job.setMessage(limit(e.getMessage()));
+        } catch (Exception e) {
+            log.error("User import job {} failed: {}", jobId, e.getMessage(), e);
+            job.setStatus(UserImportJob.Status.FAILED);
+            job.setMessage(limit("Import failed: " + e.getMessage()));
+        } finally {
+            job.setFinishedAt(LocalDateTime.now());
+            jobRepository.save(job);
+            unfinished.remove(jobId);
+            deleteQuietly(file);
+        }
+        log.info("User import job {} {}", jobId, job.getStatus());
+    }
+
+    @Scheduled(fixedDelayString = "${user-import.job-purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeFinished() {
+        int purged = jobRepository.deleteFinishedBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (purged > 0) {
+            log.info("Deleted {} import jobs finished more than {} days ago", purged, retentionDays);
+        }
+    }
+
+    // Spooled files do not survive the instance, so jobs still waiting here can never finish.
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        for (String jobId : unfinished) {
+            jobRepository.findById(jobId).ifPresent(job -> {
+                job.setStatus(UserImportJob.Status.FAILED);
+                job.setMessage("Interrupted by a service restart; submit the file again");
+                job.setFinishedAt(LocalDateTime.now());
+                jobRepository.save(job);
+            });
+        }
+    }
+
+    private UserImportJobResponse toResponse(UserImportJob job) {
+        List<UserImportResponse.RowError> errors = null;
+        if (job.getErrors() != null) {
+            try {
+                errors = objectMapper.readValue(job.getErrors(), ROW_ERRORS);
+            } catch (JsonProcessingException e) {
+                log.warn("Could not read errors of import job {}: {}", job.getId(), e.getMessage());
+            }
+        }
+        return new UserImportJobResponse(job.getId(), job.getStatus().name(), job.getTotalRows(), job.getImported(),
+                job.getFailed(), errors, job.getMessage(), job.getCreatedAt(), job.getStartedAt(), job.getFinishedAt());
+    }
+
+    private static String limit(String message) {
+        return message != null && message.length() > MAX_MESSAGE_LENGTH ? message.substring(0, MAX_MESSAGE_LENGTH) : message;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete import file {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,445 @@
+package com.cts.user_service.service;
+
+import com.cts.user_service.dto.SignupRequest;
+import com.cts.user_service.dto.UserImportResponse;
+import com.cts.user_service.dto.UserImportRow;
+import com.cts.user_service.entity.OutboxEvent;
+import com.cts.user_service.entity.User;
+import com.cts.user_service.exception.InvalidRequestException;
+import com.cts.user_service.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Streaming bulk user import (CSV with a header row, or NDJSON).
+ *
+ * Rows are read lazily and processed in chunks of user-import.chunk-size: validated with the same
+ * rules as registration, checked for duplicates within the file and against the database with
+ * one IN query per chunk, hashed in parallel on a bounded pool separate from the login hashing
+ * pool, and written with a single JDBC batch insert per chunk. A chunk whose batch hits a unique
+ * key (a concurrent registration) is retried row by row so only the conflicting rows fail.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    public enum Format { CSV, NDJSON }
+
+    private static final String INSERT_SQL =
+            "INSERT INTO users (id, first_name, last_name, email, phone_number, password, role, status, " +
+            "is_email_verified, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final UserService userService;
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final UserCounts userCounts;
+    private final UserSearchIndex userSearchIndex;
+    private final UserEventFeed userEventFeed;
+    private final ThreadPoolExecutor hashingPool;
+    private final int chunkSize;
+    private final int maxRows;
+    private final int maxReportedErrors;
+
+    private final Counter importedRows;
+    private final Counter failedRows;
+
+    public UserImportService(UserService userService,
+                             UserRepository userRepository,
+                             PasswordEncoder passwordEncoder,
+                             JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper,
+                             UserCounts userCounts,
+                             UserSearchIndex userSearchIndex,
+                             UserEventFeed userEventFeed,
+                             MeterRegistry meterRegistry,
+                             @Value("${user-import.hash-threads:0}") int hashThreads,
+                             @Value("${user-import.chunk-size:500}") int chunkSize,
+                             @Value("${user-import.max-rows:100000}") int maxRows,
+                             @Value("${user-import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.userService = userService;
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.userCounts = userCounts;
+        this.userSearchIndex = userSearchIndex;
+        this.userEventFeed = userEventFeed;
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+        this.maxReportedErrors = maxReportedErrors;
+
+        // Half the CPUs by default, so an import leaves room for logins on the other pool.
+        int poolSize = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.hashingPool = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(chunkSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "user-import-hasher-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        new ExecutorServiceMetrics(hashingPool, "user.import.hashing", Tags.empty()).bindTo(meterRegistry);
+
+        this.importedRows = Counter.builder("user.import.rows")
+                .tag("outcome", "imported")
+                .register(meterRegistry);
+        this.failedRows = Counter.builder("user.import.rows")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+    }
+
+    public UserImportResponse importUsers(InputStream body, Format format) throws IOException {
+        Result result = new Result(maxReportedErrors);
+        ImportState state = new ImportState();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+
+        int lineNumber = 0;
+        Map<String, Integer> columns = null;
+        if (format == Format.CSV) {
+            String header = reader.readLine();
+            lineNumber++;
+            if (header == null) {
+                throw new InvalidRequestException("CSV import needs a header row");
+            }
+            columns = csvColumns(header);
+        }
+
+        List<PendingRow> chunk = new ArrayList<>(chunkSize);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (result.total >= maxRows) {
+                result.error(lineNumber, null, "Row limit of " + maxRows + " reached; remaining rows were not read");
+                break;
+            }
+            result.total++;
+            try {
+                UserImportRow row = format == Format.CSV ? csvRow(line, columns) : ndjsonRow(line);
+                chunk.add(new PendingRow(lineNumber, row));
+            } catch (IllegalArgumentException e) {
+                result.fail(lineNumber, null, e.getMessage());
+            }
+            if (chunk.size() == chunkSize) {
+                processChunk(chunk, state, result);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            processChunk(chunk, state, result);
+        }
+
+        importedRows.increment(result.imported);
+        failedRows.increment(result.failed);
+        log.info("User import finished: {} rows, {} imported, {} failed", result.total, result.imported, result.failed);
+        return new UserImportResponse(result.total, result.imported, result.failed, result.errors);
+    }
+
+    private void processChunk(List<PendingRow> chunk, ImportState state, Result result) {
+        List<PendingRow> valid = new ArrayList<>(chunk.size());
+        for (PendingRow pending : chunk) {
+            String error = validate(pending, state);
+            if (error != null) {
+                result.fail(pending.line, pending.row.getEmail(), error);
+            } else {
+                valid.add(pending);
+            }
+        }
+        valid = withoutExisting(valid, result);
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        List<CompletableFuture<String>> hashes = new ArrayList<>(valid.size());
+        for (PendingRow pending : valid) {
+            String password = pending.row.getPassword();
+            hashes.add(CompletableFuture.supplyAsync(() -> passwordEncoder.encode(password), hashingPool));
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<User> users = new ArrayList<>(valid.size());
+        for (int i = 0; i < valid.size(); i++) {
+            users.add(toUser(valid.get(i), hashes.get(i).join(), now));
+        }
+
+        List<User> inserted = insert(users, valid, result);
+        for (User user : inserted) {
+            userCounts.recordCreated(user.getRole(), user.getStatus());
+            userSearchIndex.upsert(user);
+        }
+        result.imported += inserted.size();
+    }
+
+    // Registration rules plus uniqueness within the file; null when the row is acceptable.
+    private String validate(PendingRow pending, ImportState state) {
+        UserImportRow row = pending.row;
+        try {
+            userService.validateSignupRequest(
+                    new SignupRequest(row.getFirstName(), row.getLastName(), row.getEmail(), row.getPassword(), row.getRole()));
+            pending.role = userService.parseRole(row.getRole());
+        } catch (InvalidRequestException e) {
+            return e.getMessage();
+        }
+        row.setEmail(row.getEmail().trim());
+        if (row.getPhoneNumber() != null) {
+            row.setPhoneNumber(row.getPhoneNumber().isBlank() ? null : row.getPhoneNumber().trim());
+        }
+        if (!state.emails.add(row.getEmail())) {
+            return "Duplicate email in import file";
+        }
+        if (row.getPhoneNumber() != null && !state.phoneNumbers.add(row.getPhoneNumber())) {
+            return "Duplicate phone number in import file";
+        }
+        return null;
+    }
+
+    private List<PendingRow> withoutExisting(List<PendingRow> rows, Result result) {
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        Set<String> emails = new HashSet<>();
+        Set<String> phoneNumbers = new HashSet<>();
+        for (PendingRow pending : rows) {
+            emails.add(pending.row.getEmail());
+            if (pending.row.getPhoneNumber() != null) {
+                phoneNumbers.add(pending.row.getPhoneNumber());
+            }
+        }
+        Set<String> existingEmails = new HashSet<>(userRepository.findExistingEmails(emails));
+        Set<String> existingPhones = phoneNumbers.isEmpty()
+                ? Set.of()
+                : new HashSet<>(userRepository.findExistingPhoneNumbers(phoneNumbers));
+
+        List<PendingRow> remaining = new ArrayList<>(rows.size());
+        for (PendingRow pending : rows) {
+            if (existingEmails.contains(pending.row.getEmail())) {
+                result.fail(pending.line, pending.row.getEmail(), "User already exists with email: " + pending.row.getEmail());
+            } else if (pending.row.getPhoneNumber() != null && existingPhones.contains(pending.row.getPhoneNumber())) {
+                result.fail(pending.line, pending.row.getEmail(), "Phone number already in use");
+            } else {
+                remaining.add(pending);
+            }
+        }
+        return remaining;
+    }
+
+    private List<User> insert(List<User> users, List<PendingRow> rows, Result result) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, users.stream().map(UserImportService::insertArgs).toList());
+                userEventFeed.publish(users.stream().map(user -> OutboxEvent.of(OutboxEvent.Type.CREATED, user)).toList());
+            });
+            return users;
+        } catch (DataIntegrityViolationException e) {
+            log.info("Batch insert of {} users hit a unique key, retrying row by row", users.size());
+        }
+
+        List<User> inserted = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.update(INSERT_SQL, insertArgs(user));
+                    userEventFeed.publish(List.of(OutboxEvent.of(OutboxEvent.Type.CREATED, user)));
+                });
+                inserted.add(user);
+            } catch (DataIntegrityViolationException e) {
+                result.fail(rows.get(i).line, user.getEmail(), "User already exists with this email or phone number");
+            }
+        }
+        return inserted;
+    }
+
+    private static User toUser(PendingRow pending, String passwordHash, LocalDateTime now) {
+        UserImportRow row = pending.row;
+        User user = new User();
+        user.setId(UUID.randomUUID().toString());
+        user.setFirstName(row.getFirstName().trim());
+        user.setLastName(row.getLastName() != null ? row.getLastName().trim() : null);
+        user.setEmail(row.getEmail());
+        user.setPhoneNumber(row.getPhoneNumber());
+        user.setPassword(passwordHash);
+        user.setRole(pending.role);
+        // Same rule as registerUser: riders are active immediately, everyone else awaits verification.
+        user.setStatus(pending.role == User.Role.RIDER ? User.Status.ACTIVE : User.Status.PENDING_VERIFICATION);
+        user.setEmailVerified(false);
+        user.setCreatedAt(now);
+        user.setUpdatedAt(now);
+        return user;
+    }
+
+    private static Object[] insertArgs(User user) {
+        Timestamp now = Timestamp.valueOf(user.getCreatedAt());
+        return new Object[]{
+                user.getId(), user.getFirstName(), user.getLastName(), user.getEmail(), user.getPhoneNumber(),
+                user.getPassword(), user.getRole().name(), user.getStatus().name(), user.isEmailVerified(), now, now
+        };
+    }
+
+    private UserImportRow ndjsonRow(String line) {
+        try {
+            UserImportRow row = objectMapper.readValue(line, UserImportRow.class);
+            if (row == null) {
+                throw new IllegalArgumentException("Expected a JSON object");
+            }
+            return row;
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    // Header names are matched ignoring case and underscores: first_name, firstName and FIRSTNAME all work.
+    private static Map<String, Integer> csvColumns(String header) {
+        List<String> names = splitCsv(header);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).replace("_", "").trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("email") || !columns.containsKey("password") || !columns.containsKey("firstname")) {
+            throw new InvalidRequestException("CSV header must include first_name, email and password");
+        }
+        return columns;
+    }
+
+    private static UserImportRow csvRow(String line, Map<String, Integer> columns) {
+        List<String> values = splitCsv(line);
+        UserImportRow row = new UserImportRow();
+        row.setFirstName(column(values, columns, "firstname"));
+        row.setLastName(column(values, columns, "lastname"));
+        row.setEmail(column(values, columns, "email"));
+        String phone = column(values, columns, "phonenumber");
+        row.setPhoneNumber(phone != null ? phone : column(values, columns, "phone"));
+        row.setPassword(column(values, columns, "password"));
+        row.setRole(column(values, columns, "role"));
+        return row;
+    }
+
+    private static String column(List<String> values, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    /** Splits one RFC 4180 line: comma separated, optional double quotes, "" inside quotes is a quote. */
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingPool.shutdownNow();
+    }
+
+    private static final class PendingRow {
+        private final int line;
+        private final UserImportRow row;
+        private User.Role role;
+
+        private PendingRow(int line, UserImportRow row) {
+            this.line = line;
+            this.row = row;
+        }
+    }
+
+    // Emails and phone numbers seen so far in this file.
+    private static final class ImportState {
+        private final Set<String> emails = new HashSet<>();
+        private final Set<String> phoneNumbers = new HashSet<>();
+    }
+
+    private static final class Result {
+        private final int maxErrors;
+        private final List<UserImportResponse.RowError> errors = new ArrayList<>();
+        private int total;
+        private int imported;
+        private int failed;
+
+        private Result(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        void fail(int line, String email, String message) {
+            failed++;
+            error(line, email, message);
+        }
+
+        void error(int line, String email, String message) {
+            if (errors.size() < maxErrors) {
+                errors.add(new UserImportResponse.RowError(line, email, message));
+            }
+        }
+    }
+}
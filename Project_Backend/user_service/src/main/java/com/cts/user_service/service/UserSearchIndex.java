@@ -0,0 +1,293 @@
+package com.cts.user_service.service;
+
+import com.cts.user_service.dto.UserChangeEvent;
+import com.cts.user_service.dto.UserEventBatch;
+import com.cts.user_service.dto.UserSearchRow;
+import com.cts.user_service.entity.User;
+import com.cts.user_service.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * In-memory prefix index for admin user search over email, phone and names.
+ *
+ * Every user contributes a few normalized terms (lower case, accents stripped; phones as digits,
+ * with and without the country code). Terms are stored as "term\0userId" in a sorted skip list, so
+ * a prefix query is a range scan of at most a few hundred entries, independent of the user count.
+ *
+ * Built once at startup by streaming the users table on a background thread. Writes made on this
+ * instance are applied once their transaction commits; writes made on any instance (including
+ * this one) arrive through the shared {@link UserEventFeed}, which is polled every
+ * user-search.sync-interval-ms and the changed rows re-read. Users written while the build is
+ * running keep their newer entry rather than the row read by the build. If the feed was pruned
+ * past the last event applied here, the index is rebuilt on a background thread as well, keeping
+ * the scheduler free; searches are served from the old entries until it finishes.
+ */
+@Slf4j
+@Component
+public class UserSearchIndex {
+
+    private static final char SEPARATOR = '\0';
+    private static final int MIN_QUERY_LENGTH = 2;
+    private static final int MAX_LIMIT = 100;
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private static final int SYNC_BATCH_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final UserEventFeed userEventFeed;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final NavigableSet<String> terms = new ConcurrentSkipListSet<>();
+    private final Map<String, Entry> users = new ConcurrentHashMap<>();
+    private final Set<String> touchedDuringBuild = ConcurrentHashMap.newKeySet();
+    private final Object[] locks = new Object[64];
+    private volatile boolean building;
+    private volatile boolean built;
+    private volatile long offset;
+
+    public UserSearchIndex(UserRepository userRepository,
+                           UserEventFeed userEventFeed,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.userEventFeed = userEventFeed;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+
+        Gauge.builder("user.search.index.users", users, Map::size)
+                .register(meterRegistry);
+        Gauge.builder("user.search.index.terms", terms, Set::size)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildInBackground() {
+        // Set here as well so the next sync() does not start a second build before this one runs.
+        building = true;
+        Thread builder = new Thread(this::build, "user-search-index");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    // Events from the feed position taken before the scan are re-read by sync(), so nothing committed
+    // during the scan is lost.
+    void build() {
+        building = true;
+        long start = System.nanoTime();
+        try {
+            long feedOffset = userEventFeed.lastOffset();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<UserSearchRow> rows = userRepository.streamSearchRows()) {
+                    rows.forEach(row -> {
+                        if (!touchedDuringBuild.contains(row.getId())) {
+                            put(row);
+                        }
+                    });
+                }
+            });
+            offset = feedOffset;
+            built = true;
+            log.info("User search index built: {} users, {} terms in {} ms",
+                    users.size(), terms.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("Could not build user search index: {}", e.getMessage(), e);
+        } finally {
+            building = false;
+            touchedDuringBuild.clear();
+        }
+    }
+
+    /** Adds the user or replaces its previous terms once the current transaction (if any) commits. */
+    public void upsert(User user) {
+        UserSearchRow row = UserSearchRow.from(user);
+        afterCommit(() -> {
+            if (building) {
+                touchedDuringBuild.add(row.getId());
+            }
+            put(row);
+        });
+    }
+
+    /** Re-reads the users changed since the last sync, on whichever instance the change was made. */
+    @Scheduled(fixedDelayString = "${user-search.sync-interval-ms:2000}")
+    public void sync() {
+        if (!built || building) {
+            return;
+        }
+        try {
+            UserEventBatch batch = userEventFeed.read(offset, SYNC_BATCH_SIZE);
+            if (offset > batch.getLastOffset() || offset < batch.getOldestOffset() - 1) {
+                log.warn("User events after {} are no longer in the feed (oldest {}, last {}); rebuilding search index",
+                        offset, batch.getOldestOffset(), batch.getLastOffset());
+                buildInBackground();
+                return;
+            }
+            if (batch.getEvents().isEmpty()) {
+                return;
+            }
+            Set<String> changed = new LinkedHashSet<>();
+            for (UserChangeEvent event : batch.getEvents()) {
+                changed.add(event.getUserId());
+            }
+            readOnlyTransaction.executeWithoutResult(status ->
+                    userRepository.findSearchRowsByIdIn(changed).forEach(this::put));
+            offset = batch.getEvents().get(batch.getEvents().size() - 1).getOffset();
+        } catch (RuntimeException e) {
+            log.warn("Could not sync user search index after offset {}: {}", offset, e.getMessage());
+        }
+    }
+
+    /**
+     * Users with any term starting with the query, in term order, at most {@code limit}.
+     * Queries shorter than two characters return nothing.
+     */
+    public List<UserSearchRow> search(String query, int limit) {
+        int max = Math.max(1, Math.min(limit, MAX_LIMIT));
+        Set<String> ids = new LinkedHashSet<>();
+
+        String text = normalize(query);
+        if (text != null && text.length() >= MIN_QUERY_LENGTH) {
+            collect(text, ids, max);
+        }
+        String digits = digits(query);
+        if (digits != null && digits.length() >= MIN_QUERY_LENGTH && !digits.equals(text)
+                && query.chars().noneMatch(Character::isLetter)) {
+            collect(digits, ids, max);
+        }
+
+        List<UserSearchRow> results = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            Entry entry = users.get(id);
+            if (entry != null) {
+                results.add(entry.row());
+            }
+        }
+        return results;
+    }
+
+    int size() {
+        return users.size();
+    }
+
+    private void collect(String prefix, Set<String> ids, int max) {
+        for (String term : terms.subSet(prefix, true, prefix + Character.MAX_VALUE, false)) {
+            if (ids.size() >= max) {
+                return;
+            }
+            ids.add(term.substring(term.lastIndexOf(SEPARATOR) + 1));
+        }
+    }
+
+    // Locked per user (striped) so two concurrent writes cannot interleave their term updates.
+    private void put(UserSearchRow row) {
+        synchronized (lockFor(row.getId())) {
+            Entry previous = users.get(row.getId());
+            List<String> newTerms = termsOf(row);
+            if (previous != null) {
+                for (String term : previous.terms()) {
+                    if (!newTerms.contains(term)) {
+                        terms.remove(term);
+                    }
+                }
+            }
+            terms.addAll(newTerms);
+            users.put(row.getId(), new Entry(row, newTerms));
+        }
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    private Object lockFor(String userId) {
+        return locks[(userId.hashCode() & 0x7fffffff) % locks.length];
+    }
+
+    private static List<String> termsOf(UserSearchRow row) {
+        Set<String> keys = new LinkedHashSet<>();
+        addTerm(keys, normalize(row.getEmail()));
+        addTerm(keys, normalize(row.getFirstName()));
+        addTerm(keys, normalize(row.getLastName()));
+        if (row.getLastName() != null) {
+            addTerm(keys, normalize(row.getFirstName() + " " + row.getLastName()));
+        }
+        String phone = digits(row.getPhoneNumber());
+        addTerm(keys, phone);
+        if (phone != null && phone.length() > 10) {
+            addTerm(keys, phone.substring(phone.length() - 10));
+        }
+
+        List<String> result = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            result.add(key + SEPARATOR + row.getId());
+        }
+        return result;
+    }
+
+    private static void addTerm(Set<String> keys, String term) {
+        if (term != null && !term.isEmpty()) {
+            keys.add(term);
+        }
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String stripped = MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        return SPACES.matcher(stripped.toLowerCase(Locale.ROOT).trim()).replaceAll(" ");
+    }
+
+    static String digits(String value) {
+        if (value == null) {
+            return null;
+        }
+        StringBuilder digits = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.isEmpty() ? null : digits.toString();
+    }
+
+    private record Entry(UserSearchRow row, List<String> terms) {
+    }
+}
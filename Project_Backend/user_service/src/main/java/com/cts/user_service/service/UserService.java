@@ -2,30 +2,42 @@ package com.cts.user_service.service;
 
 import com.cts.user_service.dto.LoginRequest;
 import com.cts.user_service.dto.SignupRequest;
+import com.cts.user_service.dto.UserStatusBatchResponse;
+import com.cts.user_service.dto.UserSummary;
 import com.cts.user_service.dto.UserValidationResponse;
+import com.cts.user_service.entity.OutboxEvent;
 import com.cts.user_service.entity.User;
 import com.cts.user_service.exception.*;
 import com.cts.user_service.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final UserEventFeed userEventFeed;
+    private final UserCounts userCounts;
+    private final UserSearchIndex userSearchIndex;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    // Not @Transactional: the BCrypt hash must not hold a pooled connection; only the insert runs in a transaction.
     public String registerUser(SignupRequest request) {
         validateSignupRequest(request);
 
@@ -39,7 +51,7 @@ public class UserService {
         user.setFirstName(request.getFirstName());
         user.setLastName(request.getLastName());
         user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHasher.encode(request.getPassword()));
         user.setRole(parseRole(request.getRole()));
         if(request.getRole().equals("RIDER"))
         {
@@ -52,7 +64,13 @@ public class UserService {
 
         user.setEmailVerified(false);
 
-        User savedUser = userRepository.save(user);
+        User savedUser = transactionTemplate.execute(status -> {
+            User saved = userRepository.save(user);
+            userEventFeed.publish(List.of(OutboxEvent.of(OutboxEvent.Type.CREATED, saved)));
+            return saved;
+        });
+        userCounts.recordCreated(savedUser.getRole(), savedUser.getStatus());
+        userSearchIndex.upsert(savedUser);
         return "User registered successfully with ID: " + savedUser.getId();
     }
 
@@ -65,7 +83,7 @@ public class UserService {
 
         User user = userOptional.get();
 
-        if (!passwordEncoder.matches(req.getPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(req.getPassword(), user.getPassword())) {
             throw new InvalidCredentialsException("Invalid email or password");
         }
 
@@ -80,11 +98,32 @@ public class UserService {
         return new UserValidationResponse(user.getId(), user.getRole().name());
     }
 
+    // Same checks as validateCredentials, minus the password; used when a session is refreshed.
+    public UserValidationResponse validateUser(String userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId));
+
+        if (user.getStatus() == User.Status.SUSPENDED) {
+            throw new AccountSuspendedException("Your account has been suspended. Please contact support.");
+        }
+
+        if (user.getStatus() == User.Status.DELETED) {
+            throw new UserNotFoundException("Account does not exist");
+        }
+
+        return new UserValidationResponse(user.getId(), user.getRole().name());
+    }
+
     public User getUserById(String userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId));
     }
 
+    public UserSummary getUserSummary(String userId) {
+        return userRepository.findSummaryById(userId)
+                .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId));
+    }
+
     @Transactional
     public User updateUser(String userId, User updateRequest) {
         User existingUser = getUserById(userId);
@@ -126,42 +165,82 @@ public class UserService {
             existingUser.setState(updateRequest.getState().trim());
         }
 
-        return userRepository.save(existingUser);
+        User savedUser = userRepository.save(existingUser);
+        userEventFeed.publish(List.of(OutboxEvent.of(OutboxEvent.Type.UPDATED, savedUser)));
+        userSearchIndex.upsert(savedUser);
+        return savedUser;
     }
 
     @Transactional
     public void updateUserStatus(String userId, User.Status newStatus) {
         User user = getUserById(userId);
+        User.Status previousStatus = user.getStatus();
         user.setStatus(newStatus);
         userRepository.save(user);
+        userCounts.recordStatusChange(user.getRole(), previousStatus, newStatus);
+        userSearchIndex.upsert(user);
+        userEventFeed.publish(List.of(OutboxEvent.of(OutboxEvent.Type.STATUS_CHANGED, user)));
     }
 
+    // One SELECT ... IN and one batched UPDATE for the whole set; ids that do not exist are reported, not thrown.
+    @Transactional
+    public UserStatusBatchResponse updateUserStatuses(List<String> userIds, User.Status newStatus) {
+        Set<String> remaining = new LinkedHashSet<>(userIds);
+        List<User> users = userRepository.findAllById(remaining);
+        List<OutboxEvent> events = new ArrayList<>(users.size());
+        List<String> updated = new ArrayList<>(users.size());
+        for (User user : users) {
+            remaining.remove(user.getId());
+            User.Status previousStatus = user.getStatus();
+            user.setStatus(newStatus);
+            userCounts.recordStatusChange(user.getRole(), previousStatus, newStatus);
+            userSearchIndex.upsert(user);
+            events.add(OutboxEvent.of(OutboxEvent.Type.STATUS_CHANGED, user));
+            updated.add(user.getId());
+        }
+        userRepository.saveAll(users);
+        userEventFeed.publish(events);
+        return new UserStatusBatchResponse(updated, new ArrayList<>(remaining));
+    }
+
+    // Pages are read as slices (no COUNT query); the total comes from UserCounts.
     @Transactional(readOnly = true)
     public Page<User> getAllUsersPaginated(int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return userRepository.findAll(pageable);
+        return withTotal(userRepository.findSliceBy(pageable), userCounts.total());
     }
 
     @Transactional(readOnly = true)
     public Page<User> getUsersByRolePaginated(User.Role role, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return userRepository.findByRole(role, pageable);
+        return withTotal(userRepository.findSliceByRole(role, pageable), userCounts.countByRole(role));
     }
 
     @Transactional(readOnly = true)
     public Page<User> getUsersByStatusPaginated(User.Status status, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return userRepository.findByStatus(status, pageable);
+        return withTotal(userRepository.findSliceByStatus(status, pageable), userCounts.countByStatus(status));
     }
 
     @Transactional
     public void deleteUser(String userId) {
         User user = getUserById(userId);
+        User.Status previousStatus = user.getStatus();
         user.setStatus(User.Status.DELETED);
         userRepository.save(user);
+        userCounts.recordStatusChange(user.getRole(), previousStatus, User.Status.DELETED);
+        userSearchIndex.upsert(user);
+        userEventFeed.publish(List.of(OutboxEvent.of(OutboxEvent.Type.DELETED, user)));
+    }
+
+    // The cached total can lag a few writes behind; never report fewer users than this page proves exist.
+    private static Page<User> withTotal(Slice<User> slice, long cachedTotal) {
+        Pageable pageable = slice.getPageable();
+        long seen = pageable.getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+        return new PageImpl<>(slice.getContent(), pageable, Math.max(cachedTotal, seen));
     }
 
-    private void validateSignupRequest(SignupRequest request) {
+    void validateSignupRequest(SignupRequest request) {
         if (request.getEmail() == null || request.getEmail().trim().isEmpty()) {
             throw new InvalidRequestException("Email is required");
         }
@@ -188,7 +267,7 @@ public class UserService {
         }
     }
 
-    private User.Role parseRole(String roleStr) {
+    User.Role parseRole(String roleStr) {
         if (roleStr == null || roleStr.trim().isEmpty()) {
             return User.Role.RIDER;
         }
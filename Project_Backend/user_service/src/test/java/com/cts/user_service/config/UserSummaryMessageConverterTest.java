@@ -0,0 +1,58 @@
+package com.cts.user_service.config;
+
+import com.cts.user_service.dto.UserSummary;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserSummaryMessageConverterTest {
+
+    private final UserSummaryMessageConverter converter = new UserSummaryMessageConverter();
+
+    @Test
+    void writeThenRead_RoundTrip() throws Exception {
+        // Arrange
+        UserSummary summary = new UserSummary("user-123", "Aarav", "Sharma", "+919876543210");
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(summary, UserSummaryMessageConverter.MEDIA_TYPE, output);
+        UserSummary read = converter.read(UserSummary.class, new MockHttpInputMessage(output.getBodyAsBytes()));
+
+        // Assert
+        assertEquals(summary, read);
+        assertEquals(UserSummaryMessageConverter.MEDIA_TYPE, output.getHeaders().getContentType());
+        assertEquals(output.getBodyAsBytes().length, output.getHeaders().getContentLength());
+    }
+
+    @Test
+    void writeThenRead_NullFieldsPreserved() throws Exception {
+        // Arrange
+        UserSummary summary = new UserSummary("user-123", "Aarav", null, null);
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(summary, UserSummaryMessageConverter.MEDIA_TYPE, output);
+        UserSummary read = converter.read(UserSummary.class, new MockHttpInputMessage(output.getBodyAsBytes()));
+
+        // Assert
+        assertEquals(summary, read);
+        assertNull(read.getLastName());
+        assertNull(read.getPhoneNumber());
+    }
+
+    @Test
+    void write_SmallerThanJson() throws Exception {
+        // Arrange
+        UserSummary summary = new UserSummary("3f2b8c1e-6d4a-4b7e-9a1c-2e5f7d8b9c0a", "Aarav", "Sharma", "+919876543210");
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(summary, UserSummaryMessageConverter.MEDIA_TYPE, output);
+
+        // Assert: ~70 bytes vs ~130 for the snake_case JSON of the same fields
+        assertTrue(output.getBodyAsBytes().length < 80);
+    }
+}
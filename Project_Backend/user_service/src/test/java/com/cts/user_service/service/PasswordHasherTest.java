@@ -0,0 +1,109 @@
+package com.cts.user_service.service;
+
+import com.cts.user_service.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        if (passwordHasher != null) {
+            passwordHasher.shutdown();
+        }
+    }
+
+    @Test
+    void encodeAndMatches_RoundTrip() {
+        // Arrange
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(4), meterRegistry, 2, 4, 5000);
+
+        // Act
+        String hash = passwordHasher.encode("secret123");
+
+        // Assert
+        assertTrue(passwordHasher.matches("secret123", hash));
+        assertFalse(passwordHasher.matches("wrong", hash));
+    }
+
+    @Test
+    void matches_QueueFull_RejectsImmediately() throws Exception {
+        // Arrange: one worker and a one-slot queue, both occupied by blocked hashes
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        passwordHasher = new PasswordHasher(blockingEncoder(started, release), meterRegistry, 1, 1, 5000);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            callers.submit(() -> passwordHasher.matches("a", "hash"));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            callers.submit(() -> passwordHasher.matches("b", "hash"));
+            awaitQueued(1);
+
+            // Act & Assert
+            long before = System.nanoTime();
+            assertThrows(ServiceBusyException.class, () -> passwordHasher.matches("c", "hash"));
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - before) < 1000);
+            assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void matches_Timeout_ThrowsServiceBusy() {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        passwordHasher = new PasswordHasher(blockingEncoder(new CountDownLatch(1), release), meterRegistry, 1, 1, 50);
+
+        // Act & Assert
+        try {
+            assertThrows(ServiceBusyException.class, () -> passwordHasher.matches("a", "hash"));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("executor.queued").gauge().value() < expected) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("task was not queued");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static PasswordEncoder blockingEncoder(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package com.cts.user_service.service;
+
+import com.cts.user_service.dto.UserCountRow;
+import com.cts.user_service.dto.UserStatsResponse;
+import com.cts.user_service.entity.User;
+import com.cts.user_service.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UserCountsTest {
+
+    private UserRepository userRepository;
+    private UserCounts userCounts;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userCounts = new UserCounts(userRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void recordCreatedAndStatusChange_UpdatesRoleAndStatusCounts() {
+        // Arrange
+        userCounts.recordCreated(User.Role.DRIVER, User.Status.PENDING_VERIFICATION);
+        userCounts.recordCreated(User.Role.RIDER, User.Status.ACTIVE);
+
+        // Act
+        userCounts.recordStatusChange(User.Role.DRIVER, User.Status.PENDING_VERIFICATION, User.Status.ACTIVE);
+
+        // Assert
+        assertEquals(2, userCounts.total());
+        assertEquals(1, userCounts.countByRole(User.Role.DRIVER));
+        assertEquals(2, userCounts.countByStatus(User.Status.ACTIVE));
+        assertEquals(0, userCounts.countByStatus(User.Status.PENDING_VERIFICATION));
+    }
+
+    @Test
+    void reconcile_ReplacesCountsWithDatabaseValues() {
+        // Arrange
+        userCounts.recordCreated(User.Role.RIDER, User.Status.ACTIVE);
+        when(userRepository.countByRoleAndStatus()).thenReturn(List.of(
+                new UserCountRow(User.Role.RIDER, User.Status.ACTIVE, 40L),
+                new UserCountRow(User.Role.DRIVER, User.Status.SUSPENDED, 2L)));
+
+        // Act
+        userCounts.reconcile();
+        UserStatsResponse stats = userCounts.stats();
+
+        // Assert
+        assertEquals(42, stats.getTotal());
+        assertEquals(40L, stats.getByRole().get("RIDER"));
+        assertEquals(2L, stats.getByStatus().get("SUSPENDED"));
+        assertEquals(0L, stats.getByRole().get("ADMIN"));
+        verify(userRepository, times(1)).countByRoleAndStatus();
+    }
+}
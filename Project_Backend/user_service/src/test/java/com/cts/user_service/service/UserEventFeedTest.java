@@ -0,0 +1,151 @@
+package com.cts.user_service.service;
+
+import com.cts.user_service.dto.UserEventBatch;
+import com.cts.user_service.entity.EventSequence;
+import com.cts.user_service.entity.OutboxEvent;
+import com.cts.user_service.entity.User;
+import com.cts.user_service.repository.EventSequenceRepository;
+import com.cts.user_service.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class UserEventFeedTest {
+
+    private OutboxEventRepository outboxEventRepository;
+    private EventSequenceRepository sequenceRepository;
+    private UserEventFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository = mock(OutboxEventRepository.class);
+        sequenceRepository = mock(EventSequenceRepository.class);
+        feed = new UserEventFeed(outboxEventRepository, sequenceRepository, new SimpleMeterRegistry(), 7);
+    }
+
+    @Test
+    void publish_NumbersEventsFromTheAdvancedSequence() {
+        // Arrange
+        OutboxEvent first = OutboxEvent.of(OutboxEvent.Type.UPDATED, user("u1"));
+        OutboxEvent second = OutboxEvent.of(OutboxEvent.Type.DELETED, user("u2"));
+        when(sequenceRepository.current(UserEventFeed.SEQUENCE)).thenReturn(12L);
+
+        // Act
+        feed.publish(List.of(first, second));
+
+        // Assert
+        verify(sequenceRepository).advance(UserEventFeed.SEQUENCE, 2);
+        assertEquals(11L, first.getSequence());
+        assertEquals(12L, second.getSequence());
+        verify(outboxEventRepository).saveAll(List.of(first, second));
+    }
+
+    @Test
+    void publish_NoEvents_DoesNotTouchTheSequence() {
+        // Act
+        feed.publish(List.of());
+
+        // Assert
+        verifyNoInteractions(sequenceRepository, outboxEventRepository);
+    }
+
+    @Test
+    void read_ReturnsEventsWithLastAndOldestOffsets() {
+        // Arrange
+        OutboxEvent row = OutboxEvent.of(OutboxEvent.Type.STATUS_CHANGED, user("u1"));
+        row.setId(90L);
+        row.setSequence(5L);
+        when(outboxEventRepository.findBySequenceGreaterThanOrderBySequenceAsc(eq(4L), any(Pageable.class)))
+                .thenReturn(List.of(row));
+        when(outboxEventRepository.findLastSequence()).thenReturn(5L);
+        when(outboxEventRepository.findOldestSequence()).thenReturn(3L);
+
+        // Act
+        UserEventBatch batch = feed.read(4, 500);
+
+        // Assert
+        assertEquals(5L, batch.getLastOffset());
+        assertEquals(3L, batch.getOldestOffset());
+        assertEquals(1, batch.getEvents().size());
+        assertEquals(5L, batch.getEvents().get(0).getOffset());
+        assertEquals(90L, batch.getEvents().get(0).getEventId());
+        assertEquals("STATUS_CHANGED", batch.getEvents().get(0).getType());
+        assertEquals("SUSPENDED", batch.getEvents().get(0).getStatus());
+    }
+
+    @Test
+    void read_LimitIsCapped() {
+        // Arrange
+        ArgumentCaptor<Pageable> page = ArgumentCaptor.forClass(Pageable.class);
+        when(outboxEventRepository.findBySequenceGreaterThanOrderBySequenceAsc(anyLong(), page.capture()))
+                .thenReturn(List.of());
+
+        // Act
+        UserEventBatch batch = feed.read(0, 50_000);
+
+        // Assert
+        assertEquals(1000, page.getValue().getPageSize());
+        assertEquals(0L, batch.getLastOffset());
+        assertEquals(0L, batch.getOldestOffset());
+    }
+
+    @Test
+    void prune_DeletesEventsUpToTheLastExpiredOne() {
+        // Arrange
+        when(outboxEventRepository.findLastSequence()).thenReturn(40L);
+        when(outboxEventRepository.findLastSequenceCreatedBefore(any(LocalDateTime.class))).thenReturn(25L);
+
+        // Act
+        feed.prune();
+
+        // Assert
+        verify(outboxEventRepository).deleteBySequenceBelow(26L);
+    }
+
+    @Test
+    void prune_AllExpired_KeepsTheNewestEvent() {
+        // Arrange
+        when(outboxEventRepository.findLastSequence()).thenReturn(40L);
+        when(outboxEventRepository.findLastSequenceCreatedBefore(any(LocalDateTime.class))).thenReturn(40L);
+
+        // Act
+        feed.prune();
+
+        // Assert
+        verify(outboxEventRepository).deleteBySequenceBelow(40L);
+    }
+
+    @Test
+    void init_SeedsSequenceFromExistingEvents() {
+        // Arrange
+        when(sequenceRepository.existsById(UserEventFeed.SEQUENCE)).thenReturn(false);
+        when(outboxEventRepository.findLastSequence()).thenReturn(17L);
+
+        // Act
+        feed.init();
+
+        // Assert
+        ArgumentCaptor<EventSequence> sequence = ArgumentCaptor.forClass(EventSequence.class);
+        verify(sequenceRepository).saveAndFlush(sequence.capture());
+        assertEquals(17L, sequence.getValue().getLastAssigned());
+    }
+
+    private static User user(String id) {
+        User user = new User();
+        user.setId(id);
+        user.setFirstName("Asha");
+        user.setStatus(User.Status.SUSPENDED);
+        return user;
+    }
+}
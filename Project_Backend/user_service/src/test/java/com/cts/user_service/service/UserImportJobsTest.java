@@ -0,0 +1,149 @@
+package com.cts.user_service.service;
+
+import com.cts.user_service.dto.UserImportJobResponse;
+import com.cts.user_service.dto.UserImportResponse;
+import com.cts.user_service.entity.UserImportJob;
+import com.cts.user_service.exception.ImportJobNotFoundException;
+import com.cts.user_service.exception.InvalidRequestException;
+import com.cts.user_service.exception.ServiceBusyException;
+import com.cts.user_service.repository.UserImportJobRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class UserImportJobsTest {
+
+    @TempDir
+    Path spoolDir;
+
+    private UserImportService importService;
+    private UserImportJobRepository jobRepository;
+    private final Map<String, UserImportJob> jobs = new HashMap<>();
+    private UserImportJobs importJobs;
+
+    @BeforeEach
+    void setUp() {
+        importService = mock(UserImportService.class);
+        jobRepository = mock(UserImportJobRepository.class);
+        when(jobRepository.save(any())).thenAnswer(invocation -> {
+            UserImportJob job = invocation.getArgument(0);
+            synchronized (jobs) {
+                jobs.put(job.getId(), job);
+            }
+            return job;
+        });
+        when(jobRepository.findById(any())).thenAnswer(invocation -> {
+            synchronized (jobs) {
+                return Optional.ofNullable(jobs.get(invocation.<String>getArgument(0)));
+            }
+        });
+        ObjectMapper objectMapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        importJobs = new UserImportJobs(importService, jobRepository, objectMapper, new SimpleMeterRegistry(),
+                spoolDir.toString(), 1, 1, 7);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        importJobs.shutdown();
+    }
+
+    @Test
+    void submit_ReturnsQueuedJobAndImportsInBackground() throws Exception {
+        // Arrange
+        when(importService.importUsers(any(), eq(UserImportService.Format.CSV))).thenReturn(new UserImportResponse(
+                2, 1, 1, List.of(new UserImportResponse.RowError(3, "x@example.com", "User already exists"))));
+
+        // Act
+        UserImportJobResponse queued = importJobs.submit(csv(), UserImportService.Format.CSV);
+        verify(importService, timeout(5000)).importUsers(any(), any());
+        UserImportJobResponse finished = awaitFinished(queued.getJobId());
+
+        // Assert
+        assertEquals("QUEUED", queued.getStatus());
+        assertEquals("COMPLETED", finished.getStatus());
+        assertEquals(2, finished.getTotalRows());
+        assertEquals(1, finished.getImported());
+        assertEquals(1, finished.getErrors().size());
+        assertEquals("x@example.com", finished.getErrors().get(0).getEmail());
+        assertNotNull(finished.getFinishedAt());
+        try (var files = Files.list(spoolDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void run_InvalidFile_MarksJobFailedWithReason() throws Exception {
+        // Arrange
+        when(importService.importUsers(any(), any())).thenThrow(new InvalidRequestException("CSV import needs a header row"));
+
+        // Act
+        UserImportJobResponse queued = importJobs.submit(csv(), UserImportService.Format.CSV);
+        UserImportJobResponse finished = awaitFinished(queued.getJobId());
+
+        // Assert
+        assertEquals("FAILED", finished.getStatus());
+        assertEquals("CSV import needs a header row", finished.getMessage());
+    }
+
+    @Test
+    void submit_QueueFull_RejectsWithServiceBusy() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        when(importService.importUsers(any(), any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new UserImportResponse(0, 0, 0, List.of());
+        });
+        importJobs.submit(csv(), UserImportService.Format.CSV);
+        verify(importService, timeout(5000)).importUsers(any(), any());
+        importJobs.submit(csv(), UserImportService.Format.CSV);
+
+        // Act & Assert
+        try {
+            assertThrows(ServiceBusyException.class, () -> importJobs.submit(csv(), UserImportService.Format.CSV));
+            verify(jobRepository, times(1)).deleteById(any());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void get_UnknownJob_ThrowsNotFound() {
+        // Act & Assert
+        assertThrows(ImportJobNotFoundException.class, () -> importJobs.get("missing"));
+    }
+
+    private UserImportJobResponse awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        UserImportJobResponse job = importJobs.get(jobId);
+        while (job.getFinishedAt() == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            job = importJobs.get(jobId);
+        }
+        return job;
+    }
+
+    private static ByteArrayInputStream csv() {
+        return new ByteArrayInputStream("first_name,email,password\nAsha,asha@example.com,secret1\n"
+                .getBytes(StandardCharsets.UTF_8));
+    }
+}
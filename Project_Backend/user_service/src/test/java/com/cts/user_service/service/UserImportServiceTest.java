@@ -0,0 +1,120 @@
+package com.cts.user_service.service;
+
+import com.cts.user_service.dto.UserImportResponse;
+import com.cts.user_service.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UserImportServiceTest {
+
+    private UserRepository userRepository;
+    private JdbcTemplate jdbcTemplate;
+    private UserCounts userCounts;
+    private UserEventFeed userEventFeed;
+    private UserImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        UserService userService = mock(UserService.class);
+        doCallRealMethod().when(userService).validateSignupRequest(any());
+        when(userService.parseRole(any())).thenCallRealMethod();
+        userRepository = mock(UserRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        userCounts = mock(UserCounts.class);
+        userEventFeed = mock(UserEventFeed.class);
+        ObjectMapper objectMapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+
+        importService = new UserImportService(userService, userRepository, new BCryptPasswordEncoder(4),
+                jdbcTemplate, mock(PlatformTransactionManager.class), objectMapper, userCounts,
+                mock(UserSearchIndex.class), userEventFeed, new SimpleMeterRegistry(), 2, 10, 1000, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        importService.shutdown();
+    }
+
+    @Test
+    void splitCsv_HandlesQuotedCommasAndEscapedQuotes() {
+        // Act
+        List<String> values = UserImportService.splitCsv("Asha,\"Rao, Jr\",\"say \"\"hi\"\"\",,x");
+
+        // Assert
+        assertEquals(List.of("Asha", "Rao, Jr", "say \"hi\"", "", "x"), values);
+        assertThrows(IllegalArgumentException.class, () -> UserImportService.splitCsv("a,\"open"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importUsers_Csv_ReportsInvalidAndDuplicateRowsAndBatchesTheRest() throws Exception {
+        // Arrange
+        String csv = """
+                first_name,last_name,email,phone,password,role
+                Asha,Rao,asha@example.com,9000000001,secret1,RIDER
+                Ravi,Kumar,not-an-email,9000000002,secret2,DRIVER
+                Asha,Again,asha@example.com,9000000003,secret3,RIDER
+                Meera,Iyer,meera@example.com,9000000004,secret4,DRIVER
+                Old,User,old@example.com,,secret5,
+                """;
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of("old@example.com"));
+        when(userRepository.findExistingPhoneNumbers(anyCollection())).thenReturn(List.of());
+
+        // Act
+        UserImportResponse response = importService.importUsers(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), UserImportService.Format.CSV);
+
+        // Assert
+        assertEquals(5, response.getTotalRows());
+        assertEquals(2, response.getImported());
+        assertEquals(3, response.getFailed());
+        assertEquals(List.of(3, 4, 6), response.getErrors().stream().map(UserImportResponse.RowError::getLine).toList());
+
+        ArgumentCaptor<List<Object[]>> batches = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), batches.capture());
+        List<Object[]> rows = batches.getValue();
+        assertEquals(2, rows.size());
+        assertEquals("asha@example.com", rows.get(0)[3]);
+        assertEquals("ACTIVE", rows.get(0)[7]);
+        assertEquals("meera@example.com", rows.get(1)[3]);
+        assertEquals("PENDING_VERIFICATION", rows.get(1)[7]);
+        assertTrue(new BCryptPasswordEncoder(4).matches("secret4", (String) rows.get(1)[5]));
+        verify(userCounts, times(2)).recordCreated(any(), any());
+        verify(userEventFeed).publish(argThat(events -> events.size() == 2));
+    }
+
+    @Test
+    void importUsers_Ndjson_ReportsMalformedLines() throws Exception {
+        // Arrange
+        String ndjson = """
+                {"first_name":"Asha","email":"asha@example.com","password":"secret1"}
+                {"first_name":
+                """;
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+
+        // Act
+        UserImportResponse response = importService.importUsers(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), UserImportService.Format.NDJSON);
+
+        // Assert
+        assertEquals(1, response.getImported());
+        assertEquals(1, response.getFailed());
+        assertEquals(2, response.getErrors().get(0).getLine());
+        verify(userRepository, never()).findExistingPhoneNumbers(anyCollection());
+    }
+}
@@ -0,0 +1,165 @@
+package com.cts.user_service.service;
+
+import com.cts.user_service.dto.UserChangeEvent;
+import com.cts.user_service.dto.UserEventBatch;
+import com.cts.user_service.dto.UserSearchRow;
+import com.cts.user_service.entity.User;
+import com.cts.user_service.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class UserSearchIndexTest {
+
+    private UserRepository userRepository;
+    private UserEventFeed userEventFeed;
+    private UserSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userEventFeed = mock(UserEventFeed.class);
+        index = new UserSearchIndex(userRepository, userEventFeed, mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry());
+        index.upsert(user("u1", "José", "Álvarez", "jose.alvarez@example.com", "+91 98765 43210"));
+        index.upsert(user("u2", "Joseph", "Dsouza", "jdsouza@example.com", "+91 91234 56789"));
+        index.upsert(user("u3", "Priya", "Nair", "priya@example.com", null));
+    }
+
+    @Test
+    void search_NamePrefix_IgnoresCaseAndAccents() {
+        // Act
+        List<UserSearchRow> results = index.search("JOS", 10);
+
+        // Assert
+        assertEquals(List.of("u1", "u2"), ids(results));
+        assertEquals(List.of("u1"), ids(index.search("alva", 10)));
+        assertEquals(List.of("u1"), ids(index.search("jose alv", 10)));
+    }
+
+    @Test
+    void search_EmailAndPhonePrefixes() {
+        // Act & Assert
+        assertEquals(List.of("u3"), ids(index.search("priya@", 10)));
+        assertEquals(List.of("u1"), ids(index.search("98765", 10)));
+        assertEquals(List.of("u2"), ids(index.search("+91 9123", 10)));
+    }
+
+    @Test
+    void upsert_ChangedName_ReplacesOldTerms() {
+        // Act
+        index.upsert(user("u3", "Priyanka", "Menon", "priya@example.com", null));
+
+        // Assert
+        assertTrue(index.search("nair", 10).isEmpty());
+        assertEquals(List.of("u3"), ids(index.search("menon", 10)));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void search_LimitAndShortQuery() {
+        // Act & Assert
+        assertEquals(1, index.search("jos", 1).size());
+        assertTrue(index.search("j", 10).isEmpty());
+    }
+
+    @Test
+    void upsert_InsideTransaction_AppliedOnlyAfterCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            index.upsert(user("u4", "Kiran", "Das", "kiran@example.com", null));
+            List<UserSearchRow> beforeCommit = index.search("kiran", 10);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // Assert
+            assertTrue(beforeCommit.isEmpty());
+            assertEquals(List.of("u4"), ids(index.search("kiran", 10)));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void sync_RereadsUsersChangedOnAnyInstance() {
+        // Arrange
+        when(userEventFeed.lastOffset()).thenReturn(10L);
+        when(userRepository.streamSearchRows()).thenReturn(Stream.empty());
+        index.build();
+        when(userEventFeed.read(10L, 500)).thenReturn(new UserEventBatch(12, 1, List.of(
+                new UserChangeEvent(11, 111, "u3", "UPDATED", null, null, null, null, null),
+                new UserChangeEvent(12, 112, "u3", "STATUS_CHANGED", null, null, null, null, null))));
+        when(userRepository.findSearchRowsByIdIn(Set.of("u3"))).thenReturn(List.of(
+                UserSearchRow.from(user("u3", "Priya", "Menon", "priya@example.com", null))));
+
+        // Act
+        index.sync();
+
+        // Assert
+        assertTrue(index.search("nair", 10).isEmpty());
+        assertEquals(List.of("u3"), ids(index.search("menon", 10)));
+        verify(userRepository, times(1)).findSearchRowsByIdIn(anyCollection());
+    }
+
+    @Test
+    void sync_FeedPrunedPastOffset_RebuildsIndexInBackground() throws InterruptedException {
+        // Arrange
+        when(userEventFeed.lastOffset()).thenReturn(10L, 90L);
+        AtomicReference<String> rebuildThread = new AtomicReference<>();
+        when(userRepository.streamSearchRows()).thenReturn(Stream.empty()).thenAnswer(invocation -> {
+            rebuildThread.set(Thread.currentThread().getName());
+            return Stream.of(UserSearchRow.from(user("u5", "Farah", "Khan", "farah@example.com", null)));
+        });
+        index.build();
+        when(userEventFeed.read(10L, 500)).thenReturn(new UserEventBatch(90, 50, List.of()));
+
+        // Act
+        index.sync();
+
+        // Assert
+        for (int i = 0; i < 100 && index.search("farah", 10).isEmpty(); i++) {
+            Thread.sleep(50);
+        }
+        assertEquals(List.of("u5"), ids(index.search("farah", 10)));
+        assertEquals("user-search-index", rebuildThread.get());
+        verify(userRepository, never()).findSearchRowsByIdIn(anyCollection());
+    }
+
+    @Test
+    void sync_BeforeFirstBuild_DoesNothing() {
+        // Act
+        index.sync();
+
+        // Assert
+        verifyNoInteractions(userEventFeed);
+    }
+
+    private static List<String> ids(List<UserSearchRow> rows) {
+        return rows.stream().map(UserSearchRow::getId).toList();
+    }
+
+    private static User user(String id, String firstName, String lastName, String email, String phone) {
+        User user = new User();
+        user.setId(id);
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setEmail(email);
+        user.setPhoneNumber(phone);
+        user.setRole(User.Role.RIDER);
+        user.setStatus(User.Status.ACTIVE);
+        return user;
+    }
+}